@@ -1,13 +1,22 @@
 package io.github.avivcarmis.javared.executor;
 
 import com.google.common.util.concurrent.ListenableFuture;
+import io.github.avivcarmis.javared.future.BaseOpenRedFuture;
 import io.github.avivcarmis.javared.future.OpenRedFuture;
 import io.github.avivcarmis.javared.future.OpenRedFutureOf;
 import io.github.avivcarmis.javared.future.RedFuture;
 import io.github.avivcarmis.javared.future.RedFutureOf;
+import io.github.avivcarmis.javared.future.callbacks.Callback;
+import io.github.avivcarmis.javared.future.callbacks.EmptyCallback;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 /**
  * An abstract class to implement common functionality of both
@@ -50,6 +59,72 @@ abstract public class BaseRedSynchronizer {
 
     // Private
 
+    /**
+     * Returns the executor to invoke the functions and commands declared without an executor,
+     * for example by {@link Runner#byExecuting(Function)}. Executions declared with an executor,
+     * for example by {@link Runner#byExecuting(Executor, Function)}, are invoked by the given one.
+     *
+     * By default, returns null, in which case the functions and commands are invoked directly
+     * by the thread completing the last of their preconditions. Override to offload the executions
+     * of the synchronizer to another executor.
+     *
+     * @return the default executor of the synchronizer, or null to invoke executions directly
+     */
+    protected Executor defaultExecutor() {
+        return null;
+    }
+
+    /**
+     * Returns the profiler to trace executions of the synchronizer by, see {@link ExecutionProfiler}.
+     * Invoked upon each execution, which is traced only if sampled by the returned profiler.
+     *
+     * By default, returns null, in which case executions are not traced.
+     * Override to profile the executions of the synchronizer.
+     *
+     * @return the profiler of the synchronizer, or null to disable tracing
+     */
+    protected ExecutionProfiler profiler() {
+        return null;
+    }
+
+    /**
+     * Returns the registry to record the metrics of named executions of the synchronizer into,
+     * see {@link Runner#named(String)} and {@link ReturnClassifier#named(String)}.
+     * Invoked upon each execution.
+     *
+     * By default, returns {@link MetricsRegistry#global()}.
+     *
+     * @return the metrics registry of the synchronizer
+     */
+    protected MetricsRegistry metricsRegistry() {
+        return MetricsRegistry.global();
+    }
+
+    /**
+     * Returns the deadline of the execution the current thread is running, see {@link Deadline}.
+     * Visible while declaring the construction chains of an execution, and while invoking each of its
+     * functions and commands, so that they may bound their own asynchronous operations by
+     * {@link Deadline#remaining(java.util.concurrent.TimeUnit)}. Asynchronous operations should read
+     * the deadline before returning, since it is not visible to the threads completing them.
+     *
+     * @return the deadline of the current execution, or {@link Deadline#none()} if not bounded
+     */
+    protected Deadline deadline() {
+        return Deadline.current();
+    }
+
+    /**
+     * Execute the given command directly by the given executor, without waiting for any
+     * result or markers, and return a marker of the execution.
+     *
+     * @param executor executor to invoke the command by, or null to invoke it directly
+     * @param command  command to execute
+     * @return marker of the execution
+     */
+    protected Marker execute(Executor executor, Command.Command0 command) {
+        return RETURN_CLASSIFIER_0.execute(executor, command);
+    }
+
     /**
      * Execute the given command directly, without waiting for any result or markers,
      * and return a marker of the execution.
@@ -95,6 +170,22 @@ abstract public class BaseRedSynchronizer {
         return RETURN_CLASSIFIER_0.produceFutureOf(tClass);
     }
 
+    /**
+     * Produce {@link CompletionStage} of the given class directly, without waiting for any result or markers,
+     * and return a result of the execution
+     *
+     * Since the are no preconditions and the return method is already defined at this point,
+     * this call skips some middleware of the Construction Chain and goes directly to the
+     * runner phase.
+     *
+     * @param tClass class of the result to produce
+     * @param <R>    type of the result to produce
+     * @return a runner to execute upon
+     */
+    protected <R> Runner.Runner0<CompletionStage<R>, R> produceStageOf(Class<R> tClass) {
+        return RETURN_CLASSIFIER_0.produceStageOf(tClass);
+    }
+
     /**
      * Receive markers of various executions, returns a {@link FutureTransformer} to choose which
      * kind of results to expect, and then run a certain function if condition is met.
@@ -391,6 +482,67 @@ abstract public class BaseRedSynchronizer {
         return new FutureTransformer.Unlocked.UnlockedN(results);
     }
 
+    /**
+     * Starts a new execution of the current synchronizer, to which the construction chains declared by
+     * the current thread belong, until exited by {@link #exit(Execution)}. The execution is traced if
+     * sampled by the {@link #profiler()}.
+     *
+     * @param deadline deadline of the execution
+     * @return the started execution
+     */
+    Execution enter(Deadline deadline) {
+        return enter(deadline, defaultExecutor());
+    }
+
+    /**
+     * Starts a new execution of the current synchronizer, see {@link #enter(Deadline)}, declaring
+     * the construction chains without an executor by the given one rather than by the {@link #defaultExecutor()}
+     *
+     * @param deadline deadline of the execution
+     * @param executor executor to invoke the functions and commands declared without one,
+     *                 or null to invoke them directly
+     * @return the started execution
+     */
+    Execution enter(Deadline deadline, Executor executor) {
+        ExecutionProfiler profiler = profiler();
+        ExecutionTrace trace = profiler != null && profiler.sample() ? new ExecutionTrace(profiler) : null;
+        return enter(deadline.bound(), executor, null, trace);
+    }
+
+    /**
+     * Starts a new execution of the current synchronizer, which records the declared construction
+     * chains into a plan rather than executing them, until exited by {@link #exit(Execution)}
+     *
+     * @param recorder recorder of the plan
+     * @return the started execution
+     */
+    Execution enter(Recorder recorder) {
+        return enter(null, defaultExecutor(), recorder, null);
+    }
+
+    /**
+     * Exits the given execution, restoring the execution the current thread was in before, and its deadline
+     *
+     * @param execution execution returned by {@link #enter(Deadline)}
+     */
+    void exit(Execution execution) {
+        Execution.CURRENT.set(execution._previous);
+        if (execution._deadline != execution._previousDeadline) {
+            Deadline.CURRENT.set(execution._previousDeadline);
+        }
+    }
+
+    private Execution enter(Deadline deadline, Executor executor, Recorder recorder, ExecutionTrace trace) {
+        Deadline previousDeadline = Deadline.CURRENT.get();
+        Execution execution = new Execution(Execution.CURRENT.get(), previousDeadline, deadline, executor,
+                metricsRegistry(), recorder, trace);
+        Execution.CURRENT.set(execution);
+        if (deadline != previousDeadline) {
+            Deadline.CURRENT.set(deadline);
+        }
+        return execution;
+    }
+
     // Middleware classes
 
     /**
@@ -436,20 +588,7 @@ abstract public class BaseRedSynchronizer {
          * @return a {@link ReturnClassifier} to choose which kind of value wrapper to produce
          */
         public RETURN_CLASSIFIER succeed() {
-            return createClassifier(future -> {
-                if (future instanceof RedFutureOf) {
-                    RedFutureOf<?> futureOf = (RedFutureOf) future;
-                    OpenRedFutureOf<Object> result = RedFuture.futureOf();
-                    futureOf.addSuccessCallback(result::resolve);
-                    futureOf.addFailureCallback(throwable ->
-                            result.fail(new PreconditionFailedException.Success(throwable)));
-                    return result;
-                }
-                OpenRedFuture result = RedFuture.future();
-                future.addSuccessCallback(result::resolve);
-                future.addFailureCallback(throwable -> result.fail(new PreconditionFailedException.Success(throwable)));
-                return result;
-            });
+            return createClassifier(Transform.SUCCEED);
         }
 
         /**
@@ -458,18 +597,7 @@ abstract public class BaseRedSynchronizer {
          * @return a {@link ReturnClassifier} to choose which kind of value wrapper to produce
          */
         public RETURN_CLASSIFIER finish() {
-            return createClassifier(future -> {
-                if (future instanceof RedFutureOf) {
-                    RedFutureOf<?> futureOf = (RedFutureOf) future;
-                    OpenRedFutureOf<Object> result = RedFuture.futureOf();
-                    futureOf.addSuccessCallback(result::resolve);
-                    futureOf.addFailureCallback(throwable -> result.resolve(null));
-                    return result;
-                }
-                OpenRedFuture result = RedFuture.future();
-                future.addFinallyCallback(result::resolve);
-                return result;
-            });
+            return createClassifier(Transform.FINISH);
         }
         
         // Private
@@ -489,23 +617,31 @@ abstract public class BaseRedSynchronizer {
         }
 
         /**
-         * Receive a mapper from future to future, and returns an array of futures,
-         * transformed from the _currentLayer
-         * @param mapper to map the _currentLayer
+         * Receive a transformation of futures, and returns an array of futures,
+         * transformed from the _currentLayer.
+         * While a plan is recorded, the futures are not transformed, but the transformation is recorded instead.
+         * @param transform to apply on the _currentLayer
          * @return an array of transformed futures
          */
-        RedFuture[] mapCurrentLayer(java.util.function.Function<RedFuture, RedFuture> mapper) {
-            return Arrays.stream(_currentLayer).map(mapper).toArray(RedFuture[]::new);
+        RedFuture[] mapCurrentLayer(Transform transform) {
+            Execution execution = Execution.CURRENT.get();
+            RedFuture[] transformed = new RedFuture[_currentLayer.length];
+            for (int i = 0; i < transformed.length; i++) {
+                transformed[i] = execution == null ?
+                        transform.apply(_currentLayer[i]) :
+                        execution.transform(_currentLayer[i], transform);
+            }
+            return transformed;
         }
 
         /**
-         * Receive a mapper from future to future, and returns an array of futures,
+         * Receive a transformation of futures, and returns an array of futures,
          * transformed from the _currentLayer
-         * @param mapper to map the _currentLayer
+         * @param transform to apply on the _currentLayer
          * @return a {@link ReturnClassifier} to choose which kind of value wrapper to produce
          */
-        RETURN_CLASSIFIER createClassifier(java.util.function.Function<RedFuture, RedFuture> mapper) {
-            return createClassifier(mapCurrentLayer(mapper));
+        RETURN_CLASSIFIER createClassifier(Transform transform) {
+            return createClassifier(mapCurrentLayer(transform));
         }
 
         /**
@@ -553,12 +689,7 @@ abstract public class BaseRedSynchronizer {
              * value wrapper to produce
              */
             public ReturnClassifier.Classifier0 fail() {
-                return new ReturnClassifier.Classifier0(mapCurrentLayer(future -> {
-                    OpenRedFuture result = RedFuture.future();
-                    future.addSuccessCallback(() -> result.fail(PreconditionFailedException.Failure.INSTANCE));
-                    future.addFailureCallback(throwable -> result.resolve());
-                    return result;
-                }));
+                return new ReturnClassifier.Classifier0(mapCurrentLayer(Transform.FAIL));
             }
 
             // Static
@@ -861,12 +992,7 @@ abstract public class BaseRedSynchronizer {
              * @return a {@link ReturnClassifier} to choose which kind of value wrapper to produce
              */
             public RETURN_CLASSIFIER fail() {
-                return createClassifier(future -> {
-                    OpenRedFuture result = RedFuture.future();
-                    future.addSuccessCallback(() -> result.fail(PreconditionFailedException.Failure.INSTANCE));
-                    future.addFailureCallback(throwable -> result.resolve());
-                    return result;
-                });
+                return createClassifier(Transform.FAIL);
             }
 
             /**
@@ -1168,21 +1294,19 @@ abstract public class BaseRedSynchronizer {
          * @return a marker of the execution
          */
         public Marker execute(COMMAND c) {
-            Marker marker = new Marker();
-            PendingMarker pendingMarker = new PendingMarker(marker);
-            RedFuture
-                    .hub()
-                    .adoptFutures(preconditions())
-                    .uniteOptimistically()
-                    .addFailureCallback(marker._future::fail)
-                    .addSuccessCallback(() -> {
-                        try {
-                            call(c, pendingMarker);
-                        } catch (Throwable t) {
-                            marker._future.fail(t);
-                        }
-                    });
-            return marker;
+            Execution execution = Execution.CURRENT.get();
+            return declare(execution, execution == null ? null : execution._executor, c);
+        }
+
+        /**
+         * Execute the given command by the given executor, and return a marker of the execution.
+         * @param executor executor to invoke the command by once the preconditions are met,
+         *                 or null to invoke it directly by the thread completing the last of them
+         * @param c        command to execute
+         * @return a marker of the execution
+         */
+        public Marker execute(Executor executor, COMMAND c) {
+            return declare(Execution.CURRENT.get(), executor, c);
         }
 
         /**
@@ -1194,17 +1318,89 @@ abstract public class BaseRedSynchronizer {
             return transformer(preconditions(), markers);
         }
 
+        /**
+         * Names the command to be executed by {@link #execute(Command)}, so that its executions are recorded
+         * into the {@link NodeMetrics} of the given name, and traced under it.
+         * The name applies to commands only, functions are named by {@link Runner#named(String)}.
+         * @param name name of the command
+         * @return a named copy of the current {@link ReturnClassifier}
+         */
+        @SuppressWarnings("unchecked")
+        public ReturnClassifier<COMMAND, TRANSFORMER> named(String name) {
+            return (ReturnClassifier<COMMAND, TRANSFORMER>) super.named(name);
+        }
+
         // Private
 
+        /**
+         * Declares the given command, which is either scheduled, or recorded while a plan is recorded
+         * @param execution the current execution, or null if declared outside of an execution
+         * @param executor  executor to invoke the command by, or null to invoke it directly
+         * @param c         command to execute
+         * @return a marker of the execution
+         */
+        private Marker declare(Execution execution, Executor executor, COMMAND c) {
+            if (execution != null && execution._recorder != null) {
+                return execution._recorder.command(this, executor, c);
+            }
+            return schedule(execution, executor, c);
+        }
+
+        /**
+         * Schedules the given command to be executed once the preconditions are met
+         * @param execution the execution declaring the command, or null if declared outside of an execution
+         * @param executor  executor to invoke the command by, or null to invoke it directly
+         * @param c         command to execute
+         * @return a marker of the execution
+         */
+        Marker schedule(Execution execution, Executor executor, COMMAND c) {
+            return schedule(execution, executor, c, preconditions(), null, null);
+        }
+
+        /**
+         * Schedules the given command to be executed once the given futures are met,
+         * see {@link Join#Join(Middleware, Execution, Executor, BaseOpenRedFuture, RedFuture[], int[], Transform[])}
+         * @param execution  the execution declaring the command, or null if declared outside of an execution
+         * @param executor   executor to invoke the command by, or null to invoke it directly
+         * @param c          command to execute
+         * @param futures    the preconditions, or the futures of the current execution of a plan
+         * @param slots      the slots of the preconditions within the futures, or null if the futures are the
+         *                   preconditions themselves
+         * @param transforms the transformations of the preconditions, or null if all are used as is
+         * @return a marker of the execution
+         */
+        Marker schedule(Execution execution, Executor executor, COMMAND c,
+                        RedFuture[] futures, int[] slots, Transform[] transforms) {
+            Marker marker = new Marker();
+            PendingMarker pendingMarker = new PendingMarker(marker);
+            new Join(this, execution, executor, marker._future, futures, slots, transforms) {
+                @Override
+                void perform() {
+                    try {
+                        ReturnClassifier.this.call(c, pendingMarker, this);
+                    } catch (Throwable t) {
+                        marker._future.fail(t);
+                    }
+                }
+
+                @Override
+                void fail(Throwable t) {
+                    marker._future.fail(t);
+                }
+            }.await();
+            return marker;
+        }
+
         /**
          * An implementation of each concrete {@link ReturnClassifier} of calling
          * the given command. This method is abstract since the concrete type of the command
          * and the number of parameters passed to it depends on the concrete types.
          * @param c             command to execute
          * @param pendingMarker pending marker to mark the task as finished
+         * @param results       results of the preconditions
          * @throws Throwable to enable throwable catching
          */
-        abstract protected void call(COMMAND c, PendingMarker pendingMarker) throws Throwable;
+        abstract protected void call(COMMAND c, PendingMarker pendingMarker, Results results) throws Throwable;
 
         /**
          * Generates the concrete instance of the {@link ReturnClassifier} transformer.
@@ -1259,10 +1455,21 @@ abstract public class BaseRedSynchronizer {
                 return new Runner.Runner0<>(preconditions(), Converter.future());
             }
 
+            /**
+             * Sets the expected result of the execution to be a {@link CompletionStage} value of the given class
+             * @param tClass class of the result
+             * @param <R>    type of the result
+             * @return a middleware {@link Runner} instance
+             */
+            public <R> Runner.Runner0<CompletionStage<R>, R>
+            produceStageOf(@SuppressWarnings("unused") Class<R> tClass) {
+                return new Runner.Runner0<>(preconditions(), Converter.stage());
+            }
+
             // Private
 
             @Override
-            protected void call(Command.Command0 c, PendingMarker pendingMarker) throws Throwable {
+            protected void call(Command.Command0 c, PendingMarker pendingMarker, Results results) throws Throwable {
                 c.call(pendingMarker);
             }
 
@@ -1313,11 +1520,22 @@ abstract public class BaseRedSynchronizer {
                 return new Runner.Runner1<>(preconditions(), Converter.future());
             }
 
+            /**
+             * Sets the expected result of the execution to be a {@link CompletionStage} value of the given class
+             * @param tClass class of the result
+             * @param <R>    type of the result
+             * @return a middleware {@link Runner} instance
+             */
+            public <R> Runner.Runner1<CompletionStage<R>, R, T0>
+            produceStageOf(@SuppressWarnings("unused") Class<R> tClass) {
+                return new Runner.Runner1<>(preconditions(), Converter.stage());
+            }
+
             // Private
 
             @Override
-            protected void call(Command.Command1<T0> c, PendingMarker pendingMarker) throws Throwable {
-                c.call(pendingMarker, typedResult(0));
+            protected void call(Command.Command1<T0> c, PendingMarker pendingMarker, Results results) throws Throwable {
+                c.call(pendingMarker, results.typedResult(0));
             }
 
             @Override
@@ -1368,11 +1586,23 @@ abstract public class BaseRedSynchronizer {
                 return new Runner.Runner2<>(preconditions(), Converter.future());
             }
 
+            /**
+             * Sets the expected result of the execution to be a {@link CompletionStage} value of the given class
+             * @param tClass class of the result
+             * @param <R>    type of the result
+             * @return a middleware {@link Runner} instance
+             */
+            public <R> Runner.Runner2<CompletionStage<R>, R, T0, T1>
+            produceStageOf(@SuppressWarnings("unused") Class<R> tClass) {
+                return new Runner.Runner2<>(preconditions(), Converter.stage());
+            }
+
             // Private
 
             @Override
-            protected void call(Command.Command2<T0, T1> c, PendingMarker pendingMarker) throws Throwable {
-                c.call(pendingMarker, typedResult(0), typedResult(1));
+            protected void call(Command.Command2<T0, T1> c, PendingMarker pendingMarker, Results results)
+                    throws Throwable {
+                c.call(pendingMarker, results.typedResult(0), results.typedResult(1));
             }
 
             @Override
@@ -1424,11 +1654,23 @@ abstract public class BaseRedSynchronizer {
                 return new Runner.Runner3<>(preconditions(), Converter.future());
             }
 
+            /**
+             * Sets the expected result of the execution to be a {@link CompletionStage} value of the given class
+             * @param tClass class of the result
+             * @param <R>    type of the result
+             * @return a middleware {@link Runner} instance
+             */
+            public <R> Runner.Runner3<CompletionStage<R>, R, T0, T1, T2>
+            produceStageOf(@SuppressWarnings("unused") Class<R> tClass) {
+                return new Runner.Runner3<>(preconditions(), Converter.stage());
+            }
+
             // Private
 
             @Override
-            protected void call(Command.Command3<T0, T1, T2> c, PendingMarker pendingMarker) throws Throwable {
-                c.call(pendingMarker, typedResult(0), typedResult(1), typedResult(2));
+            protected void call(Command.Command3<T0, T1, T2> c, PendingMarker pendingMarker, Results results)
+                    throws Throwable {
+                c.call(pendingMarker, results.typedResult(0), results.typedResult(1), results.typedResult(2));
             }
 
             @Override
@@ -1481,11 +1723,24 @@ abstract public class BaseRedSynchronizer {
                 return new Runner.Runner4<>(preconditions(), Converter.future());
             }
 
+            /**
+             * Sets the expected result of the execution to be a {@link CompletionStage} value of the given class
+             * @param tClass class of the result
+             * @param <R>    type of the result
+             * @return a middleware {@link Runner} instance
+             */
+            public <R> Runner.Runner4<CompletionStage<R>, R, T0, T1, T2, T3>
+            produceStageOf(@SuppressWarnings("unused") Class<R> tClass) {
+                return new Runner.Runner4<>(preconditions(), Converter.stage());
+            }
+
             // Private
 
             @Override
-            protected void call(Command.Command4<T0, T1, T2, T3> c, PendingMarker pendingMarker) throws Throwable {
-                c.call(pendingMarker, typedResult(0), typedResult(1), typedResult(2), typedResult(3));
+            protected void call(Command.Command4<T0, T1, T2, T3> c, PendingMarker pendingMarker, Results results)
+                    throws Throwable {
+                c.call(pendingMarker, results.typedResult(0), results.typedResult(1), results.typedResult(2),
+                        results.typedResult(3));
             }
 
             @Override
@@ -1539,12 +1794,24 @@ abstract public class BaseRedSynchronizer {
                 return new Runner.Runner5<>(preconditions(), Converter.future());
             }
 
+            /**
+             * Sets the expected result of the execution to be a {@link CompletionStage} value of the given class
+             * @param tClass class of the result
+             * @param <R>    type of the result
+             * @return a middleware {@link Runner} instance
+             */
+            public <R> Runner.Runner5<CompletionStage<R>, R, T0, T1, T2, T3, T4>
+            produceStageOf(@SuppressWarnings("unused") Class<R> tClass) {
+                return new Runner.Runner5<>(preconditions(), Converter.stage());
+            }
+
             // Private
 
             @Override
-            protected void call(Command.Command5<T0, T1, T2, T3, T4> c, PendingMarker pendingMarker)
+            protected void call(Command.Command5<T0, T1, T2, T3, T4> c, PendingMarker pendingMarker, Results results)
                     throws Throwable {
-                c.call(pendingMarker, typedResult(0), typedResult(1), typedResult(2), typedResult(3), typedResult(4));
+                c.call(pendingMarker, results.typedResult(0), results.typedResult(1), results.typedResult(2),
+                        results.typedResult(3), results.typedResult(4));
             }
 
             @Override
@@ -1599,13 +1866,24 @@ abstract public class BaseRedSynchronizer {
                 return new Runner.Runner6<>(preconditions(), Converter.future());
             }
 
+            /**
+             * Sets the expected result of the execution to be a {@link CompletionStage} value of the given class
+             * @param tClass class of the result
+             * @param <R>    type of the result
+             * @return a middleware {@link Runner} instance
+             */
+            public <R> Runner.Runner6<CompletionStage<R>, R, T0, T1, T2, T3, T4, T5>
+            produceStageOf(@SuppressWarnings("unused") Class<R> tClass) {
+                return new Runner.Runner6<>(preconditions(), Converter.stage());
+            }
+
             // Private
 
             @Override
-            protected void call(Command.Command6<T0, T1, T2, T3, T4, T5> c, PendingMarker pendingMarker)
-                    throws Throwable {
-                c.call(pendingMarker, typedResult(0), typedResult(1), typedResult(2), typedResult(3), typedResult(4),
-                        typedResult(5));
+            protected void call(Command.Command6<T0, T1, T2, T3, T4, T5> c,
+                                PendingMarker pendingMarker, Results results) throws Throwable {
+                c.call(pendingMarker, results.typedResult(0), results.typedResult(1), results.typedResult(2),
+                        results.typedResult(3), results.typedResult(4), results.typedResult(5));
             }
 
             @Override
@@ -1661,13 +1939,24 @@ abstract public class BaseRedSynchronizer {
                 return new Runner.Runner7<>(preconditions(), Converter.future());
             }
 
+            /**
+             * Sets the expected result of the execution to be a {@link CompletionStage} value of the given class
+             * @param tClass class of the result
+             * @param <R>    type of the result
+             * @return a middleware {@link Runner} instance
+             */
+            public <R> Runner.Runner7<CompletionStage<R>, R, T0, T1, T2, T3, T4, T5, T6>
+            produceStageOf(@SuppressWarnings("unused") Class<R> tClass) {
+                return new Runner.Runner7<>(preconditions(), Converter.stage());
+            }
+
             // Private
 
             @Override
-            protected void call(Command.Command7<T0, T1, T2, T3, T4, T5, T6> c, PendingMarker pendingMarker)
-                    throws Throwable {
-                c.call(pendingMarker, typedResult(0), typedResult(1), typedResult(2), typedResult(3), typedResult(4),
-                        typedResult(5), typedResult(6));
+            protected void call(Command.Command7<T0, T1, T2, T3, T4, T5, T6> c,
+                                PendingMarker pendingMarker, Results results) throws Throwable {
+                c.call(pendingMarker, results.typedResult(0), results.typedResult(1), results.typedResult(2),
+                        results.typedResult(3), results.typedResult(4), results.typedResult(5), results.typedResult(6));
             }
 
             @Override
@@ -1724,13 +2013,25 @@ abstract public class BaseRedSynchronizer {
                 return new Runner.Runner8<>(preconditions(), Converter.future());
             }
 
+            /**
+             * Sets the expected result of the execution to be a {@link CompletionStage} value of the given class
+             * @param tClass class of the result
+             * @param <R>    type of the result
+             * @return a middleware {@link Runner} instance
+             */
+            public <R> Runner.Runner8<CompletionStage<R>, R, T0, T1, T2, T3, T4, T5, T6, T7>
+            produceStageOf(@SuppressWarnings("unused") Class<R> tClass) {
+                return new Runner.Runner8<>(preconditions(), Converter.stage());
+            }
+
             // Private
 
             @Override
-            protected void call(Command.Command8<T0, T1, T2, T3, T4, T5, T6, T7> c, PendingMarker pendingMarker)
-                    throws Throwable {
-                c.call(pendingMarker, typedResult(0), typedResult(1), typedResult(2), typedResult(3), typedResult(4),
-                        typedResult(5), typedResult(6), typedResult(7));
+            protected void call(Command.Command8<T0, T1, T2, T3, T4, T5, T6, T7> c,
+                                PendingMarker pendingMarker, Results results) throws Throwable {
+                c.call(pendingMarker, results.typedResult(0), results.typedResult(1), results.typedResult(2),
+                        results.typedResult(3), results.typedResult(4), results.typedResult(5), results.typedResult(6),
+                        results.typedResult(7));
             }
 
             @Override
@@ -1788,13 +2089,25 @@ abstract public class BaseRedSynchronizer {
                 return new Runner.Runner9<>(preconditions(), Converter.future());
             }
 
+            /**
+             * Sets the expected result of the execution to be a {@link CompletionStage} value of the given class
+             * @param tClass class of the result
+             * @param <R>    type of the result
+             * @return a middleware {@link Runner} instance
+             */
+            public <R> Runner.Runner9<CompletionStage<R>, R, T0, T1, T2, T3, T4, T5, T6, T7, T8>
+            produceStageOf(@SuppressWarnings("unused") Class<R> tClass) {
+                return new Runner.Runner9<>(preconditions(), Converter.stage());
+            }
+
             // Private
 
             @Override
             protected void call(Command.Command9<T0, T1, T2, T3, T4, T5, T6, T7, T8> c,
-                                PendingMarker pendingMarker) throws Throwable {
-                c.call(pendingMarker, typedResult(0), typedResult(1), typedResult(2), typedResult(3), typedResult(4),
-                        typedResult(5), typedResult(6), typedResult(7), typedResult(8));
+                                PendingMarker pendingMarker, Results results) throws Throwable {
+                c.call(pendingMarker, results.typedResult(0), results.typedResult(1), results.typedResult(2),
+                        results.typedResult(3), results.typedResult(4), results.typedResult(5), results.typedResult(6),
+                        results.typedResult(7), results.typedResult(8));
             }
 
             @Override
@@ -1853,13 +2166,25 @@ abstract public class BaseRedSynchronizer {
                 return new Runner.Runner10<>(preconditions(), Converter.future());
             }
 
+            /**
+             * Sets the expected result of the execution to be a {@link CompletionStage} value of the given class
+             * @param tClass class of the result
+             * @param <R>    type of the result
+             * @return a middleware {@link Runner} instance
+             */
+            public <R> Runner.Runner10<CompletionStage<R>, R, T0, T1, T2, T3, T4, T5, T6, T7, T8, T9>
+            produceStageOf(@SuppressWarnings("unused") Class<R> tClass) {
+                return new Runner.Runner10<>(preconditions(), Converter.stage());
+            }
+
             // Private
 
             @Override
             protected void call(Command.Command10<T0, T1, T2, T3, T4, T5, T6, T7, T8, T9> c,
-                                PendingMarker pendingMarker) throws Throwable {
-                c.call(pendingMarker, typedResult(0), typedResult(1), typedResult(2), typedResult(3), typedResult(4),
-                        typedResult(5), typedResult(6), typedResult(7), typedResult(8), typedResult(9));
+                                PendingMarker pendingMarker, Results results) throws Throwable {
+                c.call(pendingMarker, results.typedResult(0), results.typedResult(1), results.typedResult(2),
+                        results.typedResult(3), results.typedResult(4), results.typedResult(5), results.typedResult(6),
+                        results.typedResult(7), results.typedResult(8), results.typedResult(9));
             }
 
             @Override
@@ -1906,11 +2231,22 @@ abstract public class BaseRedSynchronizer {
                 return new Runner.RunnerN<>(preconditions(), Converter.future());
             }
 
+            /**
+             * Sets the expected result of the execution to be a {@link CompletionStage} value of the given class
+             * @param tClass class of the result
+             * @param <R>    type of the result
+             * @return a middleware {@link Runner} instance
+             */
+            public <R> Runner.RunnerN<CompletionStage<R>, R>
+            produceStageOf(@SuppressWarnings("unused") Class<R> tClass) {
+                return new Runner.RunnerN<>(preconditions(), Converter.stage());
+            }
+
             // Private
 
             @Override
-            protected void call(Command.CommandN c, PendingMarker pendingMarker) throws Throwable {
-                c.call(pendingMarker, new Results(this));
+            protected void call(Command.CommandN c, PendingMarker pendingMarker, Results results) throws Throwable {
+                c.call(pendingMarker, results);
             }
 
             @Override
@@ -1929,7 +2265,7 @@ abstract public class BaseRedSynchronizer {
      * and the chain is just pending an actual function to execute.
      * @param <FUNCTION> type of the function to expect
      * @param <WRAPPER>  type of the object to be returned from the function
-     *                   the wrapper may be R, {@link Future} of R,
+     *                   the wrapper may be R, {@link Future} of R, {@link CompletionStage} of R,
      *                   {@link ListenableFuture} of R or {@link RedFutureOf} of R.
      * @param <R>        the type of the result of the execution
      */
@@ -1958,35 +2294,108 @@ abstract public class BaseRedSynchronizer {
          * @return a result of the execution
          */
         public Result<R> byExecuting(FUNCTION f) {
+            Execution execution = Execution.CURRENT.get();
+            return declare(execution, execution == null ? null : execution._executor, f);
+        }
+
+        /**
+         * Receive a function to execute and invokes it by the given executor
+         * @param executor executor to invoke the function by once the preconditions are met,
+         *                 or null to invoke it directly by the thread completing the last of them
+         * @param f        function to execute
+         * @return a result of the execution
+         */
+        public Result<R> byExecuting(Executor executor, FUNCTION f) {
+            return declare(Execution.CURRENT.get(), executor, f);
+        }
+
+        /**
+         * Names the function to be executed, so that its executions are recorded
+         * into the {@link NodeMetrics} of the given name, and traced under it
+         * @param name name of the function
+         * @return a named copy of the current {@link Runner}
+         */
+        @SuppressWarnings("unchecked")
+        public Runner<FUNCTION, WRAPPER, R> named(String name) {
+            return (Runner<FUNCTION, WRAPPER, R>) super.named(name);
+        }
+
+        // Private
+
+        /**
+         * Declares the given function, which is either scheduled, or recorded while a plan is recorded
+         * @param execution the current execution, or null if declared outside of an execution
+         * @param executor  executor to invoke the function by, or null to invoke it directly
+         * @param f         function to execute
+         * @return a result of the execution
+         */
+        private Result<R> declare(Execution execution, Executor executor, FUNCTION f) {
+            if (execution != null && execution._recorder != null) {
+                return execution._recorder.function(this, executor, f);
+            }
+            return schedule(execution, executor, f);
+        }
+
+        /**
+         * Schedules the given function to be executed once the preconditions are met
+         * @param execution the execution declaring the function, or null if declared outside of an execution
+         * @param executor  executor to invoke the function by, or null to invoke it directly
+         * @param f         function to execute
+         * @return a result of the execution
+         */
+        Result<R> schedule(Execution execution, Executor executor, FUNCTION f) {
+            return schedule(execution, executor, f, preconditions(), null, null);
+        }
+
+        /**
+         * Schedules the given function to be executed once the given futures are met,
+         * see {@link Join#Join(Middleware, Execution, Executor, BaseOpenRedFuture, RedFuture[], int[], Transform[])}
+         * @param execution  the execution declaring the function, or null if declared outside of an execution
+         * @param executor   executor to invoke the function by, or null to invoke it directly
+         * @param f          function to execute
+         * @param futures    the preconditions, or the futures of the current execution of a plan
+         * @param slots      the slots of the preconditions within the futures, or null if the futures are the
+         *                   preconditions themselves
+         * @param transforms the transformations of the preconditions, or null if all are used as is
+         * @return a result of the execution
+         */
+        Result<R> schedule(Execution execution, Executor executor, FUNCTION f,
+                           RedFuture[] futures, int[] slots, Transform[] transforms) {
             Result<R> result = new Result<>();
-            RedFuture
-                    .hub()
-                    .adoptFutures(preconditions())
-                    .uniteOptimistically()
-                    .addFailureCallback(result._future::fail)
-                    .addSuccessCallback(() -> {
-                        try {
-                            WRAPPER wrapper = call(f);
-                            RedFutureOf<R> toFollow = _converter.convert(wrapper);
-                            result._future.follow(toFollow);
-                        } catch (Throwable t) {
-                            result._future.fail(t);
+            new Join(this, execution, executor, result._future, futures, slots, transforms) {
+                @Override
+                void perform() {
+                    try {
+                        WRAPPER wrapper = Runner.this.call(f, this);
+                        RedFutureOf<R> toFollow = _converter.convert(wrapper);
+                        result._future.propagateCancellation();
+                        result._future.follow(toFollow);
+                        if (result._future.isCancelled()) {
+                            toFollow.cancel(false);
                         }
-                    });
+                    } catch (Throwable t) {
+                        result._future.fail(t);
+                    }
+                }
+
+                @Override
+                void fail(Throwable t) {
+                    result._future.fail(t);
+                }
+            }.await();
             return result;
         }
 
-        // Private
-
         /**
          * Receive the function to call and calls it.
          * This method is abstract since calling the function depends on the concrete
          * type of the function.
-         * @param f function to call
+         * @param f       function to call
+         * @param results results of the preconditions
          * @return the function result
          * @throws Throwable to enable throwable catching
          */
-        abstract protected WRAPPER call(FUNCTION f) throws Throwable;
+        abstract protected WRAPPER call(FUNCTION f, Results results) throws Throwable;
 
         // Static
 
@@ -2003,7 +2412,7 @@ abstract public class BaseRedSynchronizer {
             }
 
             @Override
-            protected WRAPPER call(Function.Function0<WRAPPER> f) throws Throwable {
+            protected WRAPPER call(Function.Function0<WRAPPER> f, Results results) throws Throwable {
                 return f.call();
             }
 
@@ -2023,8 +2432,8 @@ abstract public class BaseRedSynchronizer {
             }
 
             @Override
-            protected WRAPPER call(Function.Function1<WRAPPER, T0> f) throws Throwable {
-                return f.call(typedResult(0));
+            protected WRAPPER call(Function.Function1<WRAPPER, T0> f, Results results) throws Throwable {
+                return f.call(results.typedResult(0));
             }
 
         }
@@ -2044,8 +2453,8 @@ abstract public class BaseRedSynchronizer {
             }
 
             @Override
-            protected WRAPPER call(Function.Function2<WRAPPER, T0, T1> f) throws Throwable {
-                return f.call(typedResult(0), typedResult(1));
+            protected WRAPPER call(Function.Function2<WRAPPER, T0, T1> f, Results results) throws Throwable {
+                return f.call(results.typedResult(0), results.typedResult(1));
             }
 
         }
@@ -2066,8 +2475,8 @@ abstract public class BaseRedSynchronizer {
             }
 
             @Override
-            protected WRAPPER call(Function.Function3<WRAPPER, T0, T1, T2> f) throws Throwable {
-                return f.call(typedResult(0), typedResult(1), typedResult(2));
+            protected WRAPPER call(Function.Function3<WRAPPER, T0, T1, T2> f, Results results) throws Throwable {
+                return f.call(results.typedResult(0), results.typedResult(1), results.typedResult(2));
             }
 
         }
@@ -2089,8 +2498,9 @@ abstract public class BaseRedSynchronizer {
             }
 
             @Override
-            protected WRAPPER call(Function.Function4<WRAPPER, T0, T1, T2, T3> f) throws Throwable {
-                return f.call(typedResult(0), typedResult(1), typedResult(2), typedResult(3));
+            protected WRAPPER call(Function.Function4<WRAPPER, T0, T1, T2, T3> f, Results results) throws Throwable {
+                return f.call(results.typedResult(0), results.typedResult(1), results.typedResult(2),
+                        results.typedResult(3));
             }
 
         }
@@ -2113,8 +2523,10 @@ abstract public class BaseRedSynchronizer {
             }
 
             @Override
-            protected WRAPPER call(Function.Function5<WRAPPER, T0, T1, T2, T3, T4> f) throws Throwable {
-                return f.call(typedResult(0), typedResult(1), typedResult(2), typedResult(3), typedResult(4));
+            protected WRAPPER call(Function.Function5<WRAPPER, T0, T1, T2, T3, T4> f, Results results)
+                    throws Throwable {
+                return f.call(results.typedResult(0), results.typedResult(1), results.typedResult(2),
+                        results.typedResult(3), results.typedResult(4));
             }
 
         }
@@ -2138,9 +2550,10 @@ abstract public class BaseRedSynchronizer {
             }
 
             @Override
-            protected WRAPPER call(Function.Function6<WRAPPER, T0, T1, T2, T3, T4, T5> f) throws Throwable {
-                return f.call(typedResult(0), typedResult(1), typedResult(2), typedResult(3), typedResult(4),
-                        typedResult(5));
+            protected WRAPPER call(Function.Function6<WRAPPER, T0, T1, T2, T3, T4, T5> f, Results results)
+                    throws Throwable {
+                return f.call(results.typedResult(0), results.typedResult(1), results.typedResult(2),
+                        results.typedResult(3), results.typedResult(4), results.typedResult(5));
             }
 
         }
@@ -2165,9 +2578,10 @@ abstract public class BaseRedSynchronizer {
             }
 
             @Override
-            protected WRAPPER call(Function.Function7<WRAPPER, T0, T1, T2, T3, T4, T5, T6> f) throws Throwable {
-                return f.call(typedResult(0), typedResult(1), typedResult(2), typedResult(3), typedResult(4),
-                        typedResult(5), typedResult(6));
+            protected WRAPPER call(Function.Function7<WRAPPER, T0, T1, T2, T3, T4, T5, T6> f, Results results)
+                    throws Throwable {
+                return f.call(results.typedResult(0), results.typedResult(1), results.typedResult(2),
+                        results.typedResult(3), results.typedResult(4), results.typedResult(5), results.typedResult(6));
             }
 
         }
@@ -2193,9 +2607,11 @@ abstract public class BaseRedSynchronizer {
             }
 
             @Override
-            protected WRAPPER call(Function.Function8<WRAPPER, T0, T1, T2, T3, T4, T5, T6, T7> f) throws Throwable {
-                return f.call(typedResult(0), typedResult(1), typedResult(2), typedResult(3), typedResult(4),
-                        typedResult(5), typedResult(6), typedResult(7));
+            protected WRAPPER call(Function.Function8<WRAPPER, T0, T1, T2, T3, T4, T5, T6, T7> f, Results results)
+                    throws Throwable {
+                return f.call(results.typedResult(0), results.typedResult(1), results.typedResult(2),
+                        results.typedResult(3), results.typedResult(4), results.typedResult(5), results.typedResult(6),
+                        results.typedResult(7));
             }
 
         }
@@ -2222,10 +2638,11 @@ abstract public class BaseRedSynchronizer {
             }
 
             @Override
-            protected WRAPPER call(Function.Function9<WRAPPER, T0, T1, T2, T3, T4, T5, T6, T7, T8> f)
+            protected WRAPPER call(Function.Function9<WRAPPER, T0, T1, T2, T3, T4, T5, T6, T7, T8> f, Results results)
                     throws Throwable {
-                return f.call(typedResult(0), typedResult(1), typedResult(2), typedResult(3), typedResult(4),
-                        typedResult(5), typedResult(6), typedResult(7), typedResult(8));
+                return f.call(results.typedResult(0), results.typedResult(1), results.typedResult(2),
+                        results.typedResult(3), results.typedResult(4), results.typedResult(5), results.typedResult(6),
+                        results.typedResult(7), results.typedResult(8));
             }
 
         }
@@ -2253,10 +2670,11 @@ abstract public class BaseRedSynchronizer {
             }
 
             @Override
-            protected WRAPPER call(Function.Function10<WRAPPER, T0, T1, T2, T3, T4, T5, T6, T7, T8, T9> f)
-                    throws Throwable {
-                return f.call(typedResult(0), typedResult(1), typedResult(2), typedResult(3), typedResult(4),
-                        typedResult(5), typedResult(6), typedResult(7), typedResult(8), typedResult(9));
+            protected WRAPPER call(Function.Function10<WRAPPER, T0, T1, T2, T3, T4, T5, T6, T7, T8, T9> f,
+                                   Results results) throws Throwable {
+                return f.call(results.typedResult(0), results.typedResult(1), results.typedResult(2),
+                        results.typedResult(3), results.typedResult(4), results.typedResult(5), results.typedResult(6),
+                        results.typedResult(7), results.typedResult(8), results.typedResult(9));
             }
 
         }
@@ -2273,8 +2691,8 @@ abstract public class BaseRedSynchronizer {
             }
 
             @Override
-            protected WRAPPER call(Function.FunctionN<WRAPPER> f) throws Throwable {
-                return f.call(new Results(this));
+            protected WRAPPER call(Function.FunctionN<WRAPPER> f, Results results) throws Throwable {
+                return f.call(results);
             }
         }
 
@@ -2982,18 +3400,11 @@ abstract public class BaseRedSynchronizer {
      * Class representing the results of N different preconditions
      * It can be used to retrieve values of index based precondition results
      */
-    protected static class Results {
-
-        /**
-         * To hold the array of preconditions
-         */
-        private final Middleware _middleware;
+    protected abstract static class Results {
 
         // Constructors
 
-        private Results(Middleware middleware) {
-            _middleware = middleware;
-        }
+        private Results() {}
 
         // Public
 
@@ -3008,7 +3419,7 @@ abstract public class BaseRedSynchronizer {
          * of the matching precondition, or the given index is out of bounds
          */
         public <T> T result(int index, Class<T> tClass) {
-            Object result = _middleware.objectResult(index);
+            Object result = objectResult(index);
             if (result == null) {
                 return null;
             }
@@ -3018,13 +3429,836 @@ abstract public class BaseRedSynchronizer {
             return tClass.cast(result);
         }
 
+        // Private
+
+        /**
+         * @param index of requested precondition result
+         * @return the resulted object of the future of the precondition in the given index
+         * @throws IllegalArgumentException in case given index contains no result
+         */
+        abstract Object objectResult(int index);
+
+        /**
+         * @param index of requested precondition result
+         * @param <T>   type of the result
+         * @return the resulted object of the future of the precondition in the given index
+         * @throws IllegalArgumentException in case given index contains no result, or the type is wrong
+         */
+        <T> T typedResult(int index) {
+            Object result = objectResult(index);
+            try {
+                //noinspection unchecked
+                return result == null ? null : (T) result;
+            } catch (Exception e) {
+                throw new IllegalArgumentException("result at index " + index + " is not of expected type");
+            }
+        }
+
     }
 
     // Static
 
+    /**
+     * A join node of the preconditions of a single execution, which runs the execution once all
+     * preconditions are successfully resolved, or fails it with the cause of the first precondition to fail.
+     *
+     * The node counts down the pending preconditions, and serves as both the success and the failure
+     * callback of each of them, so that joining allocates nothing but the node itself.
+     * The node also serves as the results of the preconditions passed to the execution. When replaying a plan,
+     * the node reads the preconditions from the futures of the plan execution by their slots, and applies
+     * the transformation of each precondition by the callbacks it registers, rather than through an
+     * intermediate future, see {@link Transform#await(RedFuture, Join)}.
+     * Preconditions which are already complete invoke the callbacks upon registration, so
+     * the execution runs inline by the current thread if all of them are.
+     * If given an executor, the node submits itself to it instead of running inline.
+     * If the execution is bounded by a deadline which has passed by the time the node runs,
+     * the node fails with a {@link DeadlineExceededException} without performing the execution.
+     *
+     * The nodes of a synchronizer execution are linked in reverse order of declaration, so that once
+     * the output of the execution is cancelled, the futures of all nodes may be cancelled as well,
+     * see {@link #cancel()}. Nodes whose future is cancelled before they run are not performed.
+     */
+    abstract private static class Join extends Results implements EmptyCallback, Callback<Throwable>, Runnable {
+
+        // Constants
+
+        /**
+         * Atomic updater of {@link #_remaining}
+         */
+        private static final AtomicIntegerFieldUpdater<Join> REMAINING =
+                AtomicIntegerFieldUpdater.newUpdater(Join.class, "_remaining");
+
+        // Fields
+
+        /**
+         * Number of preconditions which are not yet resolved, or -1 once any has failed
+         */
+        private volatile int _remaining;
+
+        /**
+         * The preconditions, or the futures of the current execution of a plan
+         */
+        private final RedFuture[] _futures;
+
+        /**
+         * The slots of the preconditions within {@link #_futures}, or null if those are the preconditions themselves
+         */
+        private final int[] _slots;
+
+        /**
+         * The transformations of the preconditions, or null if all are used as is
+         */
+        private final Transform[] _transforms;
+
+        /**
+         * Executor to run the execution by, or null to run it directly
+         */
+        private final Executor _executor;
+
+        /**
+         * The future of the result or marker of the execution
+         */
+        private final BaseOpenRedFuture<?> _future;
+
+        /**
+         * Trace of the execution, or null if not traced
+         */
+        private final ExecutionTrace.Node _trace;
+
+        /**
+         * Metrics of the execution, or null if not named
+         */
+        private final NodeMetrics _metrics;
+
+        /**
+         * Deadline of the execution, or null if not bounded
+         */
+        private final Deadline _deadline;
+
+        /**
+         * The node declared before this one by the same synchronizer execution, or null if first
+         */
+        private final Join _next;
+
+        // Constructors
+
+        /**
+         * @param middleware the declaring middleware, providing the name of the execution
+         * @param execution  the execution declaring the node, or null if declared outside of an execution
+         * @param executor   executor to run the execution by, or null to run it directly
+         * @param future     the future of the result or marker of the execution
+         * @param futures    the preconditions, or the futures of the current execution of a plan
+         * @param slots      the slots of the preconditions within the futures, or null if the futures are the
+         *                   preconditions themselves
+         * @param transforms the transformations of the preconditions, or null if all are used as is
+         */
+        private Join(Middleware middleware, Execution execution, Executor executor, BaseOpenRedFuture<?> future,
+                     RedFuture[] futures, int[] slots, Transform[] transforms) {
+            String name = middleware._name;
+            _futures = futures;
+            _slots = slots;
+            _transforms = transforms;
+            _remaining = count();
+            _executor = executor;
+            _future = future;
+            _trace = execution == null ? null : execution.trace(futures, slots, name, future);
+            _metrics = name == null ? null :
+                    (execution == null ? MetricsRegistry.global() : execution._metricsRegistry).metrics(name);
+            _deadline = execution == null ? null : execution._deadline;
+            if (execution == null) {
+                _next = null;
+            }
+            else {
+                _next = execution._joins;
+                execution._joins = this;
+            }
+        }
+
+        // Public
+
+        /**
+         * Invoked once a precondition is successfully resolved, the last one runs the execution
+         */
+        @Override
+        public void call() {
+            if (REMAINING.decrementAndGet(this) == 0) {
+                dispatch();
+            }
+        }
+
+        /**
+         * Invoked once a precondition fails, the first one fails the execution.
+         * If the future of the execution is already done, for example once cancelled before its preconditions,
+         * see {@link #cancel()}, the failure is not recorded as a precondition failure.
+         *
+         * @param t cause of failure
+         */
+        @Override
+        public void call(Throwable t) {
+            if (REMAINING.getAndSet(this, -1) > 0) {
+                if (_future.isDone()) {
+                    return;
+                }
+                if (_metrics != null) {
+                    _metrics.recordPreconditionFailure();
+                }
+                fail(t);
+            }
+        }
+
+        // Private
+
+        /**
+         * Registers the node on each of the preconditions, or runs the execution directly if there are none
+         */
+        void await() {
+            int count = count();
+            if (count == 0) {
+                dispatch();
+                return;
+            }
+            for (int i = 0; i < count; i++) {
+                RedFuture precondition = precondition(i);
+                Transform transform = _transforms == null ? null : _transforms[i];
+                if (transform == null) {
+                    precondition.addCallbacks((EmptyCallback) this, this);
+                }
+                else {
+                    transform.await(precondition, this);
+                }
+            }
+        }
+
+        @Override
+        Object objectResult(int index) {
+            if (index < 0 || index >= count()) {
+                throw new IllegalArgumentException("no result at index " + index);
+            }
+            RedFuture future = precondition(index);
+            if (!(future instanceof RedFutureOf) || (_transforms != null && _transforms[index] == Transform.FAIL)) {
+                throw new IllegalArgumentException("no result at index " + index);
+            }
+            return ((RedFutureOf) future).tryGet();
+        }
+
+        /**
+         * @return the number of preconditions
+         */
+        private int count() {
+            return _slots == null ? _futures.length : _slots.length;
+        }
+
+        /**
+         * @param index index of the precondition
+         * @return the precondition at the given index, before its transformation if any
+         */
+        private RedFuture precondition(int index) {
+            return _slots == null ? _futures[index] : _futures[_slots[index]];
+        }
+
+        /**
+         * Runs the execution once all preconditions are successfully resolved, unless its deadline has passed,
+         * in which case the execution fails. The deadline is visible to the execution while it runs,
+         * see {@link BaseRedSynchronizer#deadline()}, replacing any deadline of the running thread,
+         * so that an unbounded execution is not bounded by the execution completing its preconditions.
+         */
+        @Override
+        public void run() {
+            if (_future.isDone()) {
+                return;
+            }
+            if (_deadline != null && _deadline.isExpired()) {
+                if (_metrics != null) {
+                    _metrics.recordDeadlineExceeded();
+                }
+                fail(DeadlineExceededException.INSTANCE);
+                return;
+            }
+            Deadline previous = Deadline.CURRENT.get();
+            Deadline.CURRENT.set(_deadline);
+            try {
+                start();
+            } finally {
+                Deadline.CURRENT.set(previous);
+            }
+        }
+
+        /**
+         * Performs the execution, recording its metrics and trace
+         */
+        private void start() {
+            if (_metrics != null) {
+                NodeMetrics.Invocation invocation = _metrics.start();
+                _future.addCallbacks((EmptyCallback) invocation, invocation);
+            }
+            if (_trace == null) {
+                perform();
+                return;
+            }
+            _trace.started();
+            try {
+                perform();
+            } finally {
+                _trace.finished();
+            }
+        }
+
+        /**
+         * Performs the execution, invoked by {@link #run()}
+         */
+        abstract void perform();
+
+        /**
+         * Fails the execution once a precondition fails
+         *
+         * @param t cause of failure
+         */
+        abstract void fail(Throwable t);
+
+        /**
+         * Runs the execution by the executor, or directly if there is none.
+         * Fails the execution if the executor rejects it.
+         */
+        private void dispatch() {
+            if (_executor == null || _future.isDone()) {
+                run();
+                return;
+            }
+            if (_trace != null) {
+                _trace.ready();
+            }
+            try {
+                _executor.execute(this);
+            } catch (Throwable t) {
+                fail(t);
+            }
+        }
+
+        /**
+         * Cancels the futures of this node and of all nodes declared before it, once the output of the
+         * synchronizer execution is cancelled. Nodes which are not yet performed are skipped, while the
+         * futures followed by running nodes, for example a {@link Future} of {@link Runner#byExecuting(Function)},
+         * are cancelled as well, without interrupting. Nodes are cancelled in reverse order of declaration,
+         * so that dependent nodes are cancelled before their preconditions fail them.
+         */
+        void cancel() {
+            for (Join join = this; join != null; join = join._next) {
+                join._future.cancel(false);
+            }
+        }
+
+    }
+
+    /**
+     * A transformation of a precondition future according to the expectation from it,
+     * see {@link FutureTransformer#succeed()}, {@link FutureTransformer#finish()}
+     * and {@link FutureTransformer.Locked#fail()}
+     */
+    private enum Transform {
+
+        /**
+         * Expects the future to succeed, failing with {@link PreconditionFailedException.Success} otherwise
+         */
+        SUCCEED {
+            @Override
+            RedFuture apply(RedFuture future) {
+                if (future instanceof RedFutureOf) {
+                    RedFutureOf<?> futureOf = (RedFutureOf) future;
+                    OpenRedFutureOf<Object> result = RedFuture.futureOf();
+                    futureOf.addCallbacks(result::resolve, throwable ->
+                            result.fail(new PreconditionFailedException.Success(throwable)));
+                    return result;
+                }
+                OpenRedFuture result = RedFuture.future();
+                future.addCallbacks(result::resolve,
+                        throwable -> result.fail(new PreconditionFailedException.Success(throwable)));
+                return result;
+            }
+
+            @Override
+            void await(RedFuture future, Join join) {
+                future.addCallbacks((EmptyCallback) join,
+                        throwable -> join.call(new PreconditionFailedException.Success(throwable)));
+            }
+        },
+
+        /**
+         * Expects the future to finish, either by success or failure
+         */
+        FINISH {
+            @Override
+            RedFuture apply(RedFuture future) {
+                if (future instanceof RedFutureOf) {
+                    RedFutureOf<?> futureOf = (RedFutureOf) future;
+                    OpenRedFutureOf<Object> result = RedFuture.futureOf();
+                    futureOf.addCallbacks(result::resolve, throwable -> result.resolve(null));
+                    return result;
+                }
+                OpenRedFuture result = RedFuture.future();
+                future.addFinallyCallback(result::resolve);
+                return result;
+            }
+
+            @Override
+            void await(RedFuture future, Join join) {
+                future.addFinallyCallback(join);
+            }
+        },
+
+        /**
+         * Expects the future to fail, failing with {@link PreconditionFailedException.Failure} otherwise
+         */
+        FAIL {
+            @Override
+            RedFuture apply(RedFuture future) {
+                OpenRedFuture result = RedFuture.future();
+                future.addCallbacks(() -> result.fail(PreconditionFailedException.Failure.INSTANCE),
+                        throwable -> result.resolve());
+                return result;
+            }
+
+            @Override
+            void await(RedFuture future, Join join) {
+                future.addCallbacks(() -> join.call(PreconditionFailedException.Failure.INSTANCE),
+                        throwable -> join.call());
+            }
+        };
+
+        /**
+         * @param future precondition future to transform
+         * @return a future completing according to the expectation from the given future
+         */
+        abstract RedFuture apply(RedFuture future);
+
+        /**
+         * Registers the given join on the given precondition future according to the expectation from it,
+         * the equivalent of registering the join on the transformed future without allocating it
+         *
+         * @param future precondition future to await
+         * @param join   join node of the execution
+         */
+        abstract void await(RedFuture future, Join join);
+
+    }
+
+    /**
+     * A single execution of a synchronizer. While the synchronizer declares the construction chains of the
+     * execution, the execution is the current one of the declaring thread, and each declared function or
+     * command is scheduled within it, see {@link BaseRedSynchronizer#enter(Deadline)}.
+     */
+    static final class Execution {
+
+        // Constants
+
+        /**
+         * The execution of the current thread, or null while not executing a synchronizer
+         */
+        static final ThreadLocal<Execution> CURRENT = new ThreadLocal<>();
+
+        // Fields
+
+        /**
+         * The execution the current thread was in before entering this one
+         */
+        final Execution _previous;
+
+        /**
+         * The deadline of the execution the current thread was in before entering this one, or null if not bounded
+         */
+        final Deadline _previousDeadline;
+
+        /**
+         * Deadline of the execution, or null if not bounded
+         */
+        final Deadline _deadline;
+
+        /**
+         * Executor to invoke the functions and commands declared without one, or null to invoke them directly
+         */
+        final Executor _executor;
+
+        /**
+         * Registry to record the metrics of named executions into
+         */
+        final MetricsRegistry _metricsRegistry;
+
+        /**
+         * Recorder of the construction chains of a plan, or null if the execution is not recorded
+         */
+        final Recorder _recorder;
+
+        /**
+         * Trace of the execution, or null if not traced
+         */
+        final ExecutionTrace _trace;
+
+        /**
+         * The last node declared by the execution, linking the ones declared before it, or null if none
+         */
+        private Join _joins;
+
+        // Constructors
+
+        private Execution(Execution previous, Deadline previousDeadline, Deadline deadline, Executor executor,
+                          MetricsRegistry metricsRegistry, Recorder recorder, ExecutionTrace trace) {
+            _previous = previous;
+            _previousDeadline = previousDeadline;
+            _deadline = deadline;
+            _executor = executor;
+            _metricsRegistry = metricsRegistry;
+            _recorder = recorder;
+            _trace = trace;
+        }
+
+        // Private
+
+        /**
+         * Declares a traced node over the given preconditions
+         *
+         * @param futures the preconditions, or the futures of the current execution of a plan
+         * @param slots   the slots of the preconditions within the futures, or null if the futures are the
+         *                preconditions themselves
+         * @param name    name of the node, or null if not named
+         * @param future  the future of the result or marker of the node
+         * @return the traced node, or null if the execution is not traced
+         */
+        ExecutionTrace.Node trace(RedFuture[] futures, int[] slots, String name, RedFuture future) {
+            if (_trace == null) {
+                return null;
+            }
+            return slots == null ? _trace.node(futures, name, future) : _trace.node(slots, name, future);
+        }
+
+        /**
+         * Transforms a precondition future of the execution, or records the transformation while recording a plan
+         *
+         * @param future    precondition future to transform
+         * @param transform transformation to apply
+         * @return the transformed future
+         */
+        RedFuture transform(RedFuture future, Transform transform) {
+            if (_recorder != null) {
+                return _recorder.transform(future, transform);
+            }
+            RedFuture transformed = transform.apply(future);
+            if (_trace != null) {
+                _trace.alias(transformed, future);
+            }
+            return transformed;
+        }
+
+        /**
+         * Sets the output of the execution, so that cancelling the output cancels all nodes of the execution
+         *
+         * @param output the future of the output of the execution
+         * @param <T>    type of the future
+         * @return the given future
+         */
+        <T extends RedFuture> T output(T output) {
+            if (_trace != null) {
+                _trace.complete(output);
+            }
+            Join joins = _joins;
+            if (joins != null && output instanceof BaseOpenRedFuture && !output.isDone()) {
+                BaseOpenRedFuture<?> future = (BaseOpenRedFuture<?>) output;
+                future.addFailureCallback(throwable -> {
+                    if (future.isCancelled()) {
+                        joins.cancel();
+                    }
+                });
+            }
+            return output;
+        }
+
+    }
+
+    /**
+     * Records the executions declared by the construction chains of a plan, see {@link RedPlannedSynchronizer}.
+     *
+     * While recording, each declared {@link Result} or {@link Marker} is assigned a slot of the plan.
+     * Their futures are never completed, and only serve as keys to find the slots of the preconditions
+     * of the following executions.
+     */
+    static final class Recorder {
+
+        // Fields
+
+        /**
+         * Sources of the futures declared while recording
+         */
+        private final IdentityHashMap<RedFuture, Source> _sources = new IdentityHashMap<>();
+
+        /**
+         * Recorded executions, in the order of their declaration
+         */
+        private final List<PlanNode> _nodes = new ArrayList<>();
+
+        // Constructors
+
+        Recorder() {}
+
+        // Public
+
+        /**
+         * @param <T> type of the input
+         * @return a result representing the input of each execution of the plan
+         */
+        <T> Result<T> input() {
+            Result<T> input = new Result<>();
+            _sources.put(input._future, new Source(0, null));
+            return input;
+        }
+
+        /**
+         * Compiles the recorded executions into a plan
+         *
+         * @param output the result of the plan output
+         * @param <T>    type of the output
+         * @return the compiled plan
+         */
+        <T> Plan<T> compile(Result<T> output) {
+            if (output == null) {
+                throw new IllegalStateException("plan declared no output");
+            }
+            return new Plan<>(_nodes.toArray(new PlanNode[_nodes.size()]), source(output._future)._slot);
+        }
+
+        // Private
+
+        /**
+         * Records a transformation of a declared future
+         *
+         * @param future    declared future to transform
+         * @param transform transformation to record
+         * @return a placeholder of the transformed future
+         */
+        RedFuture transform(RedFuture future, Transform transform) {
+            RedFuture placeholder = RedFuture.future();
+            _sources.put(placeholder, new Source(source(future)._slot, transform));
+            return placeholder;
+        }
+
+        /**
+         * Records an execution of a function
+         *
+         * @param runner   runner of the function
+         * @param executor executor to invoke the function by, or null to invoke it directly
+         * @param f        function to execute
+         * @param <R>      type of the result
+         * @return a result representing the result of the function
+         */
+        <R> Result<R> function(Runner<?, ?, R> runner, Executor executor, Function f) {
+            Result<R> result = new Result<>();
+            record(new FunctionNode(runner, executor, f), runner.preconditions(), result._future);
+            return result;
+        }
+
+        /**
+         * Records an execution of a command
+         *
+         * @param classifier return classifier of the command
+         * @param executor   executor to invoke the command by, or null to invoke it directly
+         * @param c          command to execute
+         * @return a marker representing the completion of the command
+         */
+        Marker command(ReturnClassifier<?, ?> classifier, Executor executor, Command c) {
+            Marker marker = new Marker();
+            record(new CommandNode(classifier, executor, c), classifier.preconditions(), marker._future);
+            return marker;
+        }
+
+        private void record(PlanNode node, RedFuture[] preconditions, RedFuture future) {
+            node._slots = new int[preconditions.length];
+            node._transforms = new Transform[preconditions.length];
+            for (int i = 0; i < preconditions.length; i++) {
+                Source source = source(preconditions[i]);
+                node._slots[i] = source._slot;
+                node._transforms[i] = source._transform;
+            }
+            _nodes.add(node);
+            _sources.put(future, new Source(_nodes.size(), null));
+        }
+
+        private Source source(RedFuture future) {
+            Source source = _sources.get(future);
+            if (source == null) {
+                throw new IllegalStateException("plan preconditions must be declared by the plan itself");
+            }
+            return source;
+        }
+
+    }
+
+    /**
+     * An immutable plan of executions, compiled once by a {@link Recorder}.
+     *
+     * Each execution of the plan allocates an array of slots, holding the futures of the plan input
+     * and of each of the executions, and schedules the executions in the order of their declaration,
+     * which guarantees that the preconditions of each execution are already scheduled.
+     *
+     * @param <OUTPUT> type of the output of the plan
+     */
+    static final class Plan<OUTPUT> {
+
+        // Fields
+
+        private final PlanNode[] _nodes;
+
+        /**
+         * The slot of the output of the plan
+         */
+        private final int _output;
+
+        // Constructors
+
+        private Plan(PlanNode[] nodes, int output) {
+            _nodes = nodes;
+            _output = output;
+        }
+
+        // Public
+
+        /**
+         * Executes the plan with the given input
+         *
+         * @param execution the execution of the plan
+         * @param input     input of the execution
+         * @return {@link RedFutureOf} of the execution output
+         */
+        @SuppressWarnings("unchecked")
+        RedFutureOf<OUTPUT> execute(Execution execution, Object input) {
+            RedFuture[] slots = new RedFuture[_nodes.length + 1];
+            slots[0] = RedFuture.resolvedOf(input);
+            for (int i = 0; i < _nodes.length; i++) {
+                slots[i + 1] = _nodes[i].schedule(execution, slots);
+            }
+            return (RedFutureOf<OUTPUT>) slots[_output];
+        }
+
+    }
+
+    /**
+     * The source of a precondition of a plan execution
+     */
+    private static final class Source {
+
+        /**
+         * The slot of the future
+         */
+        private final int _slot;
+
+        /**
+         * The transformation to apply on the future, or null if used as is
+         */
+        private final Transform _transform;
+
+        private Source(int slot, Transform transform) {
+            _slot = slot;
+            _transform = transform;
+        }
+
+    }
+
+    /**
+     * A single execution of a plan, replaying a recorded middleware on the futures of each execution
+     */
+    abstract private static class PlanNode {
+
+        // Fields
+
+        /**
+         * The slots of the preconditions
+         */
+        private int[] _slots;
+
+        /**
+         * The transformations of the preconditions, or null where used as is
+         */
+        private Transform[] _transforms;
+
+        // Public
+
+        /**
+         * Schedules the execution over the futures of the given slots
+         *
+         * @param execution the current execution of the plan
+         * @param slots     the futures of the current execution of the plan
+         * @return the future of the execution
+         */
+        RedFuture schedule(Execution execution, RedFuture[] slots) {
+            return run(execution, slots, _slots, _transforms);
+        }
+
+        // Private
+
+        /**
+         * Schedules the execution over the preconditions read from the given futures
+         *
+         * @param execution  the current execution of the plan
+         * @param futures    the futures of the current execution of the plan
+         * @param slots      the slots of the preconditions within the futures
+         * @param transforms the transformations of the preconditions, or null where used as is
+         * @return the future of the execution
+         */
+        abstract RedFuture run(Execution execution, RedFuture[] futures, int[] slots, Transform[] transforms);
+
+    }
+
+    /**
+     * A plan execution of a function
+     */
+    private static final class FunctionNode extends PlanNode {
+
+        private final Runner<?, ?, ?> _runner;
+
+        private final Executor _executor;
+
+        private final Function _function;
+
+        private FunctionNode(Runner<?, ?, ?> runner, Executor executor, Function function) {
+            _runner = runner;
+            _executor = executor;
+            _function = function;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        RedFuture run(Execution execution, RedFuture[] futures, int[] slots, Transform[] transforms) {
+            Runner<Function, ?, ?> runner = (Runner<Function, ?, ?>) _runner;
+            return runner.schedule(execution, _executor, _function, futures, slots, transforms)._future;
+        }
+
+    }
+
+    /**
+     * A plan execution of a command
+     */
+    private static final class CommandNode extends PlanNode {
+
+        private final ReturnClassifier<?, ?> _classifier;
+
+        private final Executor _executor;
+
+        private final Command _command;
+
+        private CommandNode(ReturnClassifier<?, ?> classifier, Executor executor, Command command) {
+            _classifier = classifier;
+            _executor = executor;
+            _command = command;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        RedFuture run(Execution execution, RedFuture[] futures, int[] slots, Transform[] transforms) {
+            ReturnClassifier<Command, ?> classifier = (ReturnClassifier<Command, ?>) _classifier;
+            return classifier.schedule(execution, _executor, _command, futures, slots, transforms)._future;
+        }
+
+    }
+
     /**
      * An interface for simple conversion of the different wrapper options
-     * (direct value, {@link Future}, {@link ListenableFuture} or {@link RedFutureOf})
+     * (direct value, {@link Future}, {@link CompletionStage}, {@link ListenableFuture} or {@link RedFutureOf})
      * to {@link RedFutureOf}
      * @param <WRAPPER> the wrapper option
      * @param <R>       the type of the result
@@ -3062,13 +4296,23 @@ abstract public class BaseRedSynchronizer {
             return RedFuture::convert;
         }
 
+        /**
+         * Returns a converter which receives a {@link CompletionStage} of value and returns a
+         * {@link RedFuture} of the value, following the stage with a single completion hook
+         *
+         * @param <R> type of the converter value
+         * @return a converter converting {@link CompletionStage} values
+         */
+        static <R> Converter<CompletionStage<R>, R> stage() {
+            return RedFuture::fromStage;
+        }
+
     }
 
     /**
-     * Holds an array of precondition Futures.
-     * Provides an interface to extract values from the precondition Futures.
+     * Holds an array of precondition Futures and the name of the execution of the construction chain.
      */
-    abstract private static class Middleware {
+    abstract private static class Middleware implements Cloneable {
 
         // Private
 
@@ -3077,6 +4321,12 @@ abstract public class BaseRedSynchronizer {
          */
         private final RedFuture[] _preconditions;
 
+        /**
+         * The name of the execution of the construction chain, or null if not named,
+         * only set on a fresh copy, see {@link #named(String)}
+         */
+        private String _name;
+
         // Constructors
 
         private Middleware(RedFuture[] preconditions) {
@@ -3093,34 +4343,24 @@ abstract public class BaseRedSynchronizer {
         }
 
         /**
-         * @param index of requested precondition result
-         * @return the resulted object of the future of the precondition in the given index
-         * @throws IllegalArgumentException in case given index contains no result
+         * Returns a copy of the current middleware naming the execution of the construction chain
+         * @param name the name of the execution
+         * @return a copy of the current middleware
          */
-        Object objectResult(int index) {
-            if (index < 0 || index >= _preconditions.length) {
-                throw new IllegalArgumentException("no result at index " + index);
-            }
-            RedFuture future = _preconditions[index];
-            if (!(future instanceof RedFutureOf)) {
-                throw new IllegalArgumentException("no result at index " + index);
+        Middleware named(String name) {
+            if (name == null) {
+                throw new NullPointerException("name must not be null");
             }
-            return ((RedFutureOf) future).tryGet();
+            Middleware copy = copy();
+            copy._name = name;
+            return copy;
         }
 
-        /**
-         * @param index of requested precondition result
-         * @param <T>   type of the result
-         * @return the resulted object of the future of the precondition in the given index
-         * @throws IllegalArgumentException in case given index contains no result, or the type is wrong
-         */
-        <T> T typedResult(int index) {
-            Object result = objectResult(index);
+        private Middleware copy() {
             try {
-                //noinspection unchecked
-                return result == null ? null : (T) result;
-            } catch (Exception e) {
-                throw new IllegalArgumentException("result at index " + index + " is not of expected type");
+                return (Middleware) clone();
+            } catch (CloneNotSupportedException e) {
+                throw new IllegalStateException(e);
             }
         }
 
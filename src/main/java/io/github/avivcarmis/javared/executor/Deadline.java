@@ -0,0 +1,112 @@
+package io.github.avivcarmis.javared.executor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A point in time by which an execution of a synchronizer must complete,
+ * see {@link RedSynchronizer#execute(Object, Deadline)}.
+ *
+ * The deadline of an execution is visible to all of its functions and commands. Those whose preconditions
+ * are met only after the deadline has passed are not started at all, and fail with a
+ * {@link DeadlineExceededException} instead. Functions and commands which do start may read the
+ * remaining time by {@link BaseRedSynchronizer#deadline()}, to bound the timeouts of their own
+ * asynchronous operations.
+ *
+ * Deadlines are measured by {@link System#nanoTime()}, and are therefore only meaningful within a single JVM.
+ */
+public final class Deadline {
+
+    // Constants
+
+    /**
+     * A deadline which never expires
+     */
+    private static final Deadline NONE = new Deadline(0);
+
+    /**
+     * The maximal duration of a deadline, beyond which it never expires,
+     * kept far from overflowing the arithmetic of {@link System#nanoTime()}
+     */
+    private static final long MAX_DURATION_NANOS = Long.MAX_VALUE >> 1;
+
+    /**
+     * The deadline of the execution the current thread is running, or null if not bounded by a deadline
+     */
+    static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    // Fields
+
+    /**
+     * Time of expiration by {@link System#nanoTime()}
+     */
+    private final long _expirationTime;
+
+    // Constructors
+
+    private Deadline(long expirationTime) {
+        _expirationTime = expirationTime;
+    }
+
+    // Public
+
+    /**
+     * @return true if the deadline has passed
+     */
+    public boolean isExpired() {
+        return this != NONE && _expirationTime - System.nanoTime() <= 0;
+    }
+
+    /**
+     * @param unit the time unit of the returned value
+     * @return the time remaining until the deadline, 0 if expired, or {@link Long#MAX_VALUE}
+     * if the deadline never expires
+     */
+    public long remaining(TimeUnit unit) {
+        if (this == NONE) {
+            return Long.MAX_VALUE;
+        }
+        return unit.convert(Math.max(0, _expirationTime - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return this == NONE ? "Deadline[none]" : "Deadline[" + remaining(TimeUnit.NANOSECONDS) + "ns remaining]";
+    }
+
+    // Private
+
+    /**
+     * @return this deadline, or null if it never expires
+     */
+    Deadline bound() {
+        return this == NONE ? null : this;
+    }
+
+    // Static
+
+    /**
+     * @param duration the time from now until the deadline
+     * @param unit     the time unit of the duration
+     * @return a deadline expiring after the given duration
+     */
+    public static Deadline after(long duration, TimeUnit unit) {
+        long nanos = unit.toNanos(duration);
+        return nanos >= MAX_DURATION_NANOS ? NONE : new Deadline(System.nanoTime() + nanos);
+    }
+
+    /**
+     * @return a deadline which never expires
+     */
+    public static Deadline none() {
+        return NONE;
+    }
+
+    /**
+     * @return the deadline of the execution the current thread is running, or {@link #none()} if not bounded
+     */
+    static Deadline current() {
+        Deadline deadline = CURRENT.get();
+        return deadline == null ? NONE : deadline;
+    }
+
+}
@@ -0,0 +1,24 @@
+package io.github.avivcarmis.javared.executor;
+
+/**
+ * Represents the indication error that will be thrown in case an execution was not
+ * started since the {@link Deadline} of the synchronizer execution had passed.
+ *
+ * The error carries no stack trace, since it is raised by the synchronizer rather than by the
+ * execution, and is shared by all executions to fail them without allocating.
+ */
+public class DeadlineExceededException extends Exception {
+
+    // Constants
+
+    private static final long serialVersionUID = 1L;
+
+    static final DeadlineExceededException INSTANCE = new DeadlineExceededException();
+
+    // Constructors
+
+    private DeadlineExceededException() {
+        super("deadline exceeded", null, false, false);
+    }
+
+}
@@ -0,0 +1,273 @@
+package io.github.avivcarmis.javared.executor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Profiles sampled executions of a synchronizer, see {@link BaseRedSynchronizer#profiler()}.
+ *
+ * Each sampled execution is traced into an {@link ExecutionTrace}, which is handed to
+ * {@link #record(ExecutionTrace)} once the output of the execution completes. By default, the profiler
+ * aggregates the traces into a {@link NodeProfile} of each node, holding latency histograms and the number
+ * of executions in which the node was on the critical path. Override {@link #record(ExecutionTrace)} to
+ * additionally inspect single traces, for example to log the critical path of slow executions.
+ *
+ * Named nodes, see {@link BaseRedSynchronizer.Runner#named(String)}, are profiled by their name. Other nodes
+ * are profiled by their index in the order of declaration, which identifies the same node across executions
+ * only if all executions declare the same graph. Synchronizers declaring nodes conditionally, or a varying
+ * number of them, should name their nodes, otherwise the profiles of different nodes are mixed.
+ *
+ * Executions which are not sampled are not traced at all. A traced execution costs, per node, a trace node
+ * and its completion callback, up to four {@link System#nanoTime()} calls, and for synchronizers which are
+ * not planned, a linear search of the declared futures per precondition. This is comparable to the cost of
+ * scheduling the node itself, so synchronizers with a tight latency budget should trace a small fraction
+ * of their executions, see {@link #ExecutionProfiler(double)}, rather than all of them.
+ */
+public class ExecutionProfiler {
+
+    // Constants
+
+    /**
+     * Atomic updater of {@link #_nodes}
+     */
+    private static final AtomicReferenceFieldUpdater<ExecutionProfiler, NodeProfile[]> NODES =
+            AtomicReferenceFieldUpdater.newUpdater(ExecutionProfiler.class, NodeProfile[].class, "_nodes");
+
+    // Fields
+
+    /**
+     * The fraction of executions to trace
+     */
+    private final double _sampleRatio;
+
+    /**
+     * Histogram of the durations of the traced executions
+     */
+    private final LatencyHistogram _durations;
+
+    /**
+     * Profiles of the unnamed nodes by their index, replaced by a larger copy upon tracing a node of a higher index
+     */
+    private volatile NodeProfile[] _nodes;
+
+    /**
+     * Profiles of the named nodes by their name
+     */
+    private final ConcurrentMap<String, NodeProfile> _named;
+
+    // Constructors
+
+    /**
+     * Constructs a profiler tracing all executions
+     */
+    public ExecutionProfiler() {
+        this(1);
+    }
+
+    /**
+     * @param sampleRatio the fraction of executions to trace, between 0 and 1
+     */
+    public ExecutionProfiler(double sampleRatio) {
+        if (sampleRatio < 0 || sampleRatio > 1) {
+            throw new IllegalArgumentException("sample ratio must be between 0 and 1, got " + sampleRatio);
+        }
+        _sampleRatio = sampleRatio;
+        _durations = new LatencyHistogram();
+        _nodes = new NodeProfile[0];
+        _named = new ConcurrentHashMap<>();
+    }
+
+    // Public
+
+    /**
+     * Records a trace of a completed execution
+     *
+     * @param trace trace to record
+     */
+    public void record(ExecutionTrace trace) {
+        _durations.record(trace.durationNanos());
+        List<ExecutionTrace.Node> nodes = trace.nodes();
+        boolean[] critical = new boolean[nodes.size()];
+        for (ExecutionTrace.Node node : trace.criticalPath()) {
+            critical[node.index()] = true;
+        }
+        for (ExecutionTrace.Node node : nodes) {
+            profileOf(node).record(node, critical[node.index()]);
+        }
+    }
+
+    /**
+     * @return histogram of the durations of the traced executions, until their output completed
+     */
+    public LatencyHistogram durations() {
+        return _durations;
+    }
+
+    /**
+     * @return the profiles of the traced nodes, in the order of their declaration
+     */
+    public List<NodeProfile> nodes() {
+        List<NodeProfile> nodes = new ArrayList<>(_named.values());
+        for (NodeProfile node : _nodes) {
+            if (node != null) {
+                nodes.add(node);
+            }
+        }
+        nodes.sort(Comparator.comparingInt(NodeProfile::index));
+        return nodes;
+    }
+
+    // Private
+
+    /**
+     * @return true if the current execution should be traced
+     */
+    boolean sample() {
+        return _sampleRatio >= 1 || (_sampleRatio > 0 && ThreadLocalRandom.current().nextDouble() < _sampleRatio);
+    }
+
+    /**
+     * @param node a traced node
+     * @return the profile of the given node, by its name if named or by its index otherwise,
+     * created if not yet traced
+     */
+    private NodeProfile profileOf(ExecutionTrace.Node node) {
+        String name = node.name();
+        if (name != null) {
+            NodeProfile profile = _named.get(name);
+            return profile != null ? profile : _named.computeIfAbsent(name, key -> new NodeProfile(node.index(), key));
+        }
+        int index = node.index();
+        while (true) {
+            NodeProfile[] nodes = _nodes;
+            if (index < nodes.length && nodes[index] != null) {
+                return nodes[index];
+            }
+            NodeProfile[] updated = Arrays.copyOf(nodes, Math.max(nodes.length, index + 1));
+            updated[index] = new NodeProfile(index, null);
+            if (NODES.compareAndSet(this, nodes, updated)) {
+                return updated[index];
+            }
+        }
+    }
+
+    // Static
+
+    /**
+     * The aggregated profile of a single node across the traced executions
+     */
+    public static class NodeProfile {
+
+        // Fields
+
+        private final int _index;
+
+        private final String _name;
+
+        private final AtomicLong _executions;
+
+        private final AtomicLong _criticalExecutions;
+
+        private final LatencyHistogram _waitTimes;
+
+        private final LatencyHistogram _runTimes;
+
+        private final LatencyHistogram _completionTimes;
+
+        // Constructors
+
+        private NodeProfile(int index, String name) {
+            _index = index;
+            _name = name;
+            _executions = new AtomicLong();
+            _criticalExecutions = new AtomicLong();
+            _waitTimes = new LatencyHistogram();
+            _runTimes = new LatencyHistogram();
+            _completionTimes = new LatencyHistogram();
+        }
+
+        // Public
+
+        /**
+         * @return the index of the node in the order of declaration of the execution,
+         * or of the first traced node of the name if named
+         */
+        public int index() {
+            return _index;
+        }
+
+        /**
+         * @return the name of the node, or null if not named
+         */
+        public String name() {
+            return _name;
+        }
+
+        /**
+         * @return the number of traced executions declaring the node
+         */
+        public long executions() {
+            return _executions.get();
+        }
+
+        /**
+         * @return the number of traced executions in which the node was on the critical path
+         */
+        public long criticalExecutions() {
+            return _criticalExecutions.get();
+        }
+
+        /**
+         * @return histogram of the times from meeting the preconditions until the function or command started,
+         * which is non zero when running by an executor
+         */
+        public LatencyHistogram waitTimes() {
+            return _waitTimes;
+        }
+
+        /**
+         * @return histogram of the times from starting the function or command until it returned
+         */
+        public LatencyHistogram runTimes() {
+            return _runTimes;
+        }
+
+        /**
+         * @return histogram of the times from meeting the preconditions until the result or marker completed
+         */
+        public LatencyHistogram completionTimes() {
+            return _completionTimes;
+        }
+
+        // Private
+
+        private void record(ExecutionTrace.Node node, boolean critical) {
+            _executions.incrementAndGet();
+            if (critical) {
+                _criticalExecutions.incrementAndGet();
+            }
+            long ready = node.readyNanos();
+            long start = node.startNanos();
+            long finish = node.finishNanos();
+            long complete = node.completeNanos();
+            if (ready >= 0 && start >= 0) {
+                _waitTimes.record(start - ready);
+            }
+            if (start >= 0 && finish >= 0) {
+                _runTimes.record(finish - start);
+            }
+            if (ready >= 0 && complete >= 0) {
+                _completionTimes.record(complete - ready);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,433 @@
+package io.github.avivcarmis.javared.executor;
+
+import io.github.avivcarmis.javared.future.RedFuture;
+import io.github.avivcarmis.javared.future.callbacks.Callback;
+import io.github.avivcarmis.javared.future.callbacks.EmptyCallback;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A trace of a single execution of a synchronizer, sampled by an {@link ExecutionProfiler}.
+ *
+ * The trace holds a {@link Node} for each function or command declared by the execution, in the order
+ * of declaration, so that the index of a node identifies it across executions of the same synchronizer,
+ * as long as all of them declare the same graph, see {@link ExecutionProfiler}.
+ * Each node records the time its preconditions were met, the time its function or command started and
+ * finished, and the time its result or marker completed, all in nanoseconds since the execution started.
+ *
+ * Once the output of the execution completes, the trace is handed to the profiler, which may
+ * compute the {@link #criticalPath()} of the execution - the chain of nodes, each of which was the
+ * last precondition to complete of the following one, leading to the output.
+ */
+public class ExecutionTrace {
+
+    // Constants
+
+    /**
+     * Initial capacity of the declared futures
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    // Fields
+
+    /**
+     * The profiler to hand the trace to once the output completes
+     */
+    private final ExecutionProfiler _profiler;
+
+    /**
+     * Time the execution started by {@link System#nanoTime()}
+     */
+    private final long _startTime;
+
+    /**
+     * The traced nodes, in the order of their declaration
+     */
+    private final List<Node> _nodes;
+
+    /**
+     * The futures declared by the execution, including the transformed futures of their preconditions,
+     * and the node of each of them in {@link #_sources}. Only accessed while the construction chains are
+     * declared, and released once the output is known. Since executions declare few nodes, the futures
+     * are searched linearly by identity, which is cheaper than hashing newly created futures.
+     */
+    private RedFuture[] _futures;
+
+    /**
+     * The nodes of {@link #_futures}
+     */
+    private Node[] _sources;
+
+    /**
+     * Number of declared futures
+     */
+    private int _size;
+
+    /**
+     * Counter of node completions, used to order the completions of the preconditions of each node
+     */
+    private final AtomicInteger _completions;
+
+    /**
+     * The node producing the output of the execution, or null if not yet known
+     */
+    private volatile Node _output;
+
+    /**
+     * Time the output of the execution completed by {@link System#nanoTime()}, or 0 if not yet completed
+     */
+    private volatile long _endTime;
+
+    // Constructors
+
+    ExecutionTrace(ExecutionProfiler profiler) {
+        _profiler = profiler;
+        _startTime = System.nanoTime();
+        _nodes = new ArrayList<>();
+        _futures = new RedFuture[INITIAL_CAPACITY];
+        _sources = new Node[INITIAL_CAPACITY];
+        _completions = new AtomicInteger();
+    }
+
+    // Public
+
+    /**
+     * @return the traced nodes, in the order of their declaration
+     */
+    public List<Node> nodes() {
+        return Collections.unmodifiableList(_nodes);
+    }
+
+    /**
+     * @return the node producing the output of the execution, or null if not known
+     */
+    public Node output() {
+        return _output;
+    }
+
+    /**
+     * @return nanoseconds from the start of the execution until its output completed, or -1 if not completed
+     */
+    public long durationNanos() {
+        long endTime = _endTime;
+        return endTime == 0 ? -1 : endTime - _startTime;
+    }
+
+    /**
+     * Computes the critical path of the execution, starting from a node without preconditions and ending
+     * with the output node, in which each node is the last precondition to complete of the following node
+     *
+     * @return the nodes of the critical path, or an empty list if the output node is not known
+     */
+    public List<Node> criticalPath() {
+        List<Node> path = new ArrayList<>();
+        for (Node node = _output; node != null; node = node.lastPrecondition()) {
+            path.add(node);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    // Private
+
+    /**
+     * Declares a node over the given preconditions
+     *
+     * @param preconditions preconditions of the node
+     * @param name          name of the node, or null if not named
+     * @param future        the future of the result or marker of the node
+     * @return the declared node
+     */
+    Node node(RedFuture[] preconditions, String name, RedFuture future) {
+        Node[] sources = new Node[preconditions.length];
+        for (int i = 0; i < preconditions.length; i++) {
+            sources[i] = sourceOf(preconditions[i]);
+        }
+        return node(sources, name, future);
+    }
+
+    /**
+     * Declares a node of a plan execution over the futures of the given slots. Since the plan declares
+     * a node for each slot but the input, in the order of the slots, the node of each slot is known
+     * without searching the declared futures.
+     *
+     * @param slots  slots of the preconditions of the node
+     * @param name   name of the node, or null if not named
+     * @param future the future of the result or marker of the node
+     * @return the declared node
+     */
+    Node node(int[] slots, String name, RedFuture future) {
+        Node[] sources = new Node[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            sources[i] = slots[i] == 0 ? null : _nodes.get(slots[i] - 1);
+        }
+        return node(sources, name, future);
+    }
+
+    /**
+     * Declares a future transformed from a declared future, so that preconditions
+     * over the transformed future are traced back to the node of the original one
+     *
+     * @param transformed transformed future
+     * @param original    declared future
+     */
+    void alias(RedFuture transformed, RedFuture original) {
+        Node node = sourceOf(original);
+        if (node != null) {
+            declare(transformed, node);
+        }
+    }
+
+    /**
+     * Sets the output of the execution, and hands the trace to the profiler once it completes
+     *
+     * @param output the future of the output of the execution
+     */
+    void complete(RedFuture output) {
+        _output = sourceOf(output);
+        _futures = null;
+        _sources = null;
+        output.addFinallyCallback(() -> {
+            Node node = _output;
+            _endTime = node == null ? System.nanoTime() : node._completeTime;
+            _profiler.record(this);
+        });
+    }
+
+    private Node node(Node[] sources, String name, RedFuture future) {
+        Node node = new Node(this, _nodes.size(), name, sources);
+        _nodes.add(node);
+        declare(future, node);
+        Completion completion = new Completion(node);
+        future.addCallbacks((EmptyCallback) completion, completion);
+        return node;
+    }
+
+    private void declare(RedFuture future, Node node) {
+        if (_size == _futures.length) {
+            _futures = Arrays.copyOf(_futures, _size * 2);
+            _sources = Arrays.copyOf(_sources, _size * 2);
+        }
+        _futures[_size] = future;
+        _sources[_size] = node;
+        _size++;
+    }
+
+    /**
+     * @param future a future
+     * @return the node of the given future, or null if not declared by the execution
+     */
+    private Node sourceOf(RedFuture future) {
+        for (int i = _size - 1; i >= 0; i--) {
+            if (_futures[i] == future) {
+                return _sources[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param time time by {@link System#nanoTime()}, or 0 if not reached
+     * @return nanoseconds from the start of the execution until the given time, or -1 if not reached
+     */
+    private long sinceStart(long time) {
+        return time == 0 ? -1 : time - _startTime;
+    }
+
+    // Static
+
+    /**
+     * A traced function or command of the execution
+     */
+    public static final class Node {
+
+        // Fields
+
+        private final ExecutionTrace _trace;
+
+        private final int _index;
+
+        private final String _name;
+
+        /**
+         * Nodes of the preconditions, or null where a precondition was not declared by the execution
+         */
+        private final Node[] _preconditions;
+
+        private volatile long _readyTime;
+
+        private volatile long _startTime;
+
+        private volatile long _finishTime;
+
+        private volatile long _completeTime;
+
+        /**
+         * The order of completion of the node in the execution, or 0 if not yet completed
+         */
+        private volatile int _completion;
+
+        private volatile boolean _failed;
+
+        // Constructors
+
+        private Node(ExecutionTrace trace, int index, String name, Node[] preconditions) {
+            _trace = trace;
+            _index = index;
+            _name = name;
+            _preconditions = preconditions;
+        }
+
+        // Public
+
+        /**
+         * @return the index of the node in the order of declaration of the execution
+         */
+        public int index() {
+            return _index;
+        }
+
+        /**
+         * @return the name of the node, or null if not named
+         */
+        public String name() {
+            return _name;
+        }
+
+        /**
+         * @return the nodes of the preconditions which were declared by the execution
+         */
+        public List<Node> preconditions() {
+            List<Node> preconditions = new ArrayList<>(_preconditions.length);
+            for (Node precondition : _preconditions) {
+                if (precondition != null) {
+                    preconditions.add(precondition);
+                }
+            }
+            return preconditions;
+        }
+
+        /**
+         * @return the node of the precondition which was the last to complete,
+         * or null if there are no completed preconditions declared by the execution
+         */
+        public Node lastPrecondition() {
+            Node last = null;
+            for (Node precondition : _preconditions) {
+                if (precondition != null && precondition._completion != 0 &&
+                        (last == null || precondition._completion > last._completion)) {
+                    last = precondition;
+                }
+            }
+            return last;
+        }
+
+        /**
+         * @return nanoseconds from the start of the execution until all preconditions were met, or -1 if not met
+         */
+        public long readyNanos() {
+            return _trace.sinceStart(_readyTime);
+        }
+
+        /**
+         * @return nanoseconds from the start of the execution until the function or command started,
+         * or -1 if not started
+         */
+        public long startNanos() {
+            return _trace.sinceStart(_startTime);
+        }
+
+        /**
+         * @return nanoseconds from the start of the execution until the function or command returned,
+         * or -1 if not finished
+         */
+        public long finishNanos() {
+            return _trace.sinceStart(_finishTime);
+        }
+
+        /**
+         * @return nanoseconds from the start of the execution until the result or marker completed,
+         * or -1 if not completed
+         */
+        public long completeNanos() {
+            return _trace.sinceStart(_completeTime);
+        }
+
+        /**
+         * @return true if the result or marker has failed, either by the node or by its preconditions
+         */
+        public boolean failed() {
+            return _failed;
+        }
+
+        // Private
+
+        void ready() {
+            _readyTime = System.nanoTime();
+        }
+
+        /**
+         * Invoked once the function or command starts, which is also the time the preconditions
+         * were met if not marked separately by {@link #ready()}
+         */
+        void started() {
+            long time = System.nanoTime();
+            _startTime = time;
+            if (_readyTime == 0) {
+                _readyTime = time;
+            }
+        }
+
+        void finished() {
+            _finishTime = System.nanoTime();
+        }
+
+        /**
+         * Invoked once the result or marker of the node is resolved
+         */
+        private void completed() {
+            _completeTime = System.nanoTime();
+            _completion = _trace._completions.incrementAndGet();
+        }
+
+        /**
+         * Invoked once the result or marker of the node fails
+         *
+         * @param t cause of failure
+         */
+        private void failed(@SuppressWarnings("unused") Throwable t) {
+            _failed = true;
+            completed();
+        }
+
+    }
+
+    /**
+     * Records the completion of the result or marker of a node,
+     * serving as both the success and the failure callback of it
+     */
+    private static final class Completion implements EmptyCallback, Callback<Throwable> {
+
+        private final Node _node;
+
+        private Completion(Node node) {
+            _node = node;
+        }
+
+        @Override
+        public void call() {
+            _node.completed();
+        }
+
+        @Override
+        public void call(Throwable throwable) {
+            _node.failed(throwable);
+        }
+
+    }
+
+}
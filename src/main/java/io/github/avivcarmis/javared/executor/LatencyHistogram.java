@@ -0,0 +1,131 @@
+package io.github.avivcarmis.javared.executor;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of latencies in nanoseconds, with log-linear buckets in the spirit of HdrHistogram.
+ *
+ * Values are bucketed by their highest bit, and the range of each power of two is further split into
+ * 16 linear sub-buckets, so that recorded values are kept with a relative error of at most 1/16.
+ * Recording a value is a single atomic increment, and may be performed concurrently by any number
+ * of threads. Reading the histogram walks the buckets, and reflects the values recorded so far.
+ */
+public class LatencyHistogram {
+
+    // Constants
+
+    /**
+     * Number of bits of each power of two range used to split it into sub-buckets
+     */
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /**
+     * Number of sub-buckets of each power of two range
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Total number of buckets, covering all non negative long values
+     */
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    // Fields
+
+    /**
+     * Number of values recorded in each of the buckets
+     */
+    private final AtomicLongArray _buckets;
+
+    // Constructors
+
+    public LatencyHistogram() {
+        _buckets = new AtomicLongArray(BUCKETS);
+    }
+
+    // Public
+
+    /**
+     * Records a latency, negative latencies are recorded as zero
+     *
+     * @param nanos latency to record in nanoseconds
+     */
+    public void record(long nanos) {
+        _buckets.incrementAndGet(bucketOf(Math.max(nanos, 0)));
+    }
+
+    /**
+     * @return the number of recorded latencies
+     */
+    public long count() {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += _buckets.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the latency below or equal to which the given percentage of the recorded latencies fall,
+     * rounded up to the upper bound of its bucket
+     *
+     * @param percentile percentage of the recorded latencies, between 0 and 100
+     * @return the latency at the given percentile in nanoseconds, or 0 if no latency has been recorded
+     */
+    public long valueAtPercentile(double percentile) {
+        long count = count();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += _buckets.get(i);
+            if (seen >= rank) {
+                return upperBoundOf(i);
+            }
+        }
+        return max();
+    }
+
+    /**
+     * @return the maximal recorded latency in nanoseconds, rounded up to the upper bound of its bucket,
+     * or 0 if no latency has been recorded
+     */
+    public long max() {
+        for (int i = BUCKETS - 1; i >= 0; i--) {
+            if (_buckets.get(i) != 0) {
+                return upperBoundOf(i);
+            }
+        }
+        return 0;
+    }
+
+    // Private
+
+    /**
+     * @param value non negative value
+     * @return the index of the bucket of the given value
+     */
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    /**
+     * @param bucket index of a bucket
+     * @return the maximal value of the given bucket
+     */
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long subBucket = bucket % SUB_BUCKETS + SUB_BUCKETS;
+        long upperBound = ((subBucket + 1) << shift) - 1;
+        return upperBound < 0 ? Long.MAX_VALUE : upperBound;
+    }
+
+}
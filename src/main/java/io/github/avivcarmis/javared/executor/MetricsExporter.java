@@ -0,0 +1,18 @@
+package io.github.avivcarmis.javared.executor;
+
+/**
+ * An interface to export the metrics of named synchronizer executions into an external
+ * metrics library, see {@link MetricsRegistry#export(MetricsExporter)}.
+ *
+ * Implementations typically map the counters of each {@link NodeMetrics} to gauges or counters,
+ * and publish selected percentiles of its latency histogram.
+ */
+public interface MetricsExporter {
+
+    /**
+     * Exports the metrics of a single name
+     * @param metrics metrics to export
+     */
+    void export(NodeMetrics metrics);
+
+}
@@ -0,0 +1,71 @@
+package io.github.avivcarmis.javared.executor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the {@link NodeMetrics} of named synchronizer executions, by their names.
+ *
+ * Synchronizers record into the {@link #global()} registry unless overriding
+ * {@link BaseRedSynchronizer#metricsRegistry()}. Executions declared without a name are not recorded.
+ * The registry does not depend on any metrics library; instead, its metrics may be polled
+ * periodically by {@link #export(MetricsExporter)}.
+ */
+public class MetricsRegistry {
+
+    // Constants
+
+    /**
+     * The registry used by default by all synchronizers
+     */
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+    // Fields
+
+    private final ConcurrentHashMap<String, NodeMetrics> _metrics;
+
+    // Constructors
+
+    public MetricsRegistry() {
+        _metrics = new ConcurrentHashMap<>();
+    }
+
+    // Public
+
+    /**
+     * @param name name of the executions
+     * @return the metrics of the executions of the given name, created if not yet recorded
+     */
+    public NodeMetrics metrics(String name) {
+        NodeMetrics metrics = _metrics.get(name);
+        return metrics == null ? _metrics.computeIfAbsent(name, NodeMetrics::new) : metrics;
+    }
+
+    /**
+     * @return the metrics of all the names recorded so far
+     */
+    public List<NodeMetrics> all() {
+        return new ArrayList<>(_metrics.values());
+    }
+
+    /**
+     * Exports the metrics of all the names recorded so far
+     * @param exporter exporter to export by
+     */
+    public void export(MetricsExporter exporter) {
+        for (NodeMetrics metrics : _metrics.values()) {
+            exporter.export(metrics);
+        }
+    }
+
+    // Static
+
+    /**
+     * @return the registry used by default by all synchronizers
+     */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+}
@@ -0,0 +1,155 @@
+package io.github.avivcarmis.javared.executor;
+
+import io.github.avivcarmis.javared.future.callbacks.Callback;
+import io.github.avivcarmis.javared.future.callbacks.EmptyCallback;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of the executions of the functions and commands declared under a single name,
+ * see {@link BaseRedSynchronizer.Runner#named(String)} and {@link BaseRedSynchronizer.ReturnClassifier#named(String)}.
+ *
+ * Counters are kept in {@link LongAdder}s and latencies in a {@link LatencyHistogram}, so that executions
+ * of the same name may be recorded concurrently by any number of threads without locking.
+ * The latency of an execution is measured from the start of its function or command until its result
+ * or marker completes, and is recorded for both successful and failed executions.
+ */
+public class NodeMetrics {
+
+    // Fields
+
+    private final String _name;
+
+    private final LongAdder _started;
+
+    private final LongAdder _succeeded;
+
+    private final LongAdder _failed;
+
+    private final LongAdder _preconditionFailed;
+
+    private final LongAdder _deadlineExceeded;
+
+    private final LatencyHistogram _latencies;
+
+    // Constructors
+
+    NodeMetrics(String name) {
+        _name = name;
+        _started = new LongAdder();
+        _succeeded = new LongAdder();
+        _failed = new LongAdder();
+        _preconditionFailed = new LongAdder();
+        _deadlineExceeded = new LongAdder();
+        _latencies = new LatencyHistogram();
+    }
+
+    // Public
+
+    /**
+     * @return the name of the executions
+     */
+    public String name() {
+        return _name;
+    }
+
+    /**
+     * @return the number of executions whose function or command started
+     */
+    public long started() {
+        return _started.sum();
+    }
+
+    /**
+     * @return the number of started executions whose result or marker was resolved
+     */
+    public long succeeded() {
+        return _succeeded.sum();
+    }
+
+    /**
+     * @return the number of started executions whose result or marker failed
+     */
+    public long failed() {
+        return _failed.sum();
+    }
+
+    /**
+     * @return the number of executions which did not start since their preconditions were not met
+     */
+    public long preconditionFailed() {
+        return _preconditionFailed.sum();
+    }
+
+    /**
+     * @return the number of executions which did not start since the deadline of the synchronizer execution
+     * had passed by the time their preconditions were met
+     */
+    public long deadlineExceeded() {
+        return _deadlineExceeded.sum();
+    }
+
+    /**
+     * @return histogram of the latencies of the completed executions
+     */
+    public LatencyHistogram latencies() {
+        return _latencies;
+    }
+
+    // Private
+
+    /**
+     * Records the start of an execution
+     *
+     * @return the started execution, to register on its result or marker
+     */
+    Invocation start() {
+        _started.increment();
+        return new Invocation(this, System.nanoTime());
+    }
+
+    /**
+     * Records an execution which did not start since its preconditions were not met
+     */
+    void recordPreconditionFailure() {
+        _preconditionFailed.increment();
+    }
+
+    /**
+     * Records an execution which did not start since its deadline had passed
+     */
+    void recordDeadlineExceeded() {
+        _deadlineExceeded.increment();
+    }
+
+    // Static
+
+    /**
+     * A started execution, recording its completion once its result or marker completes
+     */
+    static final class Invocation implements EmptyCallback, Callback<Throwable> {
+
+        private final NodeMetrics _metrics;
+
+        private final long _startTime;
+
+        private Invocation(NodeMetrics metrics, long startTime) {
+            _metrics = metrics;
+            _startTime = startTime;
+        }
+
+        @Override
+        public void call() {
+            _metrics._succeeded.increment();
+            _metrics._latencies.record(System.nanoTime() - _startTime);
+        }
+
+        @Override
+        public void call(Throwable throwable) {
+            _metrics._failed.increment();
+            _metrics._latencies.record(System.nanoTime() - _startTime);
+        }
+
+    }
+
+}
@@ -0,0 +1,130 @@
+package io.github.avivcarmis.javared.executor;
+
+import io.github.avivcarmis.javared.future.RedFuture;
+import io.github.avivcarmis.javared.future.RedFutureOf;
+
+/**
+ * A class to implement execution of a Red Synchronizer which receive INPUT typed
+ * inputs and returns OUTPUT typed outputs, by an execution plan which is declared once.
+ *
+ * As opposed to {@link RedSynchronizer}, which runs the Construction Chains of the Synchronizer
+ * idiom on each execution, the Construction Chains of a planned synchronizer are run once, upon
+ * the first execution, and are compiled into an immutable plan. The following executions only schedule
+ * the planned executions over their own futures, without constructing any middleware.
+ *
+ * Since the plan is shared by all executions, the input is not given directly, but as a {@link Result},
+ * which may be used as a precondition of the executions depending on it. Functions and commands
+ * of the plan are invoked by every execution, and must therefore rely solely on the results passed to
+ * them, and on state shared by all executions. Likewise, the {@link #defaultExecutor()} is resolved
+ * once, upon compilation, and is not invoked by the following executions.
+ *
+ * @param <INPUT>  type of the input of the execution
+ * @param <OUTPUT> type of the output of the execution
+ */
+abstract public class RedPlannedSynchronizer<INPUT, OUTPUT> extends BaseRedSynchronizer {
+
+    // Fields
+
+    /**
+     * The compiled plan, or null if not yet compiled
+     */
+    private volatile Plan<OUTPUT> _plan;
+
+    // Public
+
+    /**
+     * Receive an input and executes it, returns a {@link RedFutureOf}
+     * of the execution output.
+     * The first execution compiles the plan, see {@link #plan(Result)}.
+     *
+     * When executed by a function or command of another execution, the execution is bounded
+     * by the deadline of that execution, see {@link #execute(Object, Deadline)}.
+     *
+     * @param input input to execute
+     * @return {@link RedFutureOf} of the execution output
+     */
+    public RedFutureOf<OUTPUT> execute(INPUT input) {
+        return execute(input, Deadline.current());
+    }
+
+    /**
+     * Receive an input and executes it within the given deadline, returns a {@link RedFutureOf}
+     * of the execution output. Functions and commands whose preconditions are met only after
+     * the deadline has passed are not started, and fail with a {@link DeadlineExceededException}.
+     * If the deadline has already passed, the execution fails without running at all.
+     *
+     * Cancelling the returned future cancels the execution - functions and commands which have not
+     * started are skipped, and futures returned by running functions are cancelled.
+     *
+     * @param input    input to execute
+     * @param deadline deadline of the execution, or {@link Deadline#none()} if not bounded
+     * @return {@link RedFutureOf} of the execution output
+     */
+    public RedFutureOf<OUTPUT> execute(INPUT input, Deadline deadline) {
+        if (deadline.isExpired()) {
+            return RedFuture.failedOf(DeadlineExceededException.INSTANCE);
+        }
+        // executors are resolved by the plan, so the default one is not needed by the execution itself
+        Execution execution = enter(deadline, null);
+        try {
+            return execution.output(compiled().execute(execution, input));
+        } catch (Throwable t) {
+            return RedFuture.failedOf(t);
+        } finally {
+            exit(execution);
+        }
+    }
+
+    // Private
+
+    /**
+     * Declares the execution flow of the Synchronizer. Invoked once, by the first execution,
+     * while the declared executions are recorded rather than executed. If declaring the plan fails,
+     * that execution fails and the following execution declares the plan again.
+     * All preconditions must be declared by the plan itself, starting from the given input.
+     *
+     * @param input result of the input of each execution
+     * @return the result producing the output of the execution
+     * @throws Throwable to enable throwable catching
+     */
+    abstract protected Result<OUTPUT> plan(Result<INPUT> input) throws Throwable;
+
+    /**
+     * Returns the compiled plan, compiling it upon the first execution. Concurrent first executions
+     * wait for a single compilation, so that {@link #plan(Result)} is not invoked concurrently.
+     *
+     * @return the compiled plan
+     * @throws Throwable if declaring the plan fails
+     */
+    private Plan<OUTPUT> compiled() throws Throwable {
+        Plan<OUTPUT> plan = _plan;
+        if (plan != null) {
+            return plan;
+        }
+        synchronized (this) {
+            plan = _plan;
+            if (plan == null) {
+                plan = compile();
+                _plan = plan;
+            }
+            return plan;
+        }
+    }
+
+    /**
+     * Records the executions declared by {@link #plan(Result)} into a plan
+     *
+     * @return the compiled plan
+     * @throws Throwable if declaring the plan fails
+     */
+    private Plan<OUTPUT> compile() throws Throwable {
+        Recorder recorder = new Recorder();
+        Execution execution = enter(recorder);
+        try {
+            return recorder.compile(plan(recorder.input()));
+        } finally {
+            exit(execution);
+        }
+    }
+
+}
@@ -18,15 +18,41 @@ abstract public class RedSynchronizer<INPUT, OUTPUT> extends BaseRedSynchronizer
      * Receive an input and executes it, returns a {@link RedFutureOf}
      * of the execution output.
      *
+     * When executed by a function or command of another execution, the execution is bounded
+     * by the deadline of that execution, see {@link #execute(Object, Deadline)}.
+     *
      * @param input input to execute
      * @return {@link RedFutureOf} of the execution output
      */
     public RedFutureOf<OUTPUT> execute(INPUT input) {
+        return execute(input, Deadline.current());
+    }
+
+    /**
+     * Receive an input and executes it within the given deadline, returns a {@link RedFutureOf}
+     * of the execution output. Functions and commands whose preconditions are met only after
+     * the deadline has passed are not started, and fail with a {@link DeadlineExceededException}.
+     * If the deadline has already passed, the execution fails without running at all.
+     *
+     * Cancelling the returned future cancels the execution - functions and commands which have not
+     * started are skipped, and futures returned by running functions are cancelled.
+     *
+     * @param input    input to execute
+     * @param deadline deadline of the execution, or {@link Deadline#none()} if not bounded
+     * @return {@link RedFutureOf} of the execution output
+     */
+    public RedFutureOf<OUTPUT> execute(INPUT input, Deadline deadline) {
+        if (deadline.isExpired()) {
+            return RedFuture.failedOf(DeadlineExceededException.INSTANCE);
+        }
+        Execution execution = enter(deadline);
         try {
             Result<OUTPUT> result = handle(input);
-            return result == null ? null : result._future;
+            return result == null ? null : execution.output(result._future);
         } catch (Throwable t) {
             return RedFuture.failedOf(t);
+        } finally {
+            exit(execution);
         }
     }
 
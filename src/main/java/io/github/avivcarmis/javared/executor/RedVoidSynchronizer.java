@@ -16,15 +16,41 @@ abstract public class RedVoidSynchronizer<INPUT> extends BaseRedSynchronizer {
      * Receive an input and executes it, returns a {@link RedFuture}
      * of the execution completion.
      *
+     * When executed by a function or command of another execution, the execution is bounded
+     * by the deadline of that execution, see {@link #execute(Object, Deadline)}.
+     *
      * @param input input to execute
      * @return {@link RedFuture} of the execution output
      */
     public RedFuture execute(INPUT input) {
+        return execute(input, Deadline.current());
+    }
+
+    /**
+     * Receive an input and executes it within the given deadline, returns a {@link RedFuture}
+     * of the execution completion. Functions and commands whose preconditions are met only after
+     * the deadline has passed are not started, and fail with a {@link DeadlineExceededException}.
+     * If the deadline has already passed, the execution fails without running at all.
+     *
+     * Cancelling the returned future cancels the execution - functions and commands which have not
+     * started are skipped, and futures returned by running functions are cancelled.
+     *
+     * @param input    input to execute
+     * @param deadline deadline of the execution, or {@link Deadline#none()} if not bounded
+     * @return {@link RedFuture} of the execution completion
+     */
+    public RedFuture execute(INPUT input, Deadline deadline) {
+        if (deadline.isExpired()) {
+            return RedFuture.failedOf(DeadlineExceededException.INSTANCE);
+        }
+        Execution execution = enter(deadline);
         try {
             Marker result = handle(input);
-            return result == null ? null : result._future;
+            return result == null ? null : execution.output(result._future);
         } catch (Throwable t) {
             return RedFuture.failedOf(t);
+        } finally {
+            exit(execution);
         }
     }
 
@@ -1,21 +1,34 @@
 package io.github.avivcarmis.javared.future;
 
 import com.google.common.util.concurrent.FutureCallback;
-import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
-import com.google.common.util.concurrent.SettableFuture;
 import io.github.avivcarmis.javared.future.callbacks.Callback;
 import io.github.avivcarmis.javared.future.callbacks.EmptyCallback;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * An abstract class to implement common functionality of both {@link RedFuture} and {@link RedFutureOf}
+ *
+ * The completion state of the future is held in a single volatile field. While the future is pending,
+ * the field holds a stack of registered callback nodes, pushed by CAS. Once the future is completed,
+ * the field is swapped with the result of the future, and the stack is drained exactly once.
+ * The result is the only place the value of the future is stored.
+ * Callbacks registered without an executor on an already completed future are invoked
+ * inline, without allocating a callback node.
+ * Callback stacks are drained through a per-thread trampoline. A future completed from within
+ * a callback does not drain its stack recursively, but hands it to the outermost drain of the thread,
+ * so that long chains of dependent futures complete in constant stack depth.
  */
 abstract public class BaseOpenRedFuture<T> implements RedFuture {
 
@@ -23,19 +36,39 @@ abstract public class BaseOpenRedFuture<T> implements RedFuture {
 
     private static final Logger LOGGER = Logger.getLogger(RedFuture.class.getName());
 
+    /**
+     * Atomic updater of {@link #_state}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<BaseOpenRedFuture, Object> STATE =
+            AtomicReferenceFieldUpdater.newUpdater(BaseOpenRedFuture.class, Object.class, "_state");
+
+    /**
+     * Sentinel result of a future resolved with a null value
+     */
+    private static final Object NIL = new Object();
+
+    /**
+     * The callback drain trampoline of the current thread
+     */
+    private static final ThreadLocal<Trampoline> TRAMPOLINE = ThreadLocal.withInitial(Trampoline::new);
+
     // Fields
 
     /**
-     * The underlying Guava future.
+     * The state of the future.
+     * While pending, holds either null or the top {@link Node} of the callback stack.
+     * Once failed, holds a {@link Failure}.
+     * Once resolved, holds the resulted value itself, or {@link #NIL} if resolved with null.
+     * The future it follows, if any, is kept by an {@link UpstreamNode} of the callback stack,
+     * so that a future which follows none spends no field on it.
      */
-    private final SettableFuture<T> _settableFuture;
+    private volatile Object _state;
 
     // Constructors
 
     @SuppressWarnings("WeakerAccess")
-    protected BaseOpenRedFuture() {
-        _settableFuture = SettableFuture.create();
-    }
+    protected BaseOpenRedFuture() {}
 
     // Public
 
@@ -63,67 +96,231 @@ abstract public class BaseOpenRedFuture<T> implements RedFuture {
         fail(throwable, false);
     }
 
+    /**
+     * Cancels the future. A cancelled future is considered failed with a {@link CancellationException},
+     * so all registered failure and finally callbacks will be invoked.
+     * If the future propagates cancellation, see {@link #propagateCancellation()}, and is following
+     * another future, the followed future is cancelled as well, and so on up the chain of followed
+     * futures which propagate cancellation, iteratively.
+     * If the future is already completed, this call will be ignored.
+     *
+     * @param mayInterruptIfRunning passed on to followed futures which are not red futures,
+     *                              since an open future is not bound to any running task
+     * @return true if the future was cancelled by this call, false if it was already complete
+     * @see java.util.concurrent.Future#cancel(boolean)
+     */
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        Object upstream = propagatedUpstream();
+        if (!complete(new Failure(new CancellationException("red future was cancelled"), true, true))) {
+            return false;
+        }
+        cancelled(mayInterruptIfRunning);
+        while (upstream instanceof BaseOpenRedFuture) {
+            BaseOpenRedFuture<?> future = (BaseOpenRedFuture<?>) upstream;
+            upstream = future.propagatedUpstream();
+            if (!future.complete(new Failure(new CancellationException("red future was cancelled"), true, true))) {
+                return true;
+            }
+            future.cancelled(mayInterruptIfRunning);
+        }
+        if (upstream instanceof Future) {
+            ((Future<?>) upstream).cancel(mayInterruptIfRunning);
+        }
+        return true;
+    }
+
+    /**
+     * Makes the future propagate cancellation to the future it follows, so that once the future is
+     * cancelled while still pending, the followed future is cancelled as well. This suits a future
+     * which exclusively owns the followed future, such as a future representing a single task.
+     * By default cancellation is not propagated, so that cancelling one of several futures
+     * following a shared future, for instance by {@link RedFuture#withTimeout(long, TimeUnit)},
+     * leaves the shared future and its other followers intact.
+     * May be invoked either before or after following.
+     */
+    public void propagateCancellation() {
+        UpstreamNode node = upstreamNode();
+        if (node != null) {
+            node._propagates = true;
+        }
+    }
+
+    /**
+     * Fails the future with a {@link TimeoutException} if it is not completed within the given timeout.
+     * The timeout is tracked by a timer shared by all red futures, so no thread is blocked waiting,
+     * and an expired future is failed by one of a small pool of dispatcher threads shared by all red futures,
+     * which therefore invokes its failure callbacks, unless registered with an executor. Once the future is otherwise completed,
+     * the timeout is cancelled and no longer retains the future. Once the future times out, later attempts
+     * to complete it are ignored without logging a warning.
+     * If the future is already completed, this call will be ignored.
+     *
+     * @param timeout the maximum time to wait for completion
+     * @param unit    the time unit of the timeout argument
+     */
+    public void failAfter(long timeout, TimeUnit unit) {
+        if (isComplete(_state)) {
+            return;
+        }
+        FutureTimeout futureTimeout = new FutureTimeout(this, timeout, unit);
+        HashedWheelTimer.INSTANCE.schedule(futureTimeout, timeout, unit);
+        register(new TimeoutNode(futureTimeout));
+    }
+
+    /**
+     * @return true if the future was cancelled before it was otherwise completed
+     * @see java.util.concurrent.Future#isCancelled()
+     */
+    public boolean isCancelled() {
+        Object state = _state;
+        return state instanceof Failure && ((Failure) state)._cancelled;
+    }
+
     @Override
     public RedFuture addSuccessCallback(EmptyCallback callback) {
-        Futures.addCallback(_settableFuture, safeCallback(o -> callback.call(), null));
+        Object state = _state;
+        if (!invokesInline(state)) {
+            register(new EmptySuccessNode(null, callback));
+        }
+        else if (!(state instanceof Failure)) {
+            call(callback);
+        }
         return this;
     }
 
     @Override
     public RedFuture addSuccessCallback(Executor executor, EmptyCallback callback) {
-        Futures.addCallback(_settableFuture, safeCallback(t -> callback.call(), null), executor);
+        register(new EmptySuccessNode(executor, callback));
         return this;
     }
 
     @Override
     public RedFuture addFailureCallback(Callback<Throwable> callback) {
-        Futures.addCallback(_settableFuture, safeCallback(null, callback));
+        Object state = _state;
+        if (!invokesInline(state)) {
+            register(new FailureNode(null, callback));
+        }
+        else if (state instanceof Failure) {
+            call(callback, ((Failure) state)._cause);
+        }
         return this;
     }
 
     @Override
     public RedFuture addFailureCallback(Executor executor, Callback<Throwable> callback) {
-        Futures.addCallback(_settableFuture, safeCallback(null, callback), executor);
+        register(new FailureNode(executor, callback));
         return this;
     }
 
     @Override
     public RedFuture addFinallyCallback(EmptyCallback callback) {
-        Futures.addCallback(_settableFuture, safeCallback(t -> callback.call(), throwable -> callback.call()));
+        if (!invokesInline(_state)) {
+            register(new FinallyNode(null, callback));
+        }
+        else {
+            call(callback);
+        }
         return this;
     }
 
     @Override
     public RedFuture addFinallyCallback(Executor executor, EmptyCallback callback) {
-        Futures.addCallback(_settableFuture, safeCallback(t -> callback.call(), throwable -> callback.call()), executor);
+        register(new FinallyNode(executor, callback));
+        return this;
+    }
+
+    @Override
+    public RedFuture addCallbacks(EmptyCallback onSuccess, Callback<Throwable> onFailure) {
+        Object state = _state;
+        if (!invokesInline(state)) {
+            register(new EmptyCallbacksNode(null, onSuccess, onFailure));
+        }
+        else if (state instanceof Failure) {
+            call(onFailure, ((Failure) state)._cause);
+        }
+        else {
+            call(onSuccess);
+        }
         return this;
     }
 
     @Override
+    public RedFuture addCallbacks(Executor executor, EmptyCallback onSuccess, Callback<Throwable> onFailure) {
+        register(new EmptyCallbacksNode(executor, onSuccess, onFailure));
+        return this;
+    }
+
+    /**
+     * The Guava view shares the completion state of this future, and cancelling the view cancels this future.
+     * The view is created once while this future is pending, and kept as a node of its callback stack rather
+     * than by a field, so that futures which are never viewed do not grow. A view requested once this future
+     * is complete is created anew, and is equal to any previous view.
+     *
+     * @return a Guava {@link ListenableFuture} view of this future
+     */
+    @Override
+    @SuppressWarnings("unchecked")
     public ListenableFuture<T> getListenableFuture() {
-        return _settableFuture;
+        Node created = null;
+        while (true) {
+            Object state = _state;
+            if (isComplete(state)) {
+                return created == null ? new ListenableView() : (ListenableView) created;
+            }
+            Node existing = findNode(state, ListenableView.class);
+            if (existing != null) {
+                return (ListenableView) existing;
+            }
+            if (created == null) {
+                created = new ListenableView();
+            }
+            created._next = (Node) state;
+            if (STATE.compareAndSet(this, state, created)) {
+                return (ListenableView) created;
+            }
+        }
+    }
+
+    /**
+     * Returns a {@link CompletableFuture} view of this future, completed by a single node
+     * registered on this future, with no thread hop in between.
+     * Completing or cancelling the view completes or cancels this future, respectively,
+     * and converting the view back with {@link RedFuture#fromStage(java.util.concurrent.CompletionStage)}
+     * returns this future.
+     *
+     * @return a {@link CompletableFuture} view of this future
+     */
+    public CompletableFuture<T> toCompletableFuture() {
+        CompletableView<T> view = new CompletableView<>(this);
+        Object state = _state;
+        if (invokesInline(state)) {
+            view.accept(this, state);
+        }
+        else {
+            register(new ViewNode(view));
+        }
+        return view;
     }
 
     @Override
     public void waitForCompletion() throws ExecutionException, InterruptedException {
-        _settableFuture.get();
+        report(await());
     }
 
     @Override
     public void waitForCompletion(long timeout, TimeUnit unit) throws ExecutionException, InterruptedException, TimeoutException {
-        _settableFuture.get(timeout, unit);
+        report(await(timeout, unit));
     }
 
     @Override
     public boolean isDone() {
-        return _settableFuture.isDone();
+        return isComplete(_state);
     }
 
     // Private
 
     /**
-     * Resolving the underlying {@link SettableFuture} with given value, either logging or
-     * not logging warning in case the future is already complete, according to require parameter.
+     * Resolving the future with given value, either logging or not logging warning in case
+     * the future is already complete, according to require parameter.
      *
      * @param value   value to resolve the future with
      * @param require whether or not to log warning in case the future is already complete
@@ -131,18 +328,16 @@ abstract public class BaseOpenRedFuture<T> implements RedFuture {
      */
     @SuppressWarnings("WeakerAccess")
     protected boolean resolve(T value, boolean require) {
-        if (!_settableFuture.set(value)) {
-            if (!_settableFuture.isCancelled() && require) {
-                LOGGER.log(Level.WARNING, "red future resolved more than once");
-            }
+        if (!complete(value == null ? NIL : value)) {
+            rejectResolution(require);
             return false;
         }
         return true;
     }
 
     /**
-     * Failing the underlying {@link SettableFuture} with given cause, either logging or
-     * not logging warning in case the future is already complete, according to require parameter.
+     * Failing the future with given cause, either logging or not logging warning in case
+     * the future is already complete, according to require parameter.
      *
      * @param throwable cause to fail the future with
      * @param require whether or not to log warning in case the future is already complete
@@ -150,8 +345,8 @@ abstract public class BaseOpenRedFuture<T> implements RedFuture {
      */
     @SuppressWarnings("WeakerAccess")
     protected boolean fail(Throwable throwable, boolean require) {
-        if (!_settableFuture.setException(throwable)) {
-            if (!_settableFuture.isCancelled() && require) {
+        if (!complete(new Failure(throwable, false, false))) {
+            if (require && !isPreempted()) {
                 LOGGER.log(Level.WARNING, "red future failed more than once");
             }
             return false;
@@ -159,6 +354,226 @@ abstract public class BaseOpenRedFuture<T> implements RedFuture {
         return true;
     }
 
+    /**
+     * Handles a resolution attempt of an already completed future,
+     * logging a warning if required and the future was not cancelled or timed out.
+     *
+     * @param require whether or not to log warning
+     */
+    void rejectResolution(boolean require) {
+        if (require && !isPreempted()) {
+            LOGGER.log(Level.WARNING, "red future resolved more than once");
+        }
+    }
+
+    /**
+     * @return true if the future was completed by a cancellation or a timeout, ahead of the party
+     * expected to complete it, whose later completion attempts are therefore expected
+     */
+    private boolean isPreempted() {
+        Object state = _state;
+        return state instanceof Failure && ((Failure) state)._preempted;
+    }
+
+    /**
+     * Records the future this future follows, so that cancelling this future cancels it as well,
+     * if this future propagates cancellation, see {@link #propagateCancellation()}.
+     * Only futures which are still pending record the followed future, and it is released
+     * once this future completes.
+     *
+     * @param upstream the followed future, either a {@link BaseOpenRedFuture} or any other
+     *                 {@link java.util.concurrent.Future}
+     */
+    void linkUpstream(Object upstream) {
+        UpstreamNode node = upstreamNode();
+        if (node != null) {
+            node._upstream = upstream;
+            if (isComplete(_state)) {
+                node._upstream = null;
+            }
+        }
+    }
+
+    /**
+     * Invoked once the future is cancelled, either directly or by a following future.
+     * Subclasses bound to other futures override this method to cancel them.
+     *
+     * @param mayInterruptIfRunning whether or not running tasks may be interrupted
+     */
+    void cancelled(boolean mayInterruptIfRunning) {}
+
+    /**
+     * @return the current state of the future
+     */
+    Object state() {
+        return _state;
+    }
+
+    /**
+     * Registers the given node to be invoked upon completion.
+     * If the future is already complete, the node is invoked immediately, unless it is to be invoked
+     * directly while the current thread has nodes pending dispatch by a drain, see {@link #invokesInline(Object)},
+     * in which case it is dispatched by the drain after them.
+     *
+     * @param node node to register
+     */
+    void register(Node node) {
+        while (true) {
+            Object state = _state;
+            if (isComplete(state)) {
+                if (node._executor != null || !node.runsCallbacks() || !TRAMPOLINE.get().append(this, node)) {
+                    node.dispatch(this, state);
+                }
+                return;
+            }
+            node._next = (Node) state;
+            if (STATE.compareAndSet(this, state, node)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Blocks until the future is complete.
+     *
+     * @return the result of the future
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     */
+    Object await() throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        Object state = _state;
+        if (isComplete(state)) {
+            return state;
+        }
+        WaiterNode waiter = new WaiterNode(Thread.currentThread());
+        register(waiter);
+        try {
+            while (!isComplete(state = _state)) {
+                LockSupport.park(this);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+            return state;
+        } finally {
+            waiter._thread = null;
+        }
+    }
+
+    /**
+     * Blocks for at most the given timeout until the future is complete.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the time unit of the timeout argument
+     * @return the result of the future
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     * @throws TimeoutException if the wait timed out
+     */
+    Object await(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        Object state = _state;
+        if (isComplete(state)) {
+            return state;
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        WaiterNode waiter = new WaiterNode(Thread.currentThread());
+        register(waiter);
+        try {
+            while (!isComplete(state = _state)) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new TimeoutException("red future was not completed within " + timeout + " " + unit);
+                }
+                LockSupport.parkNanos(this, remaining);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+            return state;
+        } finally {
+            waiter._thread = null;
+        }
+    }
+
+    /**
+     * Unwraps the given result in the manner of {@link java.util.concurrent.Future#get()}
+     *
+     * @param result result to unwrap
+     * @return the resulted value
+     * @throws ExecutionException if the result is a failure
+     * @throws CancellationException if the result is a cancellation
+     */
+    @SuppressWarnings("unchecked")
+    T report(Object result) throws ExecutionException {
+        if (!(result instanceof Failure)) {
+            return (T) value(result);
+        }
+        Failure failure = (Failure) result;
+        if (failure._cancelled) {
+            throw (CancellationException) failure._cause;
+        }
+        throw new ExecutionException(failure._cause);
+    }
+
+    /**
+     * Registers a callback to be invoked with the resulted value on success.
+     * If the future is already resolved and no executor is given, the callback is invoked inline.
+     *
+     * @param executor executor to invoke the callback, or null to invoke it directly
+     * @param callback callback to be invoked with the resulted value
+     */
+    @SuppressWarnings("unchecked")
+    void registerSuccess(Executor executor, Callback<T> callback) {
+        Object state = _state;
+        if (executor != null || !invokesInline(state)) {
+            register(new SuccessNode<>(executor, callback));
+        }
+        else if (!(state instanceof Failure)) {
+            call(callback, (T) value(state));
+        }
+    }
+
+    /**
+     * Registers a callback to be invoked with the resulted value on success, and a callback
+     * to be invoked with the cause on failure, using a single node.
+     * If the future is already complete and no executor is given, the matching callback is invoked inline.
+     *
+     * @param executor  executor to invoke the callbacks, or null to invoke them directly
+     * @param onSuccess callback to be invoked with the resulted value
+     * @param onFailure callback to be invoked with the cause of failure
+     */
+    @SuppressWarnings("unchecked")
+    void registerCallbacks(Executor executor, Callback<T> onSuccess, Callback<Throwable> onFailure) {
+        Object state = _state;
+        if (executor != null || !invokesInline(state)) {
+            register(new CallbacksNode<>(executor, onSuccess, onFailure));
+        }
+        else if (state instanceof Failure) {
+            call(onFailure, ((Failure) state)._cause);
+        }
+        else {
+            call(onSuccess, (T) value(state));
+        }
+    }
+
+    /**
+     * Wait-free read of the resulted value of the future.
+     *
+     * @return the resulted value if the future is successfully resolved, null otherwise
+     */
+    @SuppressWarnings("unchecked")
+    T resolvedValue() {
+        Object state = _state;
+        if (!isComplete(state) || state instanceof Failure) {
+            return null;
+        }
+        return (T) value(state);
+    }
+
     /**
      * Generates a guava {@link FutureCallback} to attach to a {@link ListenableFuture} with given
      * success and failure callbacks. Wraps the invocations such that if an uncaught runtime exception
@@ -187,15 +602,853 @@ abstract public class BaseOpenRedFuture<T> implements RedFuture {
         };
     }
 
-    private <K> void call(Callback<K> callback, K value) {
+    /**
+     * Attempts to move the future into the given result, and drains the
+     * callback stack on success.
+     *
+     * @param result result to set
+     * @return true if completed by this call, false if the future is already complete
+     */
+    boolean complete(Object result) {
+        while (true) {
+            Object state = _state;
+            if (isComplete(state)) {
+                return false;
+            }
+            if (STATE.compareAndSet(this, state, result)) {
+                drain(this, (Node) state);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Finds the {@link UpstreamNode} of the callback stack, pushing one if there is none.
+     *
+     * @return the upstream node, or null if the future is already complete
+     */
+    private UpstreamNode upstreamNode() {
+        Node created = null;
+        while (true) {
+            Object state = _state;
+            if (isComplete(state)) {
+                return null;
+            }
+            Node existing = findNode(state, UpstreamNode.class);
+            if (existing != null) {
+                return (UpstreamNode) existing;
+            }
+            if (created == null) {
+                created = new UpstreamNode();
+            }
+            created._next = (Node) state;
+            if (STATE.compareAndSet(this, state, created)) {
+                return (UpstreamNode) created;
+            }
+        }
+    }
+
+    /**
+     * @param state state of a pending future
+     * @param type  type of node to find
+     * @return the topmost node of the given type in the callback stack, or null if none
+     */
+    private static Node findNode(Object state, Class<?> type) {
+        for (Node node = (Node) state; node != null; node = node._next) {
+            if (type.isInstance(node)) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the future to cancel along with this one from the callback stack. Should two upstream nodes
+     * be pushed concurrently, cancellation is propagated if requested by either.
+     *
+     * @return the future this future follows, if pending and propagating cancellation, null otherwise
+     */
+    private Object propagatedUpstream() {
+        Object state = _state;
+        if (isComplete(state)) {
+            return null;
+        }
+        Object upstream = null;
+        boolean propagates = false;
+        for (Node node = (Node) state; node != null; node = node._next) {
+            if (node instanceof UpstreamNode) {
+                UpstreamNode upstreamNode = (UpstreamNode) node;
+                propagates |= upstreamNode._propagates;
+                if (upstream == null) {
+                    upstream = upstreamNode._upstream;
+                }
+            }
+        }
+        return propagates ? upstream : null;
+    }
+
+    /**
+     * Reverses the given callback stack to registration order, and dispatches each node.
+     * Nodes with an executor are queued, and nodes which run no callbacks, such as those waking up
+     * blocked threads, are invoked right away, so that neither waits behind a callback blocking the
+     * current thread. The remaining nodes are invoked directly, in registration order.
+     * If the current thread is already draining a callback stack, these are pushed in front
+     * of its pending nodes and dispatched by the outer drain once the current callback returns,
+     * preserving the depth-first order of invocation without growing the stack.
+     *
+     * @param future the completed future
+     * @param head   top of the callback stack
+     */
+    private static void drain(BaseOpenRedFuture<?> future, Node head) {
+        Node reversed = null;
+        while (head != null) {
+            Node next = head._next;
+            head._next = reversed;
+            reversed = head;
+            head = next;
+        }
+        Object result = future._state;
+        Node first = null;
+        Node last = null;
+        while (reversed != null) {
+            Node next = reversed._next;
+            reversed._next = null;
+            if (reversed._executor != null || !reversed.runsCallbacks()) {
+                reversed.dispatch(future, result);
+            }
+            else {
+                reversed._future = future;
+                if (last == null) {
+                    first = reversed;
+                }
+                else {
+                    last._next = reversed;
+                }
+                last = reversed;
+            }
+            reversed = next;
+        }
+        if (first == null) {
+            return;
+        }
+        Trampoline trampoline = TRAMPOLINE.get();
+        trampoline.push(first, last);
+        if (trampoline._draining) {
+            return;
+        }
+        trampoline._draining = true;
+        try {
+            Node node;
+            while ((node = trampoline.poll()) != null) {
+                BaseOpenRedFuture<?> nodeFuture = node._future;
+                node._future = null;
+                node.dispatch(nodeFuture, nodeFuture._state);
+            }
+        } finally {
+            trampoline._draining = false;
+        }
+    }
+
+    /**
+     * @param state state of a future
+     * @return true if the given state represents a completed future
+     */
+    static boolean isComplete(Object state) {
+        return state != null && !(state instanceof Node);
+    }
+
+    /**
+     * Tests whether a callback registered without an executor may be invoked inline by the registering thread.
+     * While the current thread has nodes pending dispatch by a drain, these may include earlier callbacks
+     * of the same future, so the callback is registered as a node instead, and dispatched after them.
+     *
+     * @param state state of a future
+     * @return true if the given state represents a completed future, and the current thread has no nodes
+     * pending dispatch
+     */
+    static boolean invokesInline(Object state) {
+        return isComplete(state) && TRAMPOLINE.get()._pending == null;
+    }
+
+    /**
+     * @param state state of a completed future
+     * @return true if the given state represents a failed future
+     */
+    static boolean isFailure(Object state) {
+        return state instanceof Failure;
+    }
+
+    /**
+     * @param state state of a failed future
+     * @return the cause of failure
+     */
+    static Throwable causeOf(Object state) {
+        return ((Failure) state)._cause;
+    }
+
+    /**
+     * Extracts the resulted value of a successful result.
+     * Subclasses keeping their value outside of the state override this method to provide it.
+     *
+     * @param result result of a resolved future
+     * @return the resulted value
+     */
+    Object value(Object result) {
+        return result == NIL ? null : result;
+    }
+
+    static <K> void call(Callback<K> callback, K value) {
         if (callback != null) {
             try {
                 callback.call(value);
             } catch (Throwable caught) {
-                LOGGER.log(Level.WARNING, "exception thrown during red future callback execution, " +
-                        "this may cause system freeze due to callback propagation stop", caught);
+                logCallbackFailure(caught);
             }
         }
     }
 
+    static void call(EmptyCallback callback) {
+        try {
+            callback.call();
+        } catch (Throwable caught) {
+            logCallbackFailure(caught);
+        }
+    }
+
+    /**
+     * Queues the given callback invocation to the given executor, logging a warning if it is rejected
+     *
+     * @param executor executor to invoke the callback
+     * @param task     the callback invocation
+     */
+    static void queue(Executor executor, Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (Throwable caught) {
+            LOGGER.log(Level.WARNING, "failed to queue red future callback to executor", caught);
+        }
+    }
+
+    /**
+     * Queues the completion of the given future to the given executor. If rejected, the future is
+     * failed by the current thread with the cause of rejection, so that it is not left pending forever.
+     *
+     * @param executor executor to complete the future
+     * @param task     the completion of the future
+     * @param target   the future completed by the task
+     */
+    static void queue(Executor executor, Runnable task, BaseOpenRedFuture<?> target) {
+        try {
+            executor.execute(task);
+        } catch (Throwable caught) {
+            target.fail(caught, false);
+        }
+    }
+
+    static void logCallbackFailure(Throwable caught) {
+        LOGGER.log(Level.WARNING, "exception thrown during red future callback execution, " +
+                "this may cause system freeze due to callback propagation stop", caught);
+    }
+
+    // Static
+
+    /**
+     * The result of a failed future, holding the cause of failure.
+     */
+    private static final class Failure {
+
+        /**
+         * The cause of failure
+         */
+        private final Throwable _cause;
+
+        /**
+         * Whether or not the failure is a cancellation
+         */
+        private final boolean _cancelled;
+
+        /**
+         * Whether or not the failure is a cancellation or a timeout, after which
+         * completion attempts are ignored without a warning
+         */
+        private final boolean _preempted;
+
+        private Failure(Throwable cause, boolean cancelled, boolean preempted) {
+            _cause = cause;
+            _cancelled = cancelled;
+            _preempted = preempted;
+        }
+
+    }
+
+    /**
+     * Per-thread state of callback stack draining
+     */
+    private static final class Trampoline {
+
+        /**
+         * Whether or not the thread is currently draining a callback stack
+         */
+        private boolean _draining;
+
+        /**
+         * Nodes pending dispatch by the current drain, linked in invocation order
+         */
+        private Node _pending;
+
+        /**
+         * The last node pending dispatch, or null if none
+         */
+        private Node _tail;
+
+        /**
+         * Pushes the given linked nodes in front of the pending nodes
+         *
+         * @param first the first node to push
+         * @param last  the last node to push
+         */
+        private void push(Node first, Node last) {
+            last._next = _pending;
+            if (_pending == null) {
+                _tail = last;
+            }
+            _pending = first;
+        }
+
+        /**
+         * Appends a node of the given completed future after the pending nodes, if any
+         *
+         * @param future the completed future
+         * @param node   node to append
+         * @return true if appended, false if no nodes are pending dispatch
+         */
+        private boolean append(BaseOpenRedFuture<?> future, Node node) {
+            if (_pending == null) {
+                return false;
+            }
+            node._future = future;
+            _tail._next = node;
+            _tail = node;
+            return true;
+        }
+
+        /**
+         * @return the next node pending dispatch, unlinked, or null if none
+         */
+        private Node poll() {
+            Node node = _pending;
+            if (node != null) {
+                _pending = node._next;
+                node._next = null;
+                if (_pending == null) {
+                    _tail = null;
+                }
+            }
+            return node;
+        }
+
+    }
+
+    /**
+     * A single entry of the callback stack.
+     * Each node is invoked exactly once, either directly by the completing thread,
+     * or by its executor, if one is given.
+     */
+    abstract static class Node implements Runnable {
+
+        /**
+         * Executor to invoke the node with, or null to invoke it directly
+         */
+        private final Executor _executor;
+
+        /**
+         * The next node in the callback stack
+         */
+        private Node _next;
+
+        /**
+         * The completed future to invoke the node with, set while pending dispatch by a drain,
+         * or when dispatched to an executor
+         */
+        private BaseOpenRedFuture<?> _future;
+
+        Node(Executor executor) {
+            _executor = executor;
+        }
+
+        @Override
+        public void run() {
+            invoke(_future, _future._state);
+        }
+
+        /**
+         * Invokes the node either directly or through its executor
+         * @param future the completed future
+         * @param result the result of the future
+         */
+        void dispatch(BaseOpenRedFuture<?> future, Object result) {
+            if (_executor == null) {
+                invoke(future, result);
+                return;
+            }
+            _future = future;
+            queue(_executor, this);
+        }
+
+        /**
+         * @return true if invoking the node may run callbacks, so that a drain invokes it in registration order
+         * with the other such nodes, false if it may be invoked right away
+         */
+        boolean runsCallbacks() {
+            return true;
+        }
+
+        /**
+         * Invokes the callbacks of the node according to the given result
+         * @param future the completed future
+         * @param result the result of the future
+         */
+        abstract void invoke(BaseOpenRedFuture<?> future, Object result);
+
+    }
+
+    /**
+     * A node invoking an {@link EmptyCallback} on success
+     */
+    private static final class EmptySuccessNode extends Node {
+
+        private final EmptyCallback _callback;
+
+        private EmptySuccessNode(Executor executor, EmptyCallback callback) {
+            super(executor);
+            _callback = callback;
+        }
+
+        @Override
+        void invoke(BaseOpenRedFuture<?> future, Object result) {
+            if (!(result instanceof Failure)) {
+                call(_callback);
+            }
+        }
+
+    }
+
+    /**
+     * A node invoking a {@link Callback} with the resulted value on success
+     */
+    private static final class SuccessNode<K> extends Node {
+
+        private final Callback<K> _callback;
+
+        private SuccessNode(Executor executor, Callback<K> callback) {
+            super(executor);
+            _callback = callback;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void invoke(BaseOpenRedFuture<?> future, Object result) {
+            if (!(result instanceof Failure)) {
+                call(_callback, (K) future.value(result));
+            }
+        }
+
+    }
+
+    /**
+     * A node invoking a {@link Callback} with the cause on failure
+     */
+    private static final class FailureNode extends Node {
+
+        private final Callback<Throwable> _callback;
+
+        private FailureNode(Executor executor, Callback<Throwable> callback) {
+            super(executor);
+            _callback = callback;
+        }
+
+        @Override
+        void invoke(BaseOpenRedFuture<?> future, Object result) {
+            if (result instanceof Failure) {
+                call(_callback, ((Failure) result)._cause);
+            }
+        }
+
+    }
+
+    /**
+     * A node invoking an {@link EmptyCallback} on either success or failure
+     */
+    private static final class FinallyNode extends Node {
+
+        private final EmptyCallback _callback;
+
+        private FinallyNode(Executor executor, EmptyCallback callback) {
+            super(executor);
+            _callback = callback;
+        }
+
+        @Override
+        void invoke(BaseOpenRedFuture<?> future, Object result) {
+            call(_callback);
+        }
+
+    }
+
+    /**
+     * A node invoking an {@link EmptyCallback} on success, or a {@link Callback} with the cause on failure
+     */
+    private static final class EmptyCallbacksNode extends Node {
+
+        private final EmptyCallback _onSuccess;
+
+        private final Callback<Throwable> _onFailure;
+
+        private EmptyCallbacksNode(Executor executor, EmptyCallback onSuccess, Callback<Throwable> onFailure) {
+            super(executor);
+            _onSuccess = onSuccess;
+            _onFailure = onFailure;
+        }
+
+        @Override
+        void invoke(BaseOpenRedFuture<?> future, Object result) {
+            if (result instanceof Failure) {
+                call(_onFailure, ((Failure) result)._cause);
+            }
+            else {
+                call(_onSuccess);
+            }
+        }
+
+    }
+
+    /**
+     * A node invoking a {@link Callback} with the resulted value on success,
+     * or a {@link Callback} with the cause on failure
+     */
+    private static final class CallbacksNode<K> extends Node {
+
+        private final Callback<K> _onSuccess;
+
+        private final Callback<Throwable> _onFailure;
+
+        private CallbacksNode(Executor executor, Callback<K> onSuccess, Callback<Throwable> onFailure) {
+            super(executor);
+            _onSuccess = onSuccess;
+            _onFailure = onFailure;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void invoke(BaseOpenRedFuture<?> future, Object result) {
+            if (result instanceof Failure) {
+                call(_onFailure, ((Failure) result)._cause);
+            }
+            else {
+                call(_onSuccess, (K) future.value(result));
+            }
+        }
+
+    }
+
+    /**
+     * A node running a Guava listener on either success or failure
+     */
+    private static final class ListenerNode extends Node {
+
+        private final Runnable _listener;
+
+        private ListenerNode(Executor executor, Runnable listener) {
+            super(executor);
+            _listener = listener;
+        }
+
+        @Override
+        void invoke(BaseOpenRedFuture<?> future, Object result) {
+            try {
+                _listener.run();
+            } catch (Throwable caught) {
+                logCallbackFailure(caught);
+            }
+        }
+
+    }
+
+    /**
+     * A node cancelling the timeout of the future once it is completed
+     */
+    private static final class TimeoutNode extends Node {
+
+        private final FutureTimeout _timeout;
+
+        private TimeoutNode(FutureTimeout timeout) {
+            super(null);
+            _timeout = timeout;
+        }
+
+        @Override
+        boolean runsCallbacks() {
+            return false;
+        }
+
+        @Override
+        void invoke(BaseOpenRedFuture<?> future, Object result) {
+            if (_timeout.cancel()) {
+                _timeout._future = null;
+            }
+        }
+
+    }
+
+    /**
+     * A timeout failing the future with a {@link TimeoutException} on expiration
+     */
+    private static final class FutureTimeout extends HashedWheelTimer.Timeout implements Runnable {
+
+        /**
+         * The future to fail, cleared once the timeout is cancelled
+         */
+        private BaseOpenRedFuture<?> _future;
+
+        private final long _timeout;
+
+        private final TimeUnit _unit;
+
+        private FutureTimeout(BaseOpenRedFuture<?> future, long timeout, TimeUnit unit) {
+            _future = future;
+            _timeout = timeout;
+            _unit = unit;
+        }
+
+        /**
+         * Hands the failure of the future to a dispatcher thread, keeping the timer thread free of callbacks
+         */
+        @Override
+        void expire() {
+            queue(Dispatcher.INSTANCE, this, _future);
+        }
+
+        @Override
+        public void run() {
+            _future.complete(new Failure(
+                    new TimeoutException("red future was not completed within " + _timeout + " " + _unit), false, true));
+        }
+
+    }
+
+    /**
+     * A node keeping the future this future follows while pending, and whether or not to cancel it
+     * along with this future, see {@link #propagateCancellation()}. Only pushed once either is set,
+     * and releases the followed future once this future completes.
+     */
+    private static final class UpstreamNode extends Node {
+
+        /**
+         * Either a {@link BaseOpenRedFuture}, any other {@link java.util.concurrent.Future}, or null
+         */
+        private volatile Object _upstream;
+
+        private volatile boolean _propagates;
+
+        private UpstreamNode() {
+            super(null);
+        }
+
+        @Override
+        boolean runsCallbacks() {
+            return false;
+        }
+
+        @Override
+        void invoke(BaseOpenRedFuture<?> future, Object result) {
+            _upstream = null;
+        }
+
+    }
+
+    /**
+     * A node waking up a thread blocked on the future
+     */
+    private static final class WaiterNode extends Node {
+
+        private volatile Thread _thread;
+
+        private WaiterNode(Thread thread) {
+            super(null);
+            _thread = thread;
+        }
+
+        @Override
+        boolean runsCallbacks() {
+            return false;
+        }
+
+        @Override
+        void invoke(BaseOpenRedFuture<?> future, Object result) {
+            Thread thread = _thread;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+    }
+
+    /**
+     * A node completing a {@link CompletableView} with the result of the future
+     */
+    private static final class ViewNode extends Node {
+
+        private final CompletableView<?> _view;
+
+        private ViewNode(CompletableView<?> view) {
+            super(null);
+            _view = view;
+        }
+
+        @Override
+        void invoke(BaseOpenRedFuture<?> future, Object result) {
+            _view.accept(future, result);
+        }
+
+    }
+
+    /**
+     * A Guava {@link ListenableFuture} view sharing the completion state of the enclosing future
+     */
+    private final class ListenableView extends Node implements ListenableFuture<T> {
+
+        private ListenableView() {
+            super(null);
+        }
+
+        @Override
+        boolean runsCallbacks() {
+            return false;
+        }
+
+        @Override
+        void invoke(BaseOpenRedFuture<?> future, Object result) {}
+
+        @Override
+        public void addListener(Runnable listener, Executor executor) {
+            register(new ListenerNode(executor, listener));
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return BaseOpenRedFuture.this.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return BaseOpenRedFuture.this.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return BaseOpenRedFuture.this.isDone();
+        }
+
+        @Override
+        public T get() throws InterruptedException, ExecutionException {
+            return report(await());
+        }
+
+        @Override
+        public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            return report(await(timeout, unit));
+        }
+
+        /**
+         * Views are equal if they view the same future, whether or not created by the same call
+         */
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof BaseOpenRedFuture.ListenableView &&
+                    ((BaseOpenRedFuture<?>.ListenableView) o).source() == source();
+        }
+
+        @Override
+        public int hashCode() {
+            return source().hashCode();
+        }
+
+        private BaseOpenRedFuture<T> source() {
+            return BaseOpenRedFuture.this;
+        }
+
+    }
+
+    /**
+     * A {@link CompletableFuture} view sharing the completion state of a source future.
+     * The view is completed once the source future completes, and completion attempts
+     * on the view are forwarded to the source future.
+     *
+     * @param <K> type of the future value
+     */
+    static final class CompletableView<K> extends CompletableFuture<K> {
+
+        private final BaseOpenRedFuture<K> _source;
+
+        private CompletableView(BaseOpenRedFuture<K> source) {
+            _source = source;
+        }
+
+        /**
+         * @return the future this view shares the completion state of
+         */
+        BaseOpenRedFuture<K> source() {
+            return _source;
+        }
+
+        /**
+         * Resolves the source future and completes the view along with it, so that the value
+         * is visible to the caller even when the source callbacks are deferred by a trampoline
+         * @param value the value to complete with
+         * @return whether or not the source was resolved by this call
+         */
+        @Override
+        public boolean complete(K value) {
+            if (!_source.resolve(value, false)) {
+                return false;
+            }
+            super.complete(value);
+            return true;
+        }
+
+        @Override
+        public boolean completeExceptionally(Throwable ex) {
+            if (!_source.fail(ex, false)) {
+                return false;
+            }
+            super.completeExceptionally(ex);
+            return true;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (!_source.cancel(mayInterruptIfRunning)) {
+                return false;
+            }
+            super.cancel(mayInterruptIfRunning);
+            return true;
+        }
+
+        /**
+         * Completes the view itself with the given result of the source future
+         * @param future the completed source future
+         * @param result the result of the source future
+         */
+        @SuppressWarnings("unchecked")
+        private void accept(BaseOpenRedFuture<?> future, Object result) {
+            if (result instanceof Failure) {
+                super.completeExceptionally(((Failure) result)._cause);
+            }
+            else {
+                super.complete((K) future.value(result));
+            }
+        }
+
+    }
+
 }
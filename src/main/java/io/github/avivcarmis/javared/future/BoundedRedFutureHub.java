@@ -0,0 +1,178 @@
+package io.github.avivcarmis.javared.future;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.Supplier;
+
+/**
+ * A {@link RedFutureHub} launching submitted tasks with a bounded number of them in flight,
+ * @see {@link RedFutureHub#bounded(int)}.
+ *
+ * Each submitted task is represented by a tracked {@link OpenRedFuture}, which follows the future
+ * supplied by the task once launched. Thus, unions of the hub cover all submitted tasks, launched or not,
+ * and cancelling the representing future by a {@link CancelPolicy} either cancels the launched future,
+ * or prevents the task from being launched at all. A launched task holds its permit until the future it
+ * supplied completes, even if the representing future is cancelled beforehand.
+ *
+ * The number of tasks in flight is kept in a lock-free permit counter. Tasks are launched by a single
+ * thread at a time, namely the one to increment the work counter from zero, which is either a submitting
+ * thread or the thread completing a task in flight. No dispatcher thread is involved, and tasks completing
+ * synchronously upon launch do not deepen the stack.
+ */
+public class BoundedRedFutureHub extends RedFutureHub {
+
+    // Constants
+
+    /**
+     * Atomic updater of {@link #_inFlight}
+     */
+    private static final AtomicIntegerFieldUpdater<BoundedRedFutureHub> IN_FLIGHT =
+            AtomicIntegerFieldUpdater.newUpdater(BoundedRedFutureHub.class, "_inFlight");
+
+    /**
+     * Atomic updater of {@link #_work}
+     */
+    private static final AtomicIntegerFieldUpdater<BoundedRedFutureHub> WORK =
+            AtomicIntegerFieldUpdater.newUpdater(BoundedRedFutureHub.class, "_work");
+
+    // Fields
+
+    /**
+     * Maximal number of tasks in flight
+     */
+    private final int _maxInFlight;
+
+    /**
+     * Submitted tasks which are not yet launched
+     */
+    private final ConcurrentLinkedQueue<Task> _queue;
+
+    /**
+     * Number of launched tasks which are not yet complete
+     */
+    private volatile int _inFlight;
+
+    /**
+     * Number of launch requests which are not yet handled, non zero while a thread is launching tasks
+     */
+    private volatile int _work;
+
+    // Constructors
+
+    @SuppressWarnings("WeakerAccess")
+    protected BoundedRedFutureHub(int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("max in flight must be positive, got " + maxInFlight);
+        }
+        _maxInFlight = maxInFlight;
+        _queue = new ConcurrentLinkedQueue<>();
+    }
+
+    // Public
+
+    /**
+     * Submits a task to the hub. The task is launched as soon as the number of tasks in flight permits,
+     * possibly by the current thread. The returned future is tracked by the hub, and follows the future
+     * supplied by the task once launched. If the task throws, or supplies null, the returned future is failed.
+     *
+     * @param task task supplying a future once launched
+     * @return a future following the future supplied by the task
+     */
+    public RedFuture submit(Supplier<? extends RedFuture> task) {
+        OpenRedFuture future = provideFuture();
+        _queue.offer(new Task(task, future));
+        launch();
+        return future;
+    }
+
+    /**
+     * @return the number of launched tasks which are not yet complete
+     */
+    public int inFlight() {
+        return _inFlight;
+    }
+
+    // Private
+
+    /**
+     * Requests to launch the queued tasks permitted by the number of tasks in flight.
+     * If another thread is currently launching, it handles the request on behalf of the current thread.
+     */
+    private void launch() {
+        if (WORK.getAndIncrement(this) != 0) {
+            return;
+        }
+        int work = 1;
+        do {
+            launchPermitted();
+            work = WORK.addAndGet(this, -work);
+        } while (work != 0);
+    }
+
+    /**
+     * Launches queued tasks while permitted. Only invoked by the launching thread, which is
+     * the only one to acquire permits, so that checking and acquiring a permit need not be atomic.
+     */
+    private void launchPermitted() {
+        while (_inFlight < _maxInFlight) {
+            Task task = _queue.poll();
+            if (task == null) {
+                return;
+            }
+            if (task._future.isDone()) {
+                continue;
+            }
+            IN_FLIGHT.incrementAndGet(this);
+            RedFuture launched;
+            try {
+                launched = task._supplier.get();
+            } catch (Throwable caught) {
+                IN_FLIGHT.decrementAndGet(this);
+                task._future.tryFail(caught);
+                continue;
+            }
+            if (launched == null) {
+                IN_FLIGHT.decrementAndGet(this);
+                task._future.tryFail(new NullPointerException("bounded hub task supplied a null future"));
+                continue;
+            }
+            task._future.propagateCancellation();
+            task._future.linkUpstream(launched);
+            launched.addCallbacks(task._future::tryResolve, task._future::tryFail);
+            launched.addFinallyCallback(this::released);
+            if (task._future.isCancelled() && launched instanceof Future) {
+                ((Future<?>) launched).cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Invoked once the future supplied by a launched task completes, releasing its permit.
+     * The permit is held by the supplied future rather than the representing future, so that
+     * cancelling the representing future does not exceed the bound while the task keeps running.
+     */
+    private void released() {
+        IN_FLIGHT.decrementAndGet(this);
+        launch();
+    }
+
+    // Static
+
+    /**
+     * A submitted task, and the tracked future representing it
+     */
+    private static final class Task {
+
+        private final Supplier<? extends RedFuture> _supplier;
+
+        private final OpenRedFuture _future;
+
+        private Task(Supplier<? extends RedFuture> supplier, OpenRedFuture future) {
+            _supplier = supplier;
+            _future = future;
+        }
+
+    }
+
+}
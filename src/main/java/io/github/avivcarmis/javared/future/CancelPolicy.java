@@ -0,0 +1,28 @@
+package io.github.avivcarmis.javared.future;
+
+/**
+ * Policy of handling the remaining tracked futures of a {@link RedFutureHub} union,
+ * once the union fails or is cancelled before they complete.
+ * See {@link RedFutureHub#uniteOptimistically(CancelPolicy)}.
+ */
+public enum CancelPolicy {
+
+    /**
+     * The remaining futures are left to complete
+     */
+    NONE,
+
+    /**
+     * The remaining futures are cancelled, without interrupting running tasks.
+     * A cancelled red future is failed with a {@link java.util.concurrent.CancellationException},
+     * signaling the party expected to complete it that the result is no longer needed.
+     */
+    CANCEL,
+
+    /**
+     * The remaining futures are cancelled, and tasks running to complete them may be interrupted,
+     * see {@link java.util.concurrent.Future#cancel(boolean)}
+     */
+    INTERRUPT
+
+}
@@ -0,0 +1,53 @@
+package io.github.avivcarmis.javared.future;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A small pool of daemon threads shared by all red futures, completing the futures detected as complete
+ * by a background thread of the library, such as the {@link FuturePoller} and the {@link HashedWheelTimer},
+ * so that the background thread never runs callbacks, and a slow callback of one future does not delay
+ * the completion of others. Idle threads time out, so the pool holds no threads while unused.
+ */
+final class Dispatcher {
+
+    // Constants
+
+    /**
+     * Number of dispatcher threads
+     */
+    private static final int THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Time an idle dispatcher thread is kept alive
+     */
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    /**
+     * The shared dispatcher executor
+     */
+    static final Executor INSTANCE = create();
+
+    // Constructors
+
+    private Dispatcher() {
+    }
+
+    // Static
+
+    private static Executor create() {
+        AtomicInteger threads = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(THREADS, THREADS, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "red-future-dispatcher-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+}
@@ -0,0 +1,212 @@
+package io.github.avivcarmis.javared.future;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Tracks plain {@link Future} instances, which offer no completion hooks, from a single daemon thread,
+ * shared by all conversions.
+ *
+ * The poller thread repeatedly tests the watched futures with {@link Future#isDone()}, and hands the
+ * completion of the matching red future to an executor once done. Red futures converted without an
+ * executor are completed by the {@link Dispatcher} threads shared by all red futures,
+ * so that the poller thread never runs callbacks, and a slow callback of one future does not delay
+ * the completion of other watched futures.
+ *
+ * While no watched future completes, the polling interval is doubled up to a maximum, and it is reset
+ * once any watched future completes. While nothing is watched, the thread is parked until a new future
+ * is watched.
+ */
+final class FuturePoller {
+
+    // Constants
+
+    /**
+     * Minimal polling interval
+     */
+    private static final long MIN_INTERVAL_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /**
+     * Maximal polling interval
+     */
+    private static final long MAX_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * The shared poller instance
+     */
+    static final FuturePoller INSTANCE = new FuturePoller();
+
+    // Fields
+
+    /**
+     * Futures watched since the last poll, linked by {@link Watch#_next}
+     */
+    private final AtomicReference<Watch<?>> _added = new AtomicReference<>();
+
+    /**
+     * Watched futures, owned by the poller thread
+     */
+    private final ArrayList<Watch<?>> _watched = new ArrayList<>();
+
+    /**
+     * The poller thread
+     */
+    private final Thread _thread;
+
+    /**
+     * Whether or not the poller thread is parked until a new future is watched
+     */
+    private volatile boolean _idle;
+
+    // Constructors
+
+    private FuturePoller() {
+        _thread = new Thread(this::work, "red-future-poller");
+        _thread.setDaemon(true);
+        _thread.start();
+    }
+
+    // Public
+
+    /**
+     * Watches the given future, and completes the given red future once it is done.
+     * If the future is already done, the red future is directly completed by the current thread.
+     *
+     * @param future   future to watch
+     * @param target   red future to complete with the result of the watched future
+     * @param executor executor to complete the red future with, or null to complete it by a dispatcher thread
+     * @param <T>      type of the future value
+     */
+    <T> void watch(Future<T> future, OpenRedFutureOf<T> target, Executor executor) {
+        Watch<T> watch = new Watch<>(future, target, executor);
+        if (future.isDone()) {
+            watch.run();
+            return;
+        }
+        while (true) {
+            Watch<?> head = _added.get();
+            watch._next = head;
+            if (_added.compareAndSet(head, watch)) {
+                break;
+            }
+        }
+        if (_idle) {
+            LockSupport.unpark(_thread);
+        }
+    }
+
+    // Private
+
+    /**
+     * The poller thread loop
+     */
+    private void work() {
+        long interval = MIN_INTERVAL_NANOS;
+        while (true) {
+            transferAdded();
+            if (_watched.isEmpty()) {
+                _idle = true;
+                if (_added.get() == null) {
+                    LockSupport.park(this);
+                }
+                _idle = false;
+                interval = MIN_INTERVAL_NANOS;
+                continue;
+            }
+            if (poll()) {
+                interval = MIN_INTERVAL_NANOS;
+            }
+            else {
+                LockSupport.parkNanos(this, interval);
+                interval = Math.min(interval * 2, MAX_INTERVAL_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Moves all futures watched since the last poll into the watched list
+     */
+    private void transferAdded() {
+        Watch<?> watch = _added.getAndSet(null);
+        while (watch != null) {
+            Watch<?> next = watch._next;
+            watch._next = null;
+            _watched.add(watch);
+            watch = next;
+        }
+    }
+
+    /**
+     * Completes and removes all done watched futures
+     *
+     * @return true if any watched future was done
+     */
+    private boolean poll() {
+        boolean completed = false;
+        int index = 0;
+        while (index < _watched.size()) {
+            Watch<?> watch = _watched.get(index);
+            if (watch._future.isDone()) {
+                int last = _watched.size() - 1;
+                _watched.set(index, _watched.get(last));
+                _watched.remove(last);
+                BaseOpenRedFuture.queue(watch._executor == null ? Dispatcher.INSTANCE : watch._executor, watch,
+                        watch._target);
+                completed = true;
+            }
+            else {
+                index++;
+            }
+        }
+        return completed;
+    }
+
+    // Static
+
+    /**
+     * A watched future and the red future to complete with its result
+     */
+    private static final class Watch<T> implements Runnable {
+
+        private final Future<T> _future;
+
+        private final OpenRedFutureOf<T> _target;
+
+        private final Executor _executor;
+
+        /**
+         * The next watch in the added stack
+         */
+        private Watch<?> _next;
+
+        private Watch(Future<T> future, OpenRedFutureOf<T> target, Executor executor) {
+            _future = future;
+            _target = target;
+            _executor = executor;
+        }
+
+        @Override
+        public void run() {
+            T value;
+            try {
+                value = Uninterruptibles.getUninterruptibly(_future);
+            } catch (ExecutionException e) {
+                _target.fail(e.getCause());
+                return;
+            } catch (RuntimeException | Error e) {
+                _target.fail(e);
+                return;
+            }
+            _target.resolve(value);
+        }
+
+    }
+
+}
@@ -0,0 +1,278 @@
+package io.github.avivcarmis.javared.future;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A hashed wheel timer shared by all red futures, expiring scheduled timeouts from a single daemon thread.
+ *
+ * Scheduling pushes the timeout into a lock-free stack, which the timer thread drains into the
+ * wheel buckets on each tick. Cancelling only marks the timeout, which is unlinked by the
+ * timer thread on the next visit of its bucket. Both operations are O(1) and allocation free.
+ * The precision of the timer is bound by its tick duration.
+ * While the wheel is empty, the timer thread is parked until a new timeout is scheduled, rather than ticking.
+ * Expired timeouts are expected to hand any heavy work off the timer thread, see {@link Dispatcher}.
+ */
+final class HashedWheelTimer {
+
+    // Constants
+
+    private static final Logger LOGGER = Logger.getLogger(RedFuture.class.getName());
+
+    /**
+     * Duration of a single tick of the wheel
+     */
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * Number of buckets in the wheel, must be a power of two
+     */
+    private static final int WHEEL_SIZE = 512;
+
+    /**
+     * The shared timer instance
+     */
+    static final HashedWheelTimer INSTANCE = new HashedWheelTimer();
+
+    // Fields
+
+    /**
+     * Timeouts scheduled since the last tick, linked by {@link Timeout#_next}
+     */
+    private final AtomicReference<Timeout> _scheduled = new AtomicReference<>();
+
+    /**
+     * Heads of the bucket lists, owned by the timer thread
+     */
+    private final Timeout[] _wheel = new Timeout[WHEEL_SIZE];
+
+    /**
+     * The time on which the timer has started ticking
+     */
+    private final long _startTime;
+
+    /**
+     * The timer thread
+     */
+    private final Thread _thread;
+
+    /**
+     * Number of timeouts linked into the wheel buckets, owned by the timer thread
+     */
+    private int _size;
+
+    /**
+     * Whether or not the timer thread is parked until a new timeout is scheduled
+     */
+    private volatile boolean _idle;
+
+    // Constructors
+
+    private HashedWheelTimer() {
+        _startTime = System.nanoTime();
+        _thread = new Thread(this::work, "red-future-timer");
+        _thread.setDaemon(true);
+        _thread.start();
+    }
+
+    // Public
+
+    /**
+     * Schedules the given timeout to expire after the given delay
+     *
+     * @param timeout timeout to schedule
+     * @param delay   the delay after which the timeout expires
+     * @param unit    the time unit of the delay argument
+     */
+    void schedule(Timeout timeout, long delay, TimeUnit unit) {
+        timeout._deadline = System.nanoTime() - _startTime + Math.max(0, unit.toNanos(delay));
+        while (true) {
+            Timeout head = _scheduled.get();
+            timeout._next = head;
+            if (_scheduled.compareAndSet(head, timeout)) {
+                break;
+            }
+        }
+        if (_idle) {
+            LockSupport.unpark(_thread);
+        }
+    }
+
+    // Private
+
+    /**
+     * The timer thread loop. Once woken up from being idle, the ticks are resumed from the current time,
+     * since no timeout was due in the skipped ones.
+     */
+    private void work() {
+        long tick = 0;
+        while (true) {
+            if (_size == 0 && _scheduled.get() == null) {
+                _idle = true;
+                if (_scheduled.get() == null) {
+                    LockSupport.park(this);
+                }
+                _idle = false;
+                tick = (System.nanoTime() - _startTime) / TICK_NANOS;
+                continue;
+            }
+            long sleep = (tick + 1) * TICK_NANOS - (System.nanoTime() - _startTime);
+            if (sleep > 0) {
+                LockSupport.parkNanos(this, sleep);
+                continue;
+            }
+            transferScheduled(tick);
+            expireBucket(tick, System.nanoTime() - _startTime);
+            tick++;
+        }
+    }
+
+    /**
+     * Moves all timeouts scheduled since the last tick into their buckets
+     *
+     * @param tick the current tick
+     */
+    private void transferScheduled(long tick) {
+        Timeout timeout = _scheduled.getAndSet(null);
+        while (timeout != null) {
+            Timeout next = timeout._next;
+            if (timeout.isCancelled()) {
+                timeout._next = null;
+            }
+            else {
+                long expirationTick = Math.max(timeout._deadline / TICK_NANOS, tick);
+                timeout._rounds = (expirationTick - tick) / WHEEL_SIZE;
+                int bucket = (int) (expirationTick & (WHEEL_SIZE - 1));
+                timeout._next = _wheel[bucket];
+                _wheel[bucket] = timeout;
+                _size++;
+            }
+            timeout = next;
+        }
+    }
+
+    /**
+     * Expires all due timeouts of the bucket of the given tick, and unlinks cancelled ones
+     *
+     * @param tick the current tick
+     * @param now  the current time relative to the start time of the timer
+     */
+    private void expireBucket(long tick, long now) {
+        int bucket = (int) (tick & (WHEEL_SIZE - 1));
+        Timeout previous = null;
+        Timeout timeout = _wheel[bucket];
+        while (timeout != null) {
+            Timeout next = timeout._next;
+            boolean remove;
+            if (timeout.isCancelled()) {
+                remove = true;
+            }
+            else if (timeout._rounds <= 0 && timeout._deadline <= now) {
+                remove = true;
+                expire(timeout);
+            }
+            else {
+                remove = false;
+                timeout._rounds--;
+            }
+            if (remove) {
+                if (previous == null) {
+                    _wheel[bucket] = next;
+                }
+                else {
+                    previous._next = next;
+                }
+                timeout._next = null;
+                _size--;
+            }
+            else {
+                previous = timeout;
+            }
+            timeout = next;
+        }
+    }
+
+    private static void expire(Timeout timeout) {
+        if (!Timeout.STATE.compareAndSet(timeout, Timeout.PENDING, Timeout.EXPIRED)) {
+            return;
+        }
+        try {
+            timeout.expire();
+        } catch (Throwable caught) {
+            LOGGER.log(Level.WARNING, "exception thrown during red future timeout expiration", caught);
+        }
+    }
+
+    // Static
+
+    /**
+     * A single timeout of the wheel, to be extended with the action to perform on expiration
+     */
+    abstract static class Timeout {
+
+        // Constants
+
+        private static final int PENDING = 0;
+
+        private static final int CANCELLED = 1;
+
+        private static final int EXPIRED = 2;
+
+        /**
+         * Atomic updater of {@link #_state}
+         */
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "_state");
+
+        // Fields
+
+        /**
+         * The state of the timeout, either pending, cancelled or expired
+         */
+        private volatile int _state;
+
+        /**
+         * The expiration time relative to the start time of the timer
+         */
+        private long _deadline;
+
+        /**
+         * Remaining wheel rounds before expiration
+         */
+        private long _rounds;
+
+        /**
+         * The next timeout, either in the scheduled stack or in a bucket
+         */
+        private Timeout _next;
+
+        // Public
+
+        /**
+         * Cancels the timeout, if not already expired
+         *
+         * @return true if cancelled by this call, false if already cancelled or expired
+         */
+        boolean cancel() {
+            return STATE.compareAndSet(this, PENDING, CANCELLED);
+        }
+
+        /**
+         * @return true if the timeout was cancelled
+         */
+        boolean isCancelled() {
+            return _state == CANCELLED;
+        }
+
+        /**
+         * Invoked by the timer thread once the timeout expires
+         */
+        abstract void expire();
+
+    }
+
+}
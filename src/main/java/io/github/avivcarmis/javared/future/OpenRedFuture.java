@@ -47,11 +47,14 @@ public class OpenRedFuture extends BaseOpenRedFuture<Void> {
      * Note that if the future is already completed when trying to follow the given future status,
      * a warning will be logged and the second completion invocation will be ignored.
      * Thus, trying to follow more than one future is illegal.
+     * Cancelling the current future cancels the followed future as well only if the current
+     * future propagates cancellation, see {@link #propagateCancellation()}.
      *
      * @param future future to follow
      */
     public void follow(RedFuture future) {
-        future.addSuccessCallback(this::resolve).addFailureCallback(this::fail);
+        linkUpstream(future);
+        future.addCallbacks(this::resolve, this::fail);
     }
 
     /**
@@ -63,12 +66,15 @@ public class OpenRedFuture extends BaseOpenRedFuture<Void> {
      * Note that if the future is already completed when trying to follow the given future status,
      * a warning will be logged and the second completion invocation will be ignored.
      * Thus, trying to follow more than one future is illegal.
+     * Cancelling the current future cancels the followed future as well only if the current
+     * future propagates cancellation, see {@link #propagateCancellation()}.
      *
      * @param executor to execute the completion of this future
      * @param future   future to follow
      */
     public void follow(Executor executor, RedFuture future) {
-        future.addSuccessCallback(executor, this::resolve).addFailureCallback(executor, this::fail);
+        linkUpstream(future);
+        future.addCallbacks(executor, this::resolve, this::fail);
     }
 
     /**
@@ -80,10 +86,13 @@ public class OpenRedFuture extends BaseOpenRedFuture<Void> {
      * Note that if the future is already completed when trying to follow the given future status,
      * a warning will be logged and the second completion invocation will be ignored.
      * Thus, trying to follow more than one future is illegal.
+     * Cancelling the current future cancels the followed future as well only if the current
+     * future propagates cancellation, see {@link #propagateCancellation()}.
      *
      * @param listenableFuture future to follow
      */
     public void follow(ListenableFuture<?> listenableFuture) {
+        linkUpstream(listenableFuture);
         Futures.addCallback(listenableFuture, safeCallback(o -> resolve(), this::fail));
     }
 
@@ -96,11 +105,14 @@ public class OpenRedFuture extends BaseOpenRedFuture<Void> {
      * Note that if the future is already completed when trying to follow the given future status,
      * a warning will be logged and the second completion invocation will be ignored.
      * Thus, trying to follow more than one future is illegal.
+     * Cancelling the current future cancels the followed future as well only if the current
+     * future propagates cancellation, see {@link #propagateCancellation()}.
      *
      * @param executor           to execute the completion of this future
      * @param listenableFuture   future to follow
      */
     public void follow(Executor executor, ListenableFuture<?> listenableFuture) {
+        linkUpstream(listenableFuture);
         Futures.addCallback(listenableFuture, safeCallback(o -> resolve(), this::fail), executor);
     }
 
@@ -5,11 +5,12 @@ import com.google.common.util.concurrent.ListenableFuture;
 import io.github.avivcarmis.javared.future.callbacks.Callback;
 import io.github.avivcarmis.javared.future.callbacks.EmptyCallback;
 
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * An implementation of {@link RedFutureOf}, which represents the settable side of the typed future.
@@ -19,19 +20,10 @@ import java.util.concurrent.atomic.AtomicReference;
  */
 public class OpenRedFutureOf<T> extends BaseOpenRedFuture<T> implements RedFutureOf<T> {
 
-    // Fields
-
-    /**
-     * the resulted value of the future
-     */
-    private final AtomicReference<T> _value;
-
     // Constructors
 
     @SuppressWarnings("WeakerAccess")
-    protected OpenRedFutureOf() {
-        _value = new AtomicReference<>(null);
-    }
+    protected OpenRedFutureOf() {}
 
     // Public
 
@@ -44,7 +36,6 @@ public class OpenRedFutureOf<T> extends BaseOpenRedFuture<T> implements RedFutur
      * @param value the value to resolve the future with
      */
     public void resolve(T value) {
-        _value.compareAndSet(null, value);
         resolve(value, true);
     }
 
@@ -57,7 +48,6 @@ public class OpenRedFutureOf<T> extends BaseOpenRedFuture<T> implements RedFutur
      * @param value the value to resolve the future with
      */
     public void tryResolve(T value) {
-        _value.compareAndSet(null, value);
         resolve(value, false);
     }
 
@@ -70,11 +60,14 @@ public class OpenRedFutureOf<T> extends BaseOpenRedFuture<T> implements RedFutur
      * Note that if the future is already completed when trying to follow the given future status,
      * a warning will be logged and the second completion invocation will be ignored.
      * Thus, trying to follow more than one future is illegal.
+     * Cancelling the current future cancels the followed future as well only if the current
+     * future propagates cancellation, see {@link #propagateCancellation()}.
      *
      * @param future future to follow
      */
     public void follow(RedFutureOf<T> future) {
-        future.addSuccessCallback(this::resolve).addFailureCallback(this::fail);
+        linkUpstream(future);
+        future.addCallbacks(this::resolve, this::fail);
     }
 
     /**
@@ -86,12 +79,15 @@ public class OpenRedFutureOf<T> extends BaseOpenRedFuture<T> implements RedFutur
      * Note that if the future is already completed when trying to follow the given future status,
      * a warning will be logged and the second completion invocation will be ignored.
      * Thus, trying to follow more than one future is illegal.
+     * Cancelling the current future cancels the followed future as well only if the current
+     * future propagates cancellation, see {@link #propagateCancellation()}.
      *
      * @param executor to execute the completion of this future
      * @param future   future to follow
      */
     public void follow(Executor executor, RedFutureOf<T> future) {
-        future.addSuccessCallback(executor, this::resolve).addFailureCallback(executor, this::fail);
+        linkUpstream(future);
+        future.addCallbacks(executor, this::resolve, this::fail);
     }
 
     /**
@@ -103,10 +99,13 @@ public class OpenRedFutureOf<T> extends BaseOpenRedFuture<T> implements RedFutur
      * Note that if the future is already completed when trying to follow the given future status,
      * a warning will be logged and the second completion invocation will be ignored.
      * Thus, trying to follow more than one future is illegal.
+     * Cancelling the current future cancels the followed future as well only if the current
+     * future propagates cancellation, see {@link #propagateCancellation()}.
      *
      * @param listenableFuture future to follow
      */
     public void follow(ListenableFuture<T> listenableFuture) {
+        linkUpstream(listenableFuture);
         Futures.addCallback(listenableFuture, safeCallback(this::resolve, this::fail));
     }
 
@@ -119,39 +118,95 @@ public class OpenRedFutureOf<T> extends BaseOpenRedFuture<T> implements RedFutur
      * Note that if the future is already completed when trying to follow the given future status,
      * a warning will be logged and the second completion invocation will be ignored.
      * Thus, trying to follow more than one future is illegal.
+     * Cancelling the current future cancels the followed future as well only if the current
+     * future propagates cancellation, see {@link #propagateCancellation()}.
      *
      * @param executor           to execute the completion of this future
      * @param listenableFuture   future to follow
      */
     public void follow(Executor executor, ListenableFuture<T> listenableFuture) {
+        linkUpstream(listenableFuture);
         Futures.addCallback(listenableFuture, safeCallback(this::resolve, this::fail), executor);
     }
 
+    /**
+     * Tells the current open future to follow the given stage status.
+     * When the given stage will be completed normally or exceptionally, the current future will
+     * respectively be directly resolved or failed by the same thread.
+     * If the given stage is already completed, the current future will respectively
+     * be directly resolved or failed by the current thread.
+     * A {@link CompletionException} failure is unwrapped to its cause.
+     * Note that if the future is already completed when trying to follow the given stage status,
+     * a warning will be logged and the second completion invocation will be ignored.
+     * Thus, trying to follow more than one future is illegal.
+     * Cancelling the current future cancels the followed stage as well, if it is a
+     * {@link java.util.concurrent.Future}, only if the current future propagates cancellation,
+     * see {@link #propagateCancellation()}.
+     *
+     * @param stage stage to follow
+     */
+    public void follow(CompletionStage<T> stage) {
+        linkUpstream(stage);
+        stage.whenComplete(this::completeFromStage);
+    }
+
+    /**
+     * Tells the current open future to follow the given stage status.
+     * When the given stage will be completed normally or exceptionally, the current future will
+     * respectively queued to be resolved or failed with the given executor.
+     * A {@link CompletionException} failure is unwrapped to its cause.
+     * Note that if the future is already completed when trying to follow the given stage status,
+     * a warning will be logged and the second completion invocation will be ignored.
+     * Thus, trying to follow more than one future is illegal.
+     * Cancelling the current future cancels the followed stage as well, if it is a
+     * {@link java.util.concurrent.Future}, only if the current future propagates cancellation,
+     * see {@link #propagateCancellation()}.
+     *
+     * @param executor to execute the completion of this future
+     * @param stage    stage to follow
+     */
+    public void follow(Executor executor, CompletionStage<T> stage) {
+        linkUpstream(stage);
+        stage.whenCompleteAsync(this::completeFromStage, executor);
+    }
+
     @Override
     public RedFutureOf<T> addSuccessCallback(Callback<T> callback) {
-        Futures.addCallback(getListenableFuture(), safeCallback(callback, null));
+        registerSuccess(null, callback);
         return this;
     }
 
     @Override
     public RedFutureOf<T> addSuccessCallback(Executor executor, Callback<T> callback) {
-        Futures.addCallback(getListenableFuture(), safeCallback(callback, null), executor);
+        registerSuccess(executor, callback);
+        return this;
+    }
+
+    @Override
+    public RedFutureOf<T> addCallbacks(Callback<T> onSuccess, Callback<Throwable> onFailure) {
+        registerCallbacks(null, onSuccess, onFailure);
+        return this;
+    }
+
+    @Override
+    public RedFutureOf<T> addCallbacks(Executor executor, Callback<T> onSuccess, Callback<Throwable> onFailure) {
+        registerCallbacks(executor, onSuccess, onFailure);
         return this;
     }
 
     @Override
     public T tryGet() {
-        return _value.get();
+        return resolvedValue();
     }
 
     @Override
     public T waitAndGet() throws ExecutionException, InterruptedException {
-        return getListenableFuture().get();
+        return report(await());
     }
 
     @Override
     public T waitAndGet(long timeout, TimeUnit unit) throws ExecutionException, InterruptedException, TimeoutException {
-        return getListenableFuture().get(timeout, unit);
+        return report(await(timeout, unit));
     }
 
     @Override
@@ -191,23 +246,45 @@ public class OpenRedFutureOf<T> extends BaseOpenRedFuture<T> implements RedFutur
     }
 
     @Override
-    public boolean cancel(boolean mayInterruptIfRunning) {
-        return getListenableFuture().cancel(mayInterruptIfRunning);
+    public RedFutureOf<T> addCallbacks(EmptyCallback onSuccess, Callback<Throwable> onFailure) {
+        super.addCallbacks(onSuccess, onFailure);
+        return this;
     }
 
     @Override
-    public boolean isCancelled() {
-        return getListenableFuture().isCancelled();
+    public RedFutureOf<T> addCallbacks(Executor executor, EmptyCallback onSuccess, Callback<Throwable> onFailure) {
+        super.addCallbacks(executor, onSuccess, onFailure);
+        return this;
     }
 
     @Override
     public T get() throws InterruptedException, ExecutionException {
-        return getListenableFuture().get();
+        return report(await());
     }
 
     @Override
     public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
-        return getListenableFuture().get(timeout, unit);
+        return report(await(timeout, unit));
+    }
+
+    // Private
+
+    /**
+     * Completes the future with the outcome of a followed {@link CompletionStage}
+     *
+     * @param value     the resulted value of the stage
+     * @param throwable the cause of failure of the stage, or null if completed normally
+     */
+    private void completeFromStage(T value, Throwable throwable) {
+        if (throwable == null) {
+            resolve(value);
+        }
+        else if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            fail(throwable.getCause());
+        }
+        else {
+            fail(throwable);
+        }
     }
 
 }
@@ -0,0 +1,280 @@
+package io.github.avivcarmis.javared.future;
+
+import io.github.avivcarmis.javared.future.callbacks.Callback;
+import io.github.avivcarmis.javared.future.callbacks.EmptyCallback;
+import io.github.avivcarmis.javared.future.callbacks.DoubleCallback;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * An implementation of {@link RedFutureOfDouble}, which represents the settable side of a primitive double future.
+ * A future of this type may be resolved or failed, as well as attach with callbacks.
+ *
+ * The resulted value is kept in a primitive field, so resolving the future with {@link #resolve(double)}
+ * and reading it through the primitive methods involve no boxing.
+ * The value is boxed only when read through the inherited {@link RedFutureOf} interface.
+ */
+public class OpenRedFutureOfDouble extends OpenRedFutureOfPrimitive<Double> implements RedFutureOfDouble {
+
+    // Fields
+
+    /**
+     * The resulted value, published by the completion of the future
+     */
+    private double _value;
+
+    // Constructors
+
+    @SuppressWarnings("WeakerAccess")
+    protected OpenRedFutureOfDouble() {}
+
+    // Public
+
+    /**
+     * Resolves the future, marking it successfully completed.
+     * As result of this method invocation, all registered success and finally callbacks
+     * will be invoked.
+     * If the future is already completed, a warning will be logged. @see {@link #resolve(double, boolean)}
+     *
+     * @param value the value to resolve the future with
+     */
+    public void resolve(double value) {
+        resolve(value, true);
+    }
+
+    /**
+     * Resolves the future, marking it successfully completed.
+     * As result of this method invocation, all registered success and finally callbacks
+     * will be invoked.
+     * If the future is already completed, this call will be ignored.
+     *
+     * @param value the value to resolve the future with
+     */
+    public void tryResolve(double value) {
+        resolve(value, false);
+    }
+
+    /**
+     * Tells the current open future to follow the given future status, without boxing its value.
+     * When the given future will be resolved or failed, the current future will respectively
+     * be directly resolved or failed by the same thread.
+     * If the given future is already resolved or failed, the current future will respectively
+     * be directly resolved or failed by the current thread.
+     * Note that if the future is already completed when trying to follow the given future status,
+     * a warning will be logged and the second completion invocation will be ignored.
+     * Thus, trying to follow more than one future is illegal.
+     * Cancelling the current future cancels the followed future as well only if the current
+     * future propagates cancellation, see {@link #propagateCancellation()}.
+     *
+     * @param future future to follow
+     */
+    public void follow(RedFutureOfDouble future) {
+        linkUpstream(future);
+        future.addDoubleCallbacks(this::resolve, this::fail);
+    }
+
+    /**
+     * Tells the current open future to follow the given future status, without boxing its value.
+     * When the given future will be resolved or failed, the current future will respectively
+     * queued to be resolved or failed with the given executor.
+     * If the given future is already resolved or failed, the current future will respectively
+     * be queued to be resolved or failed with the given executor.
+     * Note that if the future is already completed when trying to follow the given future status,
+     * a warning will be logged and the second completion invocation will be ignored.
+     * Thus, trying to follow more than one future is illegal.
+     * Cancelling the current future cancels the followed future as well only if the current
+     * future propagates cancellation, see {@link #propagateCancellation()}.
+     *
+     * @param executor to execute the completion of this future
+     * @param future   future to follow
+     */
+    public void follow(Executor executor, RedFutureOfDouble future) {
+        linkUpstream(future);
+        future.addDoubleCallbacks(executor, this::resolve, this::fail);
+    }
+
+    @Override
+    public RedFutureOfDouble addDoubleSuccessCallback(DoubleCallback callback) {
+        registerPrimitiveSuccess(null, callback);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfDouble addDoubleSuccessCallback(Executor executor, DoubleCallback callback) {
+        registerPrimitiveSuccess(executor, callback);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfDouble addDoubleCallbacks(DoubleCallback onSuccess, Callback<Throwable> onFailure) {
+        registerPrimitiveCallbacks(null, onSuccess, onFailure);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfDouble addDoubleCallbacks(Executor executor, DoubleCallback onSuccess, Callback<Throwable> onFailure) {
+        registerPrimitiveCallbacks(executor, onSuccess, onFailure);
+        return this;
+    }
+
+    @Override
+    public double tryGetDouble() {
+        Object state = state();
+        return state == RESOLVED ? _value : 0;
+    }
+
+    @Override
+    public double waitAndGetDouble() throws ExecutionException, InterruptedException {
+        return reportDouble(await());
+    }
+
+    @Override
+    public double waitAndGetDouble(long timeout, TimeUnit unit) throws ExecutionException, InterruptedException, TimeoutException {
+        return reportDouble(await(timeout, unit));
+    }
+
+    @Override
+    public RedFutureOfDouble addSuccessCallback(Callback<Double> callback) {
+        super.addSuccessCallback(callback);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfDouble addSuccessCallback(Executor executor, Callback<Double> callback) {
+        super.addSuccessCallback(executor, callback);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfDouble addCallbacks(Callback<Double> onSuccess, Callback<Throwable> onFailure) {
+        super.addCallbacks(onSuccess, onFailure);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfDouble addCallbacks(Executor executor, Callback<Double> onSuccess, Callback<Throwable> onFailure) {
+        super.addCallbacks(executor, onSuccess, onFailure);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfDouble addSuccessCallback(EmptyCallback callback) {
+        super.addSuccessCallback(callback);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfDouble addSuccessCallback(Executor executor, EmptyCallback callback) {
+        super.addSuccessCallback(executor, callback);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfDouble addFailureCallback(Callback<Throwable> callback) {
+        super.addFailureCallback(callback);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfDouble addFailureCallback(Executor executor, Callback<Throwable> callback) {
+        super.addFailureCallback(executor, callback);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfDouble addCallbacks(EmptyCallback onSuccess, Callback<Throwable> onFailure) {
+        super.addCallbacks(onSuccess, onFailure);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfDouble addCallbacks(Executor executor, EmptyCallback onSuccess, Callback<Throwable> onFailure) {
+        super.addCallbacks(executor, onSuccess, onFailure);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfDouble addFinallyCallback(EmptyCallback callback) {
+        super.addFinallyCallback(callback);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfDouble addFinallyCallback(Executor executor, EmptyCallback callback) {
+        super.addFinallyCallback(executor, callback);
+        return this;
+    }
+
+    // Private
+
+    /**
+     * Resolving the future with given primitive value, either logging or not logging warning in case
+     * the future is already complete, according to require parameter.
+     * Only the first resolution attempt may write the value field, so that a losing
+     * resolution never alters the value of a resolved future.
+     *
+     * @param value   value to resolve the future with
+     * @param require whether or not to log warning in case the future is already complete
+     * @return true if successfully resolved, false if future is already complete
+     */
+    @SuppressWarnings("WeakerAccess")
+    protected boolean resolve(double value, boolean require) {
+        if (!claim(require)) {
+            return false;
+        }
+        _value = value;
+        return publish(require);
+    }
+
+    @Override
+    boolean resolveUnboxed(Double value, boolean require) {
+        return resolve(value.doubleValue(), require);
+    }
+
+    @Override
+    Double boxed() {
+        return _value;
+    }
+
+    @Override
+    void callPrimitive(Object callback, Object result) {
+        call((DoubleCallback) callback, primitive(result));
+    }
+
+    /**
+     * @param result result of a resolved future
+     * @return the resulted primitive value, or zero if resolved with a null boxed value
+     */
+    private double primitive(Object result) {
+        return result == RESOLVED ? _value : 0;
+    }
+
+    /**
+     * Unwraps the given result as a primitive, in the manner of {@link java.util.concurrent.Future#get()}
+     *
+     * @param result result to unwrap
+     * @return the resulted primitive value
+     * @throws ExecutionException if the result is a failure
+     */
+    private double reportDouble(Object result) throws ExecutionException {
+        if (result == RESOLVED) {
+            return _value;
+        }
+        report(result);
+        return 0;
+    }
+
+    private static void call(DoubleCallback callback, double value) {
+        if (callback != null) {
+            try {
+                callback.call(value);
+            } catch (Throwable caught) {
+                logCallbackFailure(caught);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,280 @@
+package io.github.avivcarmis.javared.future;
+
+import io.github.avivcarmis.javared.future.callbacks.Callback;
+import io.github.avivcarmis.javared.future.callbacks.EmptyCallback;
+import io.github.avivcarmis.javared.future.callbacks.IntCallback;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * An implementation of {@link RedFutureOfInt}, which represents the settable side of a primitive int future.
+ * A future of this type may be resolved or failed, as well as attach with callbacks.
+ *
+ * The resulted value is kept in a primitive field, so resolving the future with {@link #resolve(int)}
+ * and reading it through the primitive methods involve no boxing.
+ * The value is boxed only when read through the inherited {@link RedFutureOf} interface.
+ */
+public class OpenRedFutureOfInt extends OpenRedFutureOfPrimitive<Integer> implements RedFutureOfInt {
+
+    // Fields
+
+    /**
+     * The resulted value, published by the completion of the future
+     */
+    private int _value;
+
+    // Constructors
+
+    @SuppressWarnings("WeakerAccess")
+    protected OpenRedFutureOfInt() {}
+
+    // Public
+
+    /**
+     * Resolves the future, marking it successfully completed.
+     * As result of this method invocation, all registered success and finally callbacks
+     * will be invoked.
+     * If the future is already completed, a warning will be logged. @see {@link #resolve(int, boolean)}
+     *
+     * @param value the value to resolve the future with
+     */
+    public void resolve(int value) {
+        resolve(value, true);
+    }
+
+    /**
+     * Resolves the future, marking it successfully completed.
+     * As result of this method invocation, all registered success and finally callbacks
+     * will be invoked.
+     * If the future is already completed, this call will be ignored.
+     *
+     * @param value the value to resolve the future with
+     */
+    public void tryResolve(int value) {
+        resolve(value, false);
+    }
+
+    /**
+     * Tells the current open future to follow the given future status, without boxing its value.
+     * When the given future will be resolved or failed, the current future will respectively
+     * be directly resolved or failed by the same thread.
+     * If the given future is already resolved or failed, the current future will respectively
+     * be directly resolved or failed by the current thread.
+     * Note that if the future is already completed when trying to follow the given future status,
+     * a warning will be logged and the second completion invocation will be ignored.
+     * Thus, trying to follow more than one future is illegal.
+     * Cancelling the current future cancels the followed future as well only if the current
+     * future propagates cancellation, see {@link #propagateCancellation()}.
+     *
+     * @param future future to follow
+     */
+    public void follow(RedFutureOfInt future) {
+        linkUpstream(future);
+        future.addIntCallbacks(this::resolve, this::fail);
+    }
+
+    /**
+     * Tells the current open future to follow the given future status, without boxing its value.
+     * When the given future will be resolved or failed, the current future will respectively
+     * queued to be resolved or failed with the given executor.
+     * If the given future is already resolved or failed, the current future will respectively
+     * be queued to be resolved or failed with the given executor.
+     * Note that if the future is already completed when trying to follow the given future status,
+     * a warning will be logged and the second completion invocation will be ignored.
+     * Thus, trying to follow more than one future is illegal.
+     * Cancelling the current future cancels the followed future as well only if the current
+     * future propagates cancellation, see {@link #propagateCancellation()}.
+     *
+     * @param executor to execute the completion of this future
+     * @param future   future to follow
+     */
+    public void follow(Executor executor, RedFutureOfInt future) {
+        linkUpstream(future);
+        future.addIntCallbacks(executor, this::resolve, this::fail);
+    }
+
+    @Override
+    public RedFutureOfInt addIntSuccessCallback(IntCallback callback) {
+        registerPrimitiveSuccess(null, callback);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfInt addIntSuccessCallback(Executor executor, IntCallback callback) {
+        registerPrimitiveSuccess(executor, callback);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfInt addIntCallbacks(IntCallback onSuccess, Callback<Throwable> onFailure) {
+        registerPrimitiveCallbacks(null, onSuccess, onFailure);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfInt addIntCallbacks(Executor executor, IntCallback onSuccess, Callback<Throwable> onFailure) {
+        registerPrimitiveCallbacks(executor, onSuccess, onFailure);
+        return this;
+    }
+
+    @Override
+    public int tryGetInt() {
+        Object state = state();
+        return state == RESOLVED ? _value : 0;
+    }
+
+    @Override
+    public int waitAndGetInt() throws ExecutionException, InterruptedException {
+        return reportInt(await());
+    }
+
+    @Override
+    public int waitAndGetInt(long timeout, TimeUnit unit) throws ExecutionException, InterruptedException, TimeoutException {
+        return reportInt(await(timeout, unit));
+    }
+
+    @Override
+    public RedFutureOfInt addSuccessCallback(Callback<Integer> callback) {
+        super.addSuccessCallback(callback);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfInt addSuccessCallback(Executor executor, Callback<Integer> callback) {
+        super.addSuccessCallback(executor, callback);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfInt addCallbacks(Callback<Integer> onSuccess, Callback<Throwable> onFailure) {
+        super.addCallbacks(onSuccess, onFailure);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfInt addCallbacks(Executor executor, Callback<Integer> onSuccess, Callback<Throwable> onFailure) {
+        super.addCallbacks(executor, onSuccess, onFailure);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfInt addSuccessCallback(EmptyCallback callback) {
+        super.addSuccessCallback(callback);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfInt addSuccessCallback(Executor executor, EmptyCallback callback) {
+        super.addSuccessCallback(executor, callback);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfInt addFailureCallback(Callback<Throwable> callback) {
+        super.addFailureCallback(callback);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfInt addFailureCallback(Executor executor, Callback<Throwable> callback) {
+        super.addFailureCallback(executor, callback);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfInt addCallbacks(EmptyCallback onSuccess, Callback<Throwable> onFailure) {
+        super.addCallbacks(onSuccess, onFailure);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfInt addCallbacks(Executor executor, EmptyCallback onSuccess, Callback<Throwable> onFailure) {
+        super.addCallbacks(executor, onSuccess, onFailure);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfInt addFinallyCallback(EmptyCallback callback) {
+        super.addFinallyCallback(callback);
+        return this;
+    }
+
+    @Override
+    public RedFutureOfInt addFinallyCallback(Executor executor, EmptyCallback callback) {
+        super.addFinallyCallback(executor, callback);
+        return this;
+    }
+
+    // Private
+
+    /**
+     * Resolving the future with given primitive value, either logging or not logging warning in case
+     * the future is already complete, according to require parameter.
+     * Only the first resolution attempt may write the value field, so that a losing
+     * resolution never alters the value of a resolved future.
+     *
+     * @param value   value to resolve the future with
+     * @param require whether or not to log warning in case the future is already complete
+     * @return true if successfully resolved, false if future is already complete
+     */
+    @SuppressWarnings("WeakerAccess")
+    protected boolean resolve(int value, boolean require) {
+        if (!claim(require)) {
+            return false;
+        }
+        _value = value;
+        return publish(require);
+    }
+
+    @Override
+    boolean resolveUnboxed(Integer value, boolean require) {
+        return resolve(value.intValue(), require);
+    }
+
+    @Override
+    Integer boxed() {
+        return _value;
+    }
+
+    @Override
+    void callPrimitive(Object callback, Object result) {
+        call((IntCallback) callback, primitive(result));
+    }
+
+    /**
+     * @param result result of a resolved future
+     * @return the resulted primitive value, or zero if resolved with a null boxed value
+     */
+    private int primitive(Object result) {
+        return result == RESOLVED ? _value : 0;
+    }
+
+    /**
+     * Unwraps the given result as a primitive, in the manner of {@link java.util.concurrent.Future#get()}
+     *
+     * @param result result to unwrap
+     * @return the resulted primitive value
+     * @throws ExecutionException if the result is a failure
+     */
+    private int reportInt(Object result) throws ExecutionException {
+        if (result == RESOLVED) {
+            return _value;
+        }
+        report(result);
+        return 0;
+    }
+
+    private static void call(IntCallback callback, int value) {
+        if (callback != null) {
+            try {
+                callback.call(value);
+            } catch (Throwable caught) {
+                logCallbackFailure(caught);
+            }
+        }
+    }
+
+}
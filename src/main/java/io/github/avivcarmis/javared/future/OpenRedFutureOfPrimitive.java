@@ -0,0 +1,207 @@
+package io.github.avivcarmis.javared.future;
+
+import io.github.avivcarmis.javared.future.callbacks.Callback;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Common state machine of the open primitive futures, {@link OpenRedFutureOfInt}, {@link OpenRedFutureOfLong}
+ * and {@link OpenRedFutureOfDouble}.
+ *
+ * A future resolved with a primitive value is completed with the {@link #RESOLVED} marker, while the value itself
+ * is kept in a primitive field of the subclass, published by the completion of the future. Only the first
+ * resolution attempt claims the right to write the field, so that a losing resolution never alters the value
+ * of a resolved future. Primitive callbacks are registered by a pair of node types shared by all subclasses,
+ * which hand the callback back to the subclass to be invoked with the typed value.
+ *
+ * @param <T> the boxed type of the future value
+ */
+abstract class OpenRedFutureOfPrimitive<T> extends OpenRedFutureOf<T> {
+
+    // Constants
+
+    /**
+     * Atomic updater of {@link #_claimed}
+     */
+    private static final AtomicIntegerFieldUpdater<OpenRedFutureOfPrimitive> CLAIMED =
+            AtomicIntegerFieldUpdater.newUpdater(OpenRedFutureOfPrimitive.class, "_claimed");
+
+    /**
+     * Result of a future resolved with the primitive value held by the subclass
+     */
+    static final Object RESOLVED = new Object();
+
+    // Fields
+
+    /**
+     * Set to 1 by the single resolution allowed to write the primitive value
+     */
+    private volatile int _claimed;
+
+    // Constructors
+
+    OpenRedFutureOfPrimitive() {}
+
+    // Private
+
+    /**
+     * Resolves the future with a boxed value. A non-null value is kept as a primitive.
+     *
+     * @param value   value to resolve the future with
+     * @param require whether or not to log warning in case the future is already complete
+     * @return true if successfully resolved, false if future is already complete
+     */
+    @Override
+    protected boolean resolve(T value, boolean require) {
+        if (value == null) {
+            return super.resolve(null, require);
+        }
+        return resolveUnboxed(value, require);
+    }
+
+    /**
+     * Claims the right to write the primitive value, logging a warning if required
+     * and the future is already complete or claimed.
+     *
+     * @param require whether or not to log warning in case the future is already complete
+     * @return true if claimed by this call, in which case the value may be written and published
+     */
+    boolean claim(boolean require) {
+        if (isComplete(state()) || !CLAIMED.compareAndSet(this, 0, 1)) {
+            rejectResolution(require);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Completes the future with the primitive value written after a successful {@link #claim(boolean)}
+     *
+     * @param require whether or not to log warning in case the future is already complete
+     * @return true if successfully resolved, false if future is already complete
+     */
+    boolean publish(boolean require) {
+        if (!complete(RESOLVED)) {
+            rejectResolution(require);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    Object value(Object result) {
+        return result == RESOLVED ? boxed() : super.value(result);
+    }
+
+    /**
+     * Registers a primitive callback to be invoked with the resulted value on success.
+     * If the future is already complete and no executor is given, the callback is invoked inline.
+     *
+     * @param executor executor to invoke the callback, or null to invoke it directly
+     * @param callback primitive callback of the type accepted by {@link #callPrimitive(Object, Object)}
+     */
+    void registerPrimitiveSuccess(Executor executor, Object callback) {
+        Object state = state();
+        if (executor != null || !invokesInline(state)) {
+            register(new PrimitiveSuccessNode(executor, callback));
+        }
+        else if (!isFailure(state)) {
+            callPrimitive(callback, state);
+        }
+    }
+
+    /**
+     * Registers a primitive callback to be invoked with the resulted value on success, and a callback
+     * to be invoked with the cause on failure, using a single node.
+     * If the future is already complete and no executor is given, the matching callback is invoked inline.
+     *
+     * @param executor  executor to invoke the callbacks, or null to invoke them directly
+     * @param onSuccess primitive callback of the type accepted by {@link #callPrimitive(Object, Object)}
+     * @param onFailure callback to be invoked with the cause of failure
+     */
+    void registerPrimitiveCallbacks(Executor executor, Object onSuccess, Callback<Throwable> onFailure) {
+        Object state = state();
+        if (executor != null || !invokesInline(state)) {
+            register(new PrimitiveCallbacksNode(executor, onSuccess, onFailure));
+        }
+        else if (isFailure(state)) {
+            call(onFailure, causeOf(state));
+        }
+        else {
+            callPrimitive(onSuccess, state);
+        }
+    }
+
+    /**
+     * @param value non-null boxed value to resolve the future with
+     * @param require whether or not to log warning in case the future is already complete
+     * @return true if successfully resolved, false if future is already complete
+     */
+    abstract boolean resolveUnboxed(T value, boolean require);
+
+    /**
+     * @return the primitive value of a future resolved with {@link #RESOLVED}, boxed
+     */
+    abstract T boxed();
+
+    /**
+     * Invokes the given primitive callback with the resulted value
+     *
+     * @param callback primitive callback of the subclass type
+     * @param result   result of a resolved future
+     */
+    abstract void callPrimitive(Object callback, Object result);
+
+    // Static
+
+    /**
+     * A node invoking a primitive callback with the resulted value on success
+     */
+    private static final class PrimitiveSuccessNode extends Node {
+
+        private final Object _callback;
+
+        private PrimitiveSuccessNode(Executor executor, Object callback) {
+            super(executor);
+            _callback = callback;
+        }
+
+        @Override
+        void invoke(BaseOpenRedFuture<?> future, Object result) {
+            if (!isFailure(result)) {
+                ((OpenRedFutureOfPrimitive<?>) future).callPrimitive(_callback, result);
+            }
+        }
+
+    }
+
+    /**
+     * A node invoking a primitive callback with the resulted value on success,
+     * or a {@link Callback} with the cause on failure
+     */
+    private static final class PrimitiveCallbacksNode extends Node {
+
+        private final Object _onSuccess;
+
+        private final Callback<Throwable> _onFailure;
+
+        private PrimitiveCallbacksNode(Executor executor, Object onSuccess, Callback<Throwable> onFailure) {
+            super(executor);
+            _onSuccess = onSuccess;
+            _onFailure = onFailure;
+        }
+
+        @Override
+        void invoke(BaseOpenRedFuture<?> future, Object result) {
+            if (isFailure(result)) {
+                call(_onFailure, causeOf(result));
+            }
+            else {
+                ((OpenRedFutureOfPrimitive<?>) future).callPrimitive(_onSuccess, result);
+            }
+        }
+
+    }
+
+}
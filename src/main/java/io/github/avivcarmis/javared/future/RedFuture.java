@@ -1,6 +1,5 @@
 package io.github.avivcarmis.javared.future;
 
-import com.google.common.util.concurrent.JdkFutureAdapters;
 import com.google.common.util.concurrent.ListenableFuture;
 import io.github.avivcarmis.javared.future.callbacks.Callback;
 import io.github.avivcarmis.javared.future.callbacks.EmptyCallback;
@@ -84,6 +83,44 @@ public interface RedFuture {
      */
     RedFuture addFinallyCallback(Executor executor, EmptyCallback callback);
 
+    /**
+     * Attach both a no-parameter callback to be invoked when the future is successfully resolved,
+     * and a callback receiving a throwable to be invoked when the future is failed,
+     * with a single registration.
+     * When a certain thread completes the future, it will directly invoke the matching callback.
+     * If the future is already complete, the matching callback will be directly invoked.
+     * The default implementation registers each of the callbacks separately.
+     *
+     * @param onSuccess callback to be invoked when the future is successfully resolved
+     * @param onFailure callback receiving a throwable to be invoked when the future is failed
+     * @return this, @see <a href="https://en.wikipedia.org/wiki/Fluent_interface">Fluent interface</a>
+     */
+    default RedFuture addCallbacks(EmptyCallback onSuccess, Callback<Throwable> onFailure) {
+        addSuccessCallback(onSuccess);
+        addFailureCallback(onFailure);
+        return this;
+    }
+
+    /**
+     * Attach both a no-parameter callback to be invoked when the future is successfully resolved,
+     * and a callback receiving a throwable to be invoked when the future is failed,
+     * with a single registration.
+     * When a certain thread completes the future, it will queue the matching callback invocation
+     * to the given executor.
+     * If the future is already complete, the matching callback will be immediately queued.
+     * The default implementation registers each of the callbacks separately.
+     *
+     * @param executor  executor to invoke the callbacks
+     * @param onSuccess callback to be invoked when the future is successfully resolved
+     * @param onFailure callback receiving a throwable to be invoked when the future is failed
+     * @return this, @see <a href="https://en.wikipedia.org/wiki/Fluent_interface">Fluent interface</a>
+     */
+    default RedFuture addCallbacks(Executor executor, EmptyCallback onSuccess, Callback<Throwable> onFailure) {
+        addSuccessCallback(executor, onSuccess);
+        addFailureCallback(executor, onFailure);
+        return this;
+    }
+
     /**
      * Test to see whether or not the future is currently completed, either by success
      * or failure. This method is not blocking, nor is it synchronizing different thread calls.
@@ -114,6 +151,23 @@ public interface RedFuture {
     void waitForCompletion(long timeout, TimeUnit unit)
             throws ExecutionException, InterruptedException, TimeoutException;
 
+    /**
+     * Returns a future following the status of this future, which is failed with a {@link TimeoutException}
+     * if this future is not completed within the given timeout.
+     * The timeout is tracked by a timer shared by all red futures, without blocking any thread,
+     * and is cancelled once this future is completed.
+     *
+     * @param timeout the maximum time to wait for completion
+     * @param unit    the time unit of the timeout argument
+     * @return a future following this future, bound by the given timeout
+     */
+    default RedFuture withTimeout(long timeout, TimeUnit unit) {
+        OpenRedFuture future = future();
+        future.follow(this);
+        future.failAfter(timeout, unit);
+        return future;
+    }
+
     /**
      * @return the underlying Guava {@link ListenableFuture}
      */
@@ -137,23 +191,42 @@ public interface RedFuture {
     }
 
     /**
-     * @return a new instance of {@link OpenRedFuture} which is already resolved
+     * @return a new instance of {@link OpenRedFutureOfInt}
+     */
+    static OpenRedFutureOfInt futureOfInt() {
+        return new OpenRedFutureOfInt();
+    }
+
+    /**
+     * @return a new instance of {@link OpenRedFutureOfLong}
+     */
+    static OpenRedFutureOfLong futureOfLong() {
+        return new OpenRedFutureOfLong();
+    }
+
+    /**
+     * @return a new instance of {@link OpenRedFutureOfDouble}
+     */
+    static OpenRedFutureOfDouble futureOfDouble() {
+        return new OpenRedFutureOfDouble();
+    }
+
+    /**
+     * @return a shared immutable instance of {@link RedFuture} which is already resolved
      */
     static RedFuture resolved() {
-        OpenRedFuture future = future();
-        future.resolve();
-        return future;
+        return ResolvedRedFutureOf.NULL;
     }
 
     /**
+     * Futures resolved with null or with a boolean value are shared instances.
+     *
      * @param value to be resolved with
      * @param <T> type of the future value
-     * @return a new instance of {@link OpenRedFutureOf} which is already resolved with given value
+     * @return an immutable instance of {@link RedFutureOf} which is already resolved with given value
      */
     static <T> RedFutureOf<T> resolvedOf(T value) {
-        OpenRedFutureOf<T> future = futureOf();
-        future.resolve(value);
-        return future;
+        return ResolvedRedFutureOf.of(value);
     }
 
     /**
@@ -178,44 +251,106 @@ public interface RedFuture {
     }
 
     /**
-     * Converts the given {@link Future} object to a {@link RedFuture}
-     * see {@link JdkFutureAdapters#listenInPoolThread(Future)} for detailed implications
+     * Converts the given {@link CompletionStage} to a {@link RedFutureOf}, by registering a single
+     * completion hook on the stage. When the stage completes, the callbacks are executed by the
+     * completing thread. A {@link CompletionException} failure is unwrapped to its cause.
+     * A stage returned by {@link RedFutureOf#toCompletableFuture()} is converted back to its source
+     * future, and a {@link CompletableFuture} which is already successfully completed is converted
+     * to a resolved future, without registering any hook.
+     * Cancelling the returned future cancels the given stage as well, if it is a {@link Future}.
+     *
+     * @param stage stage to convert
+     * @param <T>   type of the stage value
+     * @return a RedFuture instance tracking the given {@link CompletionStage}
+     */
+    @SuppressWarnings("unchecked")
+    static <T> RedFutureOf<T> fromStage(CompletionStage<T> stage) {
+        if (stage instanceof BaseOpenRedFuture.CompletableView) {
+            BaseOpenRedFuture<T> source = ((BaseOpenRedFuture.CompletableView<T>) stage).source();
+            if (source instanceof RedFutureOf) {
+                return (RedFutureOf<T>) source;
+            }
+        }
+        if (stage instanceof CompletableFuture) {
+            CompletableFuture<T> completableFuture = (CompletableFuture<T>) stage;
+            if (completableFuture.isDone() && !completableFuture.isCompletedExceptionally()) {
+                return resolvedOf(completableFuture.join());
+            }
+        }
+        OpenRedFutureOf<T> result = futureOf();
+        result.propagateCancellation();
+        result.follow(stage);
+        return result;
+    }
+
+    /**
+     * Converts the given {@link Future} object to a {@link RedFuture}.
+     * A {@link ListenableFuture} or a {@link CompletionStage} is followed through its completion hooks.
+     * Any other future is watched by a single poller thread shared by all conversions,
+     * so converting a future never blocks a thread until it is done.
+     * Cancelling the returned future cancels the given future as well.
+     * When the given future completes, the callbacks are executed by the completing thread,
+     * or by one of a small pool of dispatcher threads shared by all conversions, respectively,
+     * so that a slow callback does not delay the completion of other converted futures.
+     * If the given future is already done, the callbacks will be executed by the current thread.
      * @param future future to convert
      * @param <T>    type of the future value
      * @return a RedFuture instance tracking the given {@link Future}
      */
+    @SuppressWarnings("unchecked")
     static <T> RedFutureOf<T> convert(Future<T> future) {
         if (future instanceof RedFutureOf) {
             return (RedFutureOf<T>) future;
         }
+        if (future instanceof CompletionStage) {
+            return fromStage((CompletionStage<T>) future);
+        }
+        OpenRedFutureOf<T> result = futureOf();
+        result.propagateCancellation();
         if (future instanceof ListenableFuture) {
-            OpenRedFutureOf<T> result = futureOf();
             result.follow((ListenableFuture<T>) future);
-            return result;
         }
-        return convert(JdkFutureAdapters.listenInPoolThread(future));
+        else {
+            result.linkUpstream(future);
+            FuturePoller.INSTANCE.watch(future, result, null);
+        }
+        return result;
     }
 
     /**
-     * Converts the given {@link Future} object to a {@link RedFuture} with given executor
-     * see {@link JdkFutureAdapters#listenInPoolThread(Future, Executor)} for detailed implications
+     * Converts the given {@link Future} object to a {@link RedFuture} with given executor.
+     * A {@link ListenableFuture} or a {@link CompletionStage} is followed through its completion hooks.
+     * Any other future is watched by a single poller thread shared by all conversions,
+     * so converting a future never blocks a thread until it is done.
+     * If the executor rejects the completion of such a future, the returned future is failed
+     * with the cause of rejection.
+     * Cancelling the returned future cancels the given future as well.
      * @param future   future to convert
-     * @param executor executor to wait to future to complete and then execute callbacks
-     *                 note that if the future is already completed, the callbacks will be
-     *                 executed by the current thread
+     * @param executor executor to execute callbacks once the future completes.
+     *                 note that if a {@link ListenableFuture} or any other non-stage future
+     *                 is already completed, the callbacks will be executed by the current thread,
+     *                 while a {@link CompletionStage} is always completed through the executor
      * @param <T>      type of the future value
      * @return a RedFuture instance tracking the given {@link Future}
      */
+    @SuppressWarnings("unchecked")
     static <T> RedFutureOf<T> convert(Future<T> future, Executor executor) {
         if (future instanceof RedFutureOf) {
             return (RedFutureOf<T>) future;
         }
+        OpenRedFutureOf<T> result = futureOf();
+        result.propagateCancellation();
         if (future instanceof ListenableFuture) {
-            OpenRedFutureOf<T> result = futureOf();
             result.follow(executor, (ListenableFuture<T>) future);
-            return result;
         }
-        return convert(JdkFutureAdapters.listenInPoolThread(future, executor), executor);
+        else if (future instanceof CompletionStage) {
+            result.follow(executor, (CompletionStage<T>) future);
+        }
+        else {
+            result.linkUpstream(future);
+            FuturePoller.INSTANCE.watch(future, result, executor);
+        }
+        return result;
     }
 
     /**
@@ -2,30 +2,124 @@ package io.github.avivcarmis.javared.future;
 
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.github.avivcarmis.javared.future.callbacks.Callback;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiFunction;
 
 /**
  * An object to track operations of multiple {@link RedFuture} instances.
+ *
+ * The hub counts the tracked futures which are not yet complete, and keeps the cause of
+ * the first tracked future to fail. Each tracked future
+ * decrements the counter upon completion, and the one completing last completes all pending unions.
+ * Providing and adopting futures, as well as uniting them, is lock-free and may be done concurrently
+ * from multiple threads. Note that a union only covers the futures tracked upon its creation.
+ * As long as no further futures are tracked, a pending union is completed through the counter.
+ * Once a further future is tracked, each pending union detaches from the counter and watches
+ * the futures tracked upon its creation instead.
+ *
+ * The tracking nodes of the futures are linked into a lock-free stack as well, so that an optimistic
+ * union created with a {@link CancelPolicy} may cancel the remaining futures once it fails, and so that
+ * quorum unions may watch each of the futures tracked upon their creation.
+ * The same nodes allow a {@link #typed()} view of the hub to collect or reduce the resulted values
+ * of the tracked futures, and allow the outcomes of the tracked futures to be consumed in the order
+ * of their completion, see {@link #onEachCompletion(Callback, Callback)} and {@link #completionQueue()}.
+ *
+ * Once the number of pending futures exceeds a threshold, the counter is striped. Futures tracked from then on
+ * are counted by one of several padded stripe counters, chosen at random, so that concurrent completions mostly
+ * update distinct cache lines. A stripe holds a single count of the hub counter for as long as it is non zero,
+ * so the hub counter is only updated when a stripe becomes empty or non empty, and still reaches zero
+ * exactly when all the tracked futures are complete.
  */
 public class RedFutureHub {
 
+    // Constants
+
+    /**
+     * Atomic updater of {@link #_pending}
+     */
+    private static final AtomicIntegerFieldUpdater<RedFutureHub> PENDING =
+            AtomicIntegerFieldUpdater.newUpdater(RedFutureHub.class, "_pending");
+
+    /**
+     * Atomic updater of {@link #_failure}
+     */
+    private static final AtomicReferenceFieldUpdater<RedFutureHub, Throwable> FAILURE =
+            AtomicReferenceFieldUpdater.newUpdater(RedFutureHub.class, Throwable.class, "_failure");
+
+    /**
+     * Atomic updater of {@link #_tracked}
+     */
+    private static final AtomicReferenceFieldUpdater<RedFutureHub, Tracked> TRACKED =
+            AtomicReferenceFieldUpdater.newUpdater(RedFutureHub.class, Tracked.class, "_tracked");
+
+    /**
+     * Atomic updater of {@link #_unions}
+     */
+    private static final AtomicReferenceFieldUpdater<RedFutureHub, Union> UNIONS =
+            AtomicReferenceFieldUpdater.newUpdater(RedFutureHub.class, Union.class, "_unions");
+
+    /**
+     * Atomic updater of {@link #_stripes}
+     */
+    private static final AtomicReferenceFieldUpdater<RedFutureHub, Stripe[]> STRIPES =
+            AtomicReferenceFieldUpdater.newUpdater(RedFutureHub.class, Stripe[].class, "_stripes");
+
+    /**
+     * Number of pending futures above which the counter is striped
+     */
+    private static final int STRIPING_THRESHOLD = 1024;
+
+    /**
+     * Number of stripe counters, the smallest power of two covering the available processors, up to 64
+     */
+    private static final int STRIPE_COUNT =
+            Math.min(64, Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)));
+
     // Fields
 
     /**
-     * All the hub's tracked futures.
+     * Number of tracked futures which are not yet complete
+     */
+    private volatile int _pending;
+
+    /**
+     * Cause of the first tracked future to fail, or null if none has failed
+     */
+    private volatile Throwable _failure;
+
+    /**
+     * Tracking nodes of the cancellable tracked futures, linked by {@link Tracked#next()}
      */
-    private final List<ListenableFuture<?>> listenableFutures;
+    private volatile Tracked _tracked;
+
+    /**
+     * Unions pending the completion of the tracked futures, linked by {@link Union#_next}
+     */
+    private volatile Union _unions;
+
+    /**
+     * Stripe counters of the pending futures, or null while the counter is not striped
+     */
+    private volatile Stripe[] _stripes;
 
     // Constructors
 
     @SuppressWarnings("WeakerAccess")
-    protected RedFutureHub() {
-        listenableFutures = new LinkedList<>();
-    }
+    protected RedFutureHub() {}
 
     // Public
 
@@ -38,7 +132,7 @@ public class RedFutureHub {
      */
     public OpenRedFuture provideFuture() {
         OpenRedFuture future = RedFuture.future();
-        listenableFutures.add(future.getListenableFuture());
+        track(future);
         return future;
     }
 
@@ -52,19 +146,34 @@ public class RedFutureHub {
      */
     public <T> OpenRedFutureOf<T> provideFutureOf() {
         OpenRedFutureOf<T> future = RedFuture.futureOf();
-        listenableFutures.add(future.getListenableFuture());
+        track(future);
         return future;
     }
 
     /**
      * Requests the hub to adopt and track an instance of {@link RedFuture}.
      * This means that the given instance will be tracked by the hub.
+     * Note that only instances of {@link OpenRedFuture}, {@link OpenRedFutureOf} or {@link Future}
+     * may be cancelled by a {@link CancelPolicy}.
      *
      * @param future future to adopt
      * @return this, @see <a href="https://en.wikipedia.org/wiki/Fluent_interface">Fluent interface</a>
      */
     public RedFutureHub adoptFuture(RedFuture future) {
-        listenableFutures.add(future.getListenableFuture());
+        if (future instanceof BaseOpenRedFuture) {
+            track((BaseOpenRedFuture<?>) future);
+            return this;
+        }
+        if (future instanceof ResolvedRedFutureOf) {
+            push(new CallbackChild(future));
+            detachUnions();
+            return this;
+        }
+        // counted before being pushed, so that a concurrent union can not observe it with a zero counter
+        Stripe stripe = acquire();
+        push(new CallbackChild(future));
+        detachUnions();
+        future.addCallbacks(() -> childCompleted(stripe), cause -> childFailed(stripe, cause));
         return this;
     }
 
@@ -77,7 +186,7 @@ public class RedFutureHub {
      */
     public RedFutureHub adoptFutures(Collection<RedFuture> futures) {
         for (RedFuture future : futures) {
-            listenableFutures.add(future.getListenableFuture());
+            adoptFuture(future);
         }
         return this;
     }
@@ -91,7 +200,7 @@ public class RedFutureHub {
      */
     public RedFutureHub adoptFutures(RedFuture... futures) {
         for (RedFuture future : futures) {
-            listenableFutures.add(future.getListenableFuture());
+            adoptFuture(future);
         }
         return this;
     }
@@ -104,7 +213,10 @@ public class RedFutureHub {
      * @return this, @see <a href="https://en.wikipedia.org/wiki/Fluent_interface">Fluent interface</a>
      */
     public RedFutureHub adoptListenableFuture(ListenableFuture future) {
-        listenableFutures.add(future);
+        ListenerChild child = new ListenerChild(this, acquire(), future);
+        push(child);
+        detachUnions();
+        future.addListener(child, MoreExecutors.directExecutor());
         return this;
     }
 
@@ -117,7 +229,7 @@ public class RedFutureHub {
      */
     public RedFutureHub adoptListenableFutures(Collection<ListenableFuture> futures) {
         for (ListenableFuture future : futures) {
-            listenableFutures.add(future);
+            adoptListenableFuture(future);
         }
         return this;
     }
@@ -130,7 +242,9 @@ public class RedFutureHub {
      * @return this, @see <a href="https://en.wikipedia.org/wiki/Fluent_interface">Fluent interface</a>
      */
     public RedFutureHub adoptListenableFutures(ListenableFuture<?>... futures) {
-        Collections.addAll(listenableFutures, futures);
+        for (ListenableFuture<?> future : futures) {
+            adoptListenableFuture(future);
+        }
         return this;
     }
 
@@ -144,14 +258,21 @@ public class RedFutureHub {
      * @return the united future.
      */
     public RedFuture uniteOptimistically() {
-        RedFuture validated = validate();
-        if (validated != null) {
-            return validated;
-        }
-        ListenableFuture<List<Object>> collection = Futures.allAsList(listenableFutures);
-        OpenRedFuture future = RedFuture.future();
-        future.follow(collection);
-        return future;
+        return unite(Mode.OPTIMISTIC, CancelPolicy.NONE);
+    }
+
+    /**
+     * Requests the hub to return a single united, optimistic {@link RedFuture} instance,
+     * @see #uniteOptimistically().
+     * Once the returned future fails, or is cancelled, the hub's tracked futures which are not yet
+     * complete are handled according to the given policy. This frees the resources held by the
+     * remaining futures as soon as the union fails, instead of after the slowest of them completes.
+     *
+     * @param policy the policy of handling the remaining tracked futures once the union fails
+     * @return the united future.
+     */
+    public RedFuture uniteOptimistically(CancelPolicy policy) {
+        return unite(Mode.OPTIMISTIC, policy);
     }
 
     /**
@@ -163,14 +284,7 @@ public class RedFutureHub {
      * @return the united future.
      */
     public RedFuture unitePessimistically() {
-        RedFuture validated = validate();
-        if (validated != null) {
-            return validated;
-        }
-        ListenableFuture<List<Object>> collection = Futures.successfulAsList(listenableFutures);
-        OpenRedFuture future = RedFuture.future();
-        future.follow(collection);
-        return future;
+        return unite(Mode.PESSIMISTIC, CancelPolicy.NONE);
     }
 
     /**
@@ -184,29 +298,1452 @@ public class RedFutureHub {
      * @return the united future.
      */
     public RedFuture uniteCautiously() {
-        RedFuture validated = validate();
-        if (validated != null) {
-            return validated;
+        return unite(Mode.CAUTIOUS, CancelPolicy.NONE);
+    }
+
+    /**
+     * Requests the hub to return a single united quorum {@link RedFuture} instance.
+     * Quorum means that the returned future expects at least the given number of the hub's tracked
+     * futures to resolve successfully, namely, it will be:
+     * Successfully resolved as soon as the given number of the hub's tracked futures are successfully resolved.
+     * Failed as soon as enough of the hub's tracked futures are failed so that the quorum can not be reached,
+     * in such a case, the failure callback throwable will be the cause of the failure that made the quorum
+     * unreachable.
+     * Note that a quorum union watches the futures tracked upon its creation.
+     *
+     * @param quorum the number of successfully resolved futures to expect
+     * @return the united future.
+     */
+    public RedFuture uniteQuorum(int quorum) {
+        return uniteQuorum(quorum, CancelPolicy.NONE);
+    }
+
+    /**
+     * Requests the hub to return a single united quorum {@link RedFuture} instance, @see {@link #uniteQuorum(int)}.
+     * Once the returned future is completed, or is cancelled, the hub's tracked futures which are not yet
+     * complete are handled according to the given policy.
+     *
+     * @param quorum the number of successfully resolved futures to expect
+     * @param policy the policy of handling the remaining tracked futures once the union completes
+     * @return the united future.
+     */
+    public RedFuture uniteQuorum(int quorum, CancelPolicy policy) {
+        return quorum(quorum, Quorum.COUNT, policy);
+    }
+
+    /**
+     * Requests the hub to return a {@link RedFutureOf} of the resulted value of the first of the
+     * hub's tracked futures to resolve successfully, namely, it will be:
+     * Successfully resolved with the value of the first of the hub's tracked futures to be successfully resolved.
+     * Failed if and when all the hub's tracked futures are failed, in such a case, the failure callback
+     * throwable will be the cause of the last tracked future to fail.
+     * Note that the returned future watches the futures tracked upon its creation.
+     *
+     * @param <T> type of the tracked futures values
+     * @return the first successful future.
+     */
+    public <T> RedFutureOf<T> firstSuccessful() {
+        return firstSuccessful(CancelPolicy.NONE);
+    }
+
+    /**
+     * Requests the hub to return a {@link RedFutureOf} of the resulted value of the first of the
+     * hub's tracked futures to resolve successfully, @see {@link #firstSuccessful()}.
+     * Once the returned future is completed, or is cancelled, the hub's tracked futures which are not yet
+     * complete are handled according to the given policy.
+     *
+     * @param policy the policy of handling the remaining tracked futures once the returned future completes
+     * @param <T>    type of the tracked futures values
+     * @return the first successful future.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> RedFutureOf<T> firstSuccessful(CancelPolicy policy) {
+        return (RedFutureOf<T>) quorum(1, Quorum.FIRST, policy);
+    }
+
+    /**
+     * Requests the hub to return a {@link RedFutureOf} of the resulted values of the first given number
+     * of the hub's tracked futures to resolve successfully, in the order of their resolution, namely, it will be:
+     * Successfully resolved as soon as the given number of the hub's tracked futures are successfully resolved.
+     * Failed as soon as enough of the hub's tracked futures are failed so that the given number of successful
+     * futures can not be reached, in such a case, the failure callback throwable will be the cause of the failure
+     * that made it unreachable.
+     * Note that the returned future watches the futures tracked upon its creation.
+     *
+     * @param k   the number of successfully resolved futures to expect
+     * @param <T> type of the tracked futures values
+     * @return the first k successful future.
+     */
+    public <T> RedFutureOf<List<T>> firstK(int k) {
+        return firstK(k, CancelPolicy.NONE);
+    }
+
+    /**
+     * Requests the hub to return a {@link RedFutureOf} of the resulted values of the first given number
+     * of the hub's tracked futures to resolve successfully, @see {@link #firstK(int)}.
+     * Once the returned future is completed, or is cancelled, the hub's tracked futures which are not yet
+     * complete are handled according to the given policy.
+     *
+     * @param k      the number of successfully resolved futures to expect
+     * @param policy the policy of handling the remaining tracked futures once the returned future completes
+     * @param <T>    type of the tracked futures values
+     * @return the first k successful future.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> RedFutureOf<List<T>> firstK(int k, CancelPolicy policy) {
+        return (RedFutureOf<List<T>>) (RedFutureOf<?>) quorum(k, Quorum.LIST, policy);
+    }
+
+    /**
+     * Returns a typed view of the hub, which may unite the tracked futures into their resulted values.
+     * The view does not check the types of the tracked futures, all of them are expected to
+     * result in values of the given type.
+     *
+     * @param <T> type of the tracked futures values
+     * @return a typed view of the current hub
+     */
+    public <T> Typed<T> typed() {
+        return new Typed<>(this);
+    }
+
+    /**
+     * Registers callbacks to be invoked once each of the hub's tracked futures completes, in the order
+     * of their completion. The success callback receives the resulted value of each successful future,
+     * and the failure callback receives the cause of each failed future. Callbacks are invoked by the
+     * thread completing each future, and may therefore be invoked concurrently.
+     * Note that only the futures tracked upon registration are watched.
+     *
+     * @param onSuccess callback to invoke with the value of each successful future
+     * @param onFailure callback to invoke with the cause of each failed future
+     * @param <T>       type of the tracked futures values
+     * @return this, @see <a href="https://en.wikipedia.org/wiki/Fluent_interface">Fluent interface</a>
+     */
+    public <T> RedFutureHub onEachCompletion(Callback<T> onSuccess, Callback<Throwable> onFailure) {
+        EachCompletion<T> watcher = new EachCompletion<>(onSuccess, onFailure);
+        for (Tracked tracked = _tracked; tracked != null; tracked = tracked.next()) {
+            tracked.watch(watcher);
         }
-        RedFuture optimistic = uniteOptimistically();
-        RedFuture pessimistic = unitePessimistically();
-        OpenRedFuture future = RedFuture.future();
-        pessimistic.addSuccessCallback(() -> future.follow(optimistic));
-        return future;
+        return this;
+    }
+
+    /**
+     * Requests the hub to return a {@link CompletionQueue} yielding the hub's tracked futures
+     * in the order of their completion, @see {@link java.util.concurrent.ExecutorCompletionService}.
+     * Note that only the futures tracked upon creation of the queue are watched.
+     *
+     * @param <T> type of the tracked futures values
+     * @return a new completion queue
+     */
+    public <T> CompletionQueue<T> completionQueue() {
+        Tracked head = _tracked;
+        CompletionQueue<T> queue = new CompletionQueue<>(count(head));
+        for (Tracked tracked = head; tracked != null; tracked = tracked.next()) {
+            tracked.watch(new Completion(queue));
+        }
+        return queue;
+    }
+
+    /**
+     * Creates a hub launching submitted tasks with at most the given number of them in flight,
+     * @see {@link BoundedRedFutureHub#submit(java.util.function.Supplier)}.
+     *
+     * @param maxInFlight maximal number of launched tasks which are not yet complete
+     * @return a new instance of {@link BoundedRedFutureHub}
+     */
+    public static BoundedRedFutureHub bounded(int maxInFlight) {
+        return new BoundedRedFutureHub(maxInFlight);
     }
 
     // Private
 
-    private RedFuture validate() {
-        if (listenableFutures.size() == 0) {
-            return RedFuture.resolved();
+    /**
+     * Returns a quorum union watching each of the currently tracked futures.
+     *
+     * @param required the number of successfully resolved futures to expect
+     * @param outcome  the outcome to resolve the union with, see {@link Quorum#COUNT},
+     *                 {@link Quorum#FIRST} and {@link Quorum#LIST}
+     * @param policy   the policy of handling the remaining tracked futures once the union completes
+     * @return the quorum union
+     */
+    private RedFutureOf<Object> quorum(int required, int outcome, CancelPolicy policy) {
+        if (required < 1) {
+            throw new IllegalArgumentException("quorum must be positive, got " + required);
+        }
+        Tracked head = _tracked;
+        int total = count(head);
+        if (total < required) {
+            return RedFuture.failedOf(new IllegalStateException(
+                    "quorum of " + required + " can not be reached by " + total + " tracked futures"));
+        }
+        Quorum quorum = new Quorum(head, required, total, outcome, policy);
+        for (Tracked tracked = head; tracked != null && !quorum.isDone(); tracked = tracked.next()) {
+            tracked.watch(quorum);
+        }
+        return quorum;
+    }
+
+    /**
+     * Tracks the given future by registering a completion node directly on its callback stack
+     *
+     * @param future future to track
+     */
+    private void track(BaseOpenRedFuture<?> future) {
+        Child child = new Child(this, acquire(), future);
+        push(child);
+        detachUnions();
+        future.register(child);
+    }
+
+    /**
+     * Counts a newly tracked future as pending. If the counter is striped, the future is counted by a
+     * random stripe. The hub counter is incremented beforehand, and kept incremented only if the stripe
+     * was empty, so that it can not reach zero while any stripe is non empty.
+     * Otherwise, the future is counted by the hub counter, which is striped once exceeding the threshold.
+     *
+     * @return the stripe counting the future, or null if counted by the hub counter
+     */
+    private Stripe acquire() {
+        int pending = PENDING.incrementAndGet(this);
+        Stripe[] stripes = _stripes;
+        if (stripes == null) {
+            if (pending > STRIPING_THRESHOLD) {
+                STRIPES.compareAndSet(this, null, newStripes());
+            }
+            return null;
+        }
+        Stripe stripe = stripes[ThreadLocalRandom.current().nextInt() & (stripes.length - 1)];
+        if (Stripe.PENDING.getAndIncrement(stripe) != 0) {
+            PENDING.decrementAndGet(this);
+        }
+        return stripe;
+    }
+
+    /**
+     * Pushes the given tracking node to the tracked stack
+     *
+     * @param tracked tracking node to push
+     */
+    private void push(Tracked tracked) {
+        while (true) {
+            Tracked head = _tracked;
+            tracked.link(head);
+            if (TRACKED.compareAndSet(this, head, tracked)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Detaches the pending unions from the counter, so that a newly tracked future, which is
+     * already pushed to the tracked stack, is not counted by them.
+     * Must be invoked before the completion of the new future may be reported.
+     */
+    private void detachUnions() {
+        for (Union union = _unions; union != null; union = union._next) {
+            union.detach();
+        }
+    }
+
+    /**
+     * Cancels the futures covered by a union according to the given policy, that is the futures tracked
+     * upon its creation, so that futures tracked later are left intact.
+     * Futures which are already complete ignore the cancellation.
+     *
+     * @param snapshot the head of the tracked stack upon creation of the union
+     * @param policy   the policy of handling the remaining tracked futures
+     */
+    private static void cancelTracked(Tracked snapshot, CancelPolicy policy) {
+        if (policy == CancelPolicy.NONE) {
+            return;
+        }
+        boolean mayInterruptIfRunning = policy == CancelPolicy.INTERRUPT;
+        for (Tracked tracked = snapshot; tracked != null; tracked = tracked.next()) {
+            tracked.cancel(mayInterruptIfRunning);
+        }
+    }
+
+    /**
+     * Returns a union of the tracked futures. If all of them are already complete, an already
+     * completed union is returned. Otherwise the union is pushed to the pending unions, to be
+     * completed by the tracked future completing last, or by the first to fail if optimistic.
+     * If a future is tracked concurrently, the union is detached right away, see {@link Union#detach()}.
+     *
+     * @param mode   the expectation of the union from the tracked futures
+     * @param policy the policy of handling the remaining tracked futures once the union fails
+     * @return the united future
+     */
+    private RedFuture unite(Mode mode, CancelPolicy policy) {
+        if (_pending == 0) {
+            Throwable failure = _failure;
+            return failure != null && mode != Mode.PESSIMISTIC ? RedFuture.failed(failure) : RedFuture.resolved();
+        }
+        Tracked snapshot = _tracked;
+        Union union = new Union(mode, policy, snapshot);
+        while (true) {
+            Union head = _unions;
+            union._next = head;
+            if (UNIONS.compareAndSet(this, head, union)) {
+                break;
+            }
+        }
+        if (_tracked != snapshot) {
+            union.detach();
+        }
+        // the failure is read before the detached flag, a future failing after being tracked
+        // later than the union detaches it beforehand
+        Throwable failure = _failure;
+        if (union.isDetached()) {
+            return union;
+        }
+        if (mode == Mode.OPTIMISTIC && failure != null) {
+            if (union.fail(failure, false)) {
+                cancelTracked(snapshot, policy);
+            }
+        }
+        else if (_pending == 0) {
+            settle(union);
+        }
+        return union;
+    }
+
+    /**
+     * Invoked once a tracked future fails. The first failure is kept, and fails all
+     * pending optimistic unions, which then handle the remaining futures according to their policy.
+     *
+     * @param stripe the stripe counting the future, or null if counted by the hub counter
+     * @param cause  the cause of failure
+     */
+    private void childFailed(Stripe stripe, Throwable cause) {
+        if (FAILURE.compareAndSet(this, null, cause)) {
+            for (Union union = _unions; union != null; union = union._next) {
+                if (union._mode == Mode.OPTIMISTIC && !union.isDetached() && union.fail(cause, false)) {
+                    cancelTracked(union._snapshot, union._policy);
+                }
+            }
+        }
+        childCompleted(stripe);
+    }
+
+    /**
+     * Invoked once a tracked future completes. The last one to complete settles all pending unions.
+     * A future counted by a stripe decrements the hub counter only if its stripe becomes empty.
+     *
+     * @param stripe the stripe counting the future, or null if counted by the hub counter
+     */
+    private void childCompleted(Stripe stripe) {
+        if (stripe != null && Stripe.PENDING.decrementAndGet(stripe) != 0) {
+            return;
+        }
+        if (PENDING.decrementAndGet(this) != 0) {
+            return;
+        }
+        Union union = UNIONS.getAndSet(this, null);
+        while (union != null) {
+            settle(union);
+            union = union._next;
+        }
+    }
+
+    /**
+     * Completes the given union once all the tracked futures are complete,
+     * unless it is detached and completes by itself
+     *
+     * @param union union to complete
+     */
+    private void settle(Union union) {
+        Throwable failure = _failure;
+        if (union.isDetached()) {
+            return;
+        }
+        if (failure != null && union._mode != Mode.PESSIMISTIC) {
+            union.tryFail(failure);
+        }
+        else {
+            union.tryResolve();
+        }
+    }
+
+    /**
+     * Counts the tracking nodes linked from the given node
+     *
+     * @param head the first tracking node to count
+     * @return the number of tracking nodes
+     */
+    private static int count(Tracked head) {
+        int total = 0;
+        for (Tracked tracked = head; tracked != null; tracked = tracked.next()) {
+            total++;
+        }
+        return total;
+    }
+
+    private static Stripe[] newStripes() {
+        Stripe[] stripes = new Stripe[STRIPE_COUNT];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+        return stripes;
+    }
+
+    // Static
+
+    /**
+     * A tracking node of a single cancellable future of the hub
+     */
+    private interface Tracked {
+
+        /**
+         * @param next the next tracking node in the tracked stack
+         */
+        void link(Tracked next);
+
+        /**
+         * @return the next tracking node in the tracked stack
+         */
+        Tracked next();
+
+        /**
+         * Cancels the tracked future
+         *
+         * @param mayInterruptIfRunning whether or not running tasks may be interrupted
+         */
+        void cancel(boolean mayInterruptIfRunning);
+
+        /**
+         * Reports the outcome of the tracked future to the given watcher once it completes
+         *
+         * @param watcher watcher to report to
+         */
+        void watch(Watcher watcher);
+
+    }
+
+    /**
+     * A node tracking completion of a single red future of the hub
+     */
+    private static final class Child extends BaseOpenRedFuture.Node implements Tracked {
+
+        private final RedFutureHub _hub;
+
+        /**
+         * The stripe counting the future, or null if counted by the hub counter
+         */
+        private final Stripe _stripe;
+
+        private final BaseOpenRedFuture<?> _future;
+
+        private Tracked _nextTracked;
+
+        private Child(RedFutureHub hub, Stripe stripe, BaseOpenRedFuture<?> future) {
+            super(null);
+            _hub = hub;
+            _stripe = stripe;
+            _future = future;
+        }
+
+        @Override
+        public void link(Tracked next) {
+            _nextTracked = next;
+        }
+
+        @Override
+        public Tracked next() {
+            return _nextTracked;
+        }
+
+        @Override
+        public void cancel(boolean mayInterruptIfRunning) {
+            _future.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public void watch(Watcher watcher) {
+            _future.register(new WatcherNode(watcher));
+        }
+
+        @Override
+        void invoke(BaseOpenRedFuture<?> future, Object result) {
+            if (BaseOpenRedFuture.isFailure(result)) {
+                _hub.childFailed(_stripe, BaseOpenRedFuture.causeOf(result));
+            }
+            else {
+                _hub.childCompleted(_stripe);
+            }
+        }
+
+    }
+
+    /**
+     * A listener tracking completion of a single {@link ListenableFuture} of the hub
+     */
+    private static final class ListenerChild implements Runnable, Tracked {
+
+        private final RedFutureHub _hub;
+
+        /**
+         * The stripe counting the future, or null if counted by the hub counter
+         */
+        private final Stripe _stripe;
+
+        private final ListenableFuture<?> _future;
+
+        private Tracked _nextTracked;
+
+        private ListenerChild(RedFutureHub hub, Stripe stripe, ListenableFuture<?> future) {
+            _hub = hub;
+            _stripe = stripe;
+            _future = future;
+        }
+
+        @Override
+        public void link(Tracked next) {
+            _nextTracked = next;
+        }
+
+        @Override
+        public Tracked next() {
+            return _nextTracked;
+        }
+
+        @Override
+        public void cancel(boolean mayInterruptIfRunning) {
+            _future.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public void watch(Watcher watcher) {
+            _future.addListener(() -> {
+                Object value;
+                try {
+                    value = Futures.getDone(_future);
+                } catch (ExecutionException e) {
+                    watcher.failed(e.getCause());
+                    return;
+                } catch (RuntimeException | Error e) {
+                    watcher.failed(e);
+                    return;
+                }
+                watcher.succeeded(value);
+            }, MoreExecutors.directExecutor());
+        }
+
+        @Override
+        public void run() {
+            try {
+                Futures.getDone(_future);
+            } catch (ExecutionException e) {
+                _hub.childFailed(_stripe, e.getCause());
+                return;
+            } catch (RuntimeException | Error e) {
+                _hub.childFailed(_stripe, e);
+                return;
+            }
+            _hub.childCompleted(_stripe);
+        }
+
+    }
+
+    /**
+     * A tracking node of a single {@link RedFuture} of the hub which is not an open red future
+     */
+    private static final class CallbackChild implements Tracked {
+
+        private final RedFuture _future;
+
+        private Tracked _nextTracked;
+
+        private CallbackChild(RedFuture future) {
+            _future = future;
+        }
+
+        @Override
+        public void link(Tracked next) {
+            _nextTracked = next;
+        }
+
+        @Override
+        public Tracked next() {
+            return _nextTracked;
+        }
+
+        @Override
+        public void cancel(boolean mayInterruptIfRunning) {
+            if (_future instanceof Future) {
+                ((Future<?>) _future).cancel(mayInterruptIfRunning);
+            }
         }
-        if (listenableFutures.size() == 1) {
-            OpenRedFuture future = RedFuture.future();
-            future.follow(listenableFutures.get(0));
-            return future;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void watch(Watcher watcher) {
+            if (_future instanceof RedFutureOf) {
+                ((RedFutureOf<Object>) _future).addCallbacks(watcher::succeeded, watcher::failed);
+            }
+            else {
+                _future.addCallbacks(() -> watcher.succeeded(null), watcher::failed);
+            }
+        }
+
+    }
+
+    /**
+     * A receiver of the outcomes of the tracked futures, see {@link Tracked#watch(Watcher)}
+     */
+    private interface Watcher {
+
+        /**
+         * Invoked once a watched future is successfully resolved
+         *
+         * @param value the resulted value of the future
+         */
+        void succeeded(Object value);
+
+        /**
+         * Invoked once a watched future is failed
+         *
+         * @param cause the cause of failure
+         */
+        void failed(Throwable cause);
+
+    }
+
+    /**
+     * A node reporting the outcome of a single red future of the hub to a watcher
+     */
+    private static final class WatcherNode extends BaseOpenRedFuture.Node {
+
+        private final Watcher _watcher;
+
+        private WatcherNode(Watcher watcher) {
+            super(null);
+            _watcher = watcher;
+        }
+
+        @Override
+        void invoke(BaseOpenRedFuture<?> future, Object result) {
+            if (BaseOpenRedFuture.isFailure(result)) {
+                _watcher.failed(BaseOpenRedFuture.causeOf(result));
+            }
+            else {
+                _watcher.succeeded(future.value(result));
+            }
+        }
+
+    }
+
+    /**
+     * Padding preceding the counter of a stripe
+     */
+    @SuppressWarnings("unused")
+    private abstract static class StripePadding {
+
+        private long _p1, _p2, _p3, _p4, _p5, _p6, _p7;
+
+    }
+
+    /**
+     * The counter of a stripe, preceded by padding in its superclass, since superclass fields are laid out first
+     */
+    private abstract static class StripeCounter extends StripePadding {
+
+        /**
+         * Number of pending futures counted by the stripe
+         */
+        volatile int _pending;
+
+    }
+
+    /**
+     * A padded counter of the pending futures of a striped hub, occupying a cache line of its own
+     */
+    @SuppressWarnings("unused")
+    private static final class Stripe extends StripeCounter {
+
+        /**
+         * Atomic updater of {@link #_pending}
+         */
+        private static final AtomicIntegerFieldUpdater<StripeCounter> PENDING =
+                AtomicIntegerFieldUpdater.newUpdater(StripeCounter.class, "_pending");
+
+        private long _p9, _p10, _p11, _p12, _p13, _p14, _p15;
+
+    }
+
+    /**
+     * A typed view of a {@link RedFutureHub}, uniting the tracked futures into their resulted values.
+     * As with quorum unions, the returned futures watch the futures tracked upon their creation.
+     *
+     * @param <T> type of the tracked futures values
+     */
+    public static final class Typed<T> {
+
+        // Fields
+
+        private final RedFutureHub _hub;
+
+        // Constructors
+
+        private Typed(RedFutureHub hub) {
+            _hub = hub;
+        }
+
+        // Public
+
+        /**
+         * Requests the hub to return a {@link RedFutureOf} of the resulted values of all the hub's
+         * tracked futures, in the order of their tracking. Namely, it will be:
+         * Successfully resolved once all the hub's tracked futures are successfully resolved.
+         * Failed as soon as any of the hub's tracked futures is failed, in such a case, the failure
+         * callback throwable will be the cause of the first failure.
+         * Each value is written directly to its slot in a pre-sized array, which is exposed as the
+         * resulted list without further copying.
+         *
+         * @return the united future
+         */
+        @SuppressWarnings("unchecked")
+        public RedFutureOf<List<T>> uniteOf() {
+            Tracked head = _hub._tracked;
+            int total = count(head);
+            if (total == 0) {
+                return RedFuture.resolvedOf(Collections.emptyList());
+            }
+            Gather gather = new Gather(total);
+            int index = total;
+            for (Tracked tracked = head; tracked != null && !gather.isDone(); tracked = tracked.next()) {
+                tracked.watch(new Slot(gather, --index));
+            }
+            return (RedFutureOf<List<T>>) (RedFutureOf<?>) gather;
+        }
+
+        /**
+         * Requests the hub to return a {@link RedFutureOf} of the resulted values of all the hub's
+         * tracked futures, folded by the given accumulator in the order of their resolution.
+         * The values are folded as they arrive, without collecting them. The accumulator is invoked
+         * exactly once per value, and never concurrently, so it needs not be thread safe.
+         * The returned future will be:
+         * Successfully resolved with the folded value once all the hub's tracked futures are successfully resolved.
+         * Failed as soon as any of the hub's tracked futures is failed, or the accumulator throws,
+         * in such a case, the failure callback throwable will be the cause of the first failure.
+         *
+         * @param identity    the initial folded value
+         * @param accumulator function folding a single value into the folded value
+         * @param <R>         type of the folded value
+         * @return the reduced future
+         */
+        @SuppressWarnings("unchecked")
+        public <R> RedFutureOf<R> reduce(R identity, BiFunction<R, ? super T, R> accumulator) {
+            Tracked head = _hub._tracked;
+            int total = count(head);
+            if (total == 0) {
+                return RedFuture.resolvedOf(identity);
+            }
+            Reduction reduction = new Reduction(total, identity,
+                    (BiFunction<Object, Object, Object>) (BiFunction<?, ?, ?>) accumulator);
+            for (Tracked tracked = head; tracked != null && !reduction.isDone(); tracked = tracked.next()) {
+                tracked.watch(reduction);
+            }
+            return (RedFutureOf<R>) reduction;
+        }
+
+    }
+
+    /**
+     * A queue yielding the tracked futures of a {@link RedFutureHub} in the order of their completion,
+     * @see {@link RedFutureHub#completionQueue()}. Each yielded future is already complete, and holds
+     * the outcome of a single tracked future.
+     *
+     * The queue is a lock-free multi-producer single-consumer queue, the threads completing the tracked
+     * futures enqueue their outcomes, and a single consumer thread at a time may poll or take them.
+     *
+     * @param <T> type of the tracked futures values
+     */
+    public static final class CompletionQueue<T> {
+
+        // Constants
+
+        /**
+         * Atomic updater of {@link #_tail}, raw since a class literal of a generic type is raw
+         */
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<CompletionQueue, Completion> TAIL =
+                AtomicReferenceFieldUpdater.newUpdater(CompletionQueue.class, Completion.class, "_tail");
+
+        // Fields
+
+        /**
+         * The last consumed node, whose successor is the next to consume, owned by the consumer
+         */
+        private Completion _head;
+
+        /**
+         * Number of outcomes which are not yet consumed, owned by the consumer
+         */
+        private int _remaining;
+
+        /**
+         * The last enqueued node
+         */
+        private volatile Completion _tail;
+
+        /**
+         * The consumer thread parked until the next outcome is enqueued, or null if none
+         */
+        private volatile Thread _consumer;
+
+        // Constructors
+
+        private CompletionQueue(int total) {
+            Completion stub = new Completion(this);
+            _head = stub;
+            _tail = stub;
+            _remaining = total;
+        }
+
+        // Public
+
+        /**
+         * @return the number of tracked futures whose outcome was not yet consumed
+         */
+        public int remaining() {
+            return _remaining;
+        }
+
+        /**
+         * Returns the next completed future if any, without waiting
+         *
+         * @return the next completed future, or null if none has completed since the last consumed one
+         */
+        @SuppressWarnings("unchecked")
+        public RedFutureOf<T> poll() {
+            Completion next = _head._next;
+            if (next == null) {
+                return null;
+            }
+            _head = next;
+            RedFutureOf<?> result = next._result;
+            next._result = null;
+            _remaining--;
+            return (RedFutureOf<T>) result;
+        }
+
+        /**
+         * Returns the next completed future, waiting for it to complete if necessary
+         *
+         * @return the next completed future
+         * @throws InterruptedException   if the current thread was interrupted while waiting
+         * @throws NoSuchElementException if the outcomes of all tracked futures were already consumed
+         */
+        public RedFutureOf<T> take() throws InterruptedException {
+            return await(0, false);
+        }
+
+        /**
+         * Returns the next completed future, waiting up to the given timeout for it to complete if necessary
+         *
+         * @param timeout the maximum time to wait
+         * @param unit    the time unit of the timeout argument
+         * @return the next completed future, or null if the timeout elapsed
+         * @throws InterruptedException   if the current thread was interrupted while waiting
+         * @throws NoSuchElementException if the outcomes of all tracked futures were already consumed
+         */
+        public RedFutureOf<T> take(long timeout, TimeUnit unit) throws InterruptedException {
+            return await(System.nanoTime() + unit.toNanos(timeout), true);
+        }
+
+        // Private
+
+        /**
+         * Enqueues the given node, and wakes the consumer if waiting
+         *
+         * @param completion node to enqueue
+         */
+        private void offer(Completion completion) {
+            Completion previous = TAIL.getAndSet(this, completion);
+            previous._next = completion;
+            Thread consumer = _consumer;
+            if (consumer != null) {
+                LockSupport.unpark(consumer);
+            }
+        }
+
+        private RedFutureOf<T> await(long deadline, boolean timed) throws InterruptedException {
+            if (_remaining == 0) {
+                throw new NoSuchElementException("all tracked futures were already consumed");
+            }
+            RedFutureOf<T> result = poll();
+            if (result != null) {
+                return result;
+            }
+            _consumer = Thread.currentThread();
+            try {
+                while ((result = poll()) == null) {
+                    if (Thread.interrupted()) {
+                        throw new InterruptedException();
+                    }
+                    if (!timed) {
+                        LockSupport.park(this);
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return null;
+                    }
+                    LockSupport.parkNanos(this, remaining);
+                }
+                return result;
+            } finally {
+                _consumer = null;
+            }
+        }
+
+    }
+
+    /**
+     * A watcher enqueueing the outcome of a single tracked future into a completion queue,
+     * doubling as the queue node
+     */
+    private static final class Completion implements Watcher {
+
+        private final CompletionQueue<?> _queue;
+
+        /**
+         * The outcome of the tracked future, cleared once consumed
+         */
+        private RedFutureOf<?> _result;
+
+        /**
+         * The next node in the queue
+         */
+        private volatile Completion _next;
+
+        private Completion(CompletionQueue<?> queue) {
+            _queue = queue;
+        }
+
+        @Override
+        public void succeeded(Object value) {
+            _result = RedFuture.resolvedOf(value);
+            _queue.offer(this);
+        }
+
+        @Override
+        public void failed(Throwable cause) {
+            _result = RedFuture.failedOf(cause);
+            _queue.offer(this);
+        }
+
+    }
+
+    /**
+     * A watcher invoking callbacks with the outcome of each tracked future
+     */
+    private static final class EachCompletion<T> implements Watcher {
+
+        private final Callback<T> _onSuccess;
+
+        private final Callback<Throwable> _onFailure;
+
+        private EachCompletion(Callback<T> onSuccess, Callback<Throwable> onFailure) {
+            _onSuccess = onSuccess;
+            _onFailure = onFailure;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void succeeded(Object value) {
+            BaseOpenRedFuture.call(_onSuccess, (T) value);
+        }
+
+        @Override
+        public void failed(Throwable cause) {
+            BaseOpenRedFuture.call(_onFailure, cause);
+        }
+
+    }
+
+    /**
+     * A united future collecting the resulted values of the tracked futures
+     */
+    private static final class Gather extends OpenRedFutureOf<Object> {
+
+        // Constants
+
+        private static final AtomicIntegerFieldUpdater<Gather> REMAINING =
+                AtomicIntegerFieldUpdater.newUpdater(Gather.class, "_remaining");
+
+        // Fields
+
+        /**
+         * Values of the tracked futures by order of tracking
+         */
+        private final Object[] _values;
+
+        /**
+         * Number of values which are not yet written
+         */
+        private volatile int _remaining;
+
+        // Constructors
+
+        private Gather(int total) {
+            _values = new Object[total];
+            _remaining = total;
+        }
+
+        // Private
+
+        /**
+         * Writes the value of a single tracked future, the last one to be written resolves the union.
+         * The decrement publishes the written value to the thread resolving the union.
+         *
+         * @param index the tracking index of the future
+         * @param value the resulted value of the future
+         */
+        private void write(int index, Object value) {
+            _values[index] = value;
+            if (REMAINING.decrementAndGet(this) == 0) {
+                resolve(Arrays.asList(_values), false);
+            }
+        }
+
+    }
+
+    /**
+     * A watcher writing the value of a single tracked future into its slot of a gathering union
+     */
+    private static final class Slot implements Watcher {
+
+        private final Gather _gather;
+
+        private final int _index;
+
+        private Slot(Gather gather, int index) {
+            _gather = gather;
+            _index = index;
+        }
+
+        @Override
+        public void succeeded(Object value) {
+            _gather.write(_index, value);
+        }
+
+        @Override
+        public void failed(Throwable cause) {
+            _gather.fail(cause, false);
         }
-        return null;
+
+    }
+
+    /**
+     * A united future folding the resulted values of the tracked futures as they arrive.
+     * Arriving values are pushed to a lock-free stack, which is drained by a single thread at a time,
+     * namely the one to increment the work counter from zero.
+     */
+    private static final class Reduction extends OpenRedFutureOf<Object> implements Watcher {
+
+        // Constants
+
+        private static final AtomicIntegerFieldUpdater<Reduction> WORK =
+                AtomicIntegerFieldUpdater.newUpdater(Reduction.class, "_work");
+
+        private static final AtomicReferenceFieldUpdater<Reduction, Arrival> ARRIVALS =
+                AtomicReferenceFieldUpdater.newUpdater(Reduction.class, Arrival.class, "_arrivals");
+
+        // Fields
+
+        /**
+         * The number of watched futures
+         */
+        private final int _total;
+
+        private final BiFunction<Object, Object, Object> _accumulator;
+
+        /**
+         * The folded value, owned by the draining thread
+         */
+        private Object _accumulated;
+
+        /**
+         * Number of folded values, owned by the draining thread
+         */
+        private int _folded;
+
+        /**
+         * Number of arrivals which are not yet drained, non zero while a thread is draining
+         */
+        private volatile int _work;
+
+        /**
+         * Values arrived since the last drain, linked by {@link Arrival#_next}
+         */
+        private volatile Arrival _arrivals;
+
+        // Constructors
+
+        private Reduction(int total, Object identity, BiFunction<Object, Object, Object> accumulator) {
+            _total = total;
+            _accumulated = identity;
+            _accumulator = accumulator;
+        }
+
+        // Public
+
+        @Override
+        public void succeeded(Object value) {
+            Arrival arrival = new Arrival(value);
+            while (true) {
+                Arrival head = _arrivals;
+                arrival._next = head;
+                if (ARRIVALS.compareAndSet(this, head, arrival)) {
+                    break;
+                }
+            }
+            if (WORK.getAndIncrement(this) != 0) {
+                return;
+            }
+            int work = 1;
+            do {
+                drain();
+                work = WORK.addAndGet(this, -work);
+            } while (work != 0);
+        }
+
+        @Override
+        public void failed(Throwable cause) {
+            fail(cause, false);
+        }
+
+        // Private
+
+        /**
+         * Folds all values arrived since the last drain, in the order of their arrival
+         */
+        private void drain() {
+            Arrival arrival = ARRIVALS.getAndSet(this, null);
+            Arrival reversed = null;
+            while (arrival != null) {
+                Arrival next = arrival._next;
+                arrival._next = reversed;
+                reversed = arrival;
+                arrival = next;
+            }
+            for (; reversed != null && !isDone(); reversed = reversed._next) {
+                try {
+                    _accumulated = _accumulator.apply(_accumulated, reversed._value);
+                } catch (Throwable caught) {
+                    fail(caught, false);
+                    return;
+                }
+                if (++_folded == _total) {
+                    resolve(_accumulated, false);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * A single value arrived to a reduction
+     */
+    private static final class Arrival {
+
+        private final Object _value;
+
+        /**
+         * The next arrival in the arrivals stack
+         */
+        private Arrival _next;
+
+        private Arrival(Object value) {
+            _value = value;
+        }
+
+    }
+
+    /**
+     * A united future expecting a number of the tracked futures to resolve successfully
+     */
+    private static final class Quorum extends OpenRedFutureOf<Object> implements Watcher {
+
+        // Constants
+
+        /**
+         * Outcome of a quorum resolved with no value
+         */
+        private static final int COUNT = 0;
+
+        /**
+         * Outcome of a quorum resolved with the value of the first successful future
+         */
+        private static final int FIRST = 1;
+
+        /**
+         * Outcome of a quorum resolved with a list of the values of the successful futures
+         */
+        private static final int LIST = 2;
+
+        private static final AtomicIntegerFieldUpdater<Quorum> SUCCEEDED =
+                AtomicIntegerFieldUpdater.newUpdater(Quorum.class, "_succeeded");
+
+        private static final AtomicIntegerFieldUpdater<Quorum> WRITTEN =
+                AtomicIntegerFieldUpdater.newUpdater(Quorum.class, "_written");
+
+        private static final AtomicIntegerFieldUpdater<Quorum> FAILED =
+                AtomicIntegerFieldUpdater.newUpdater(Quorum.class, "_failed");
+
+        // Fields
+
+        /**
+         * The head of the tracked stack upon creation of the quorum
+         */
+        private final Tracked _snapshot;
+
+        /**
+         * The number of successfully resolved futures to expect
+         */
+        private final int _required;
+
+        /**
+         * The number of watched futures
+         */
+        private final int _total;
+
+        /**
+         * The outcome to resolve the quorum with
+         */
+        private final int _outcome;
+
+        /**
+         * The policy of handling the remaining tracked futures once the quorum completes
+         */
+        private final CancelPolicy _policy;
+
+        /**
+         * Values of the successful futures by order of resolution, or null if not collected
+         */
+        private final Object[] _values;
+
+        /**
+         * Number of successfully resolved futures, used to claim a slot of the values array
+         */
+        private volatile int _succeeded;
+
+        /**
+         * Number of claimed slots which are already written
+         */
+        private volatile int _written;
+
+        /**
+         * Number of failed futures
+         */
+        private volatile int _failed;
+
+        // Constructors
+
+        private Quorum(Tracked snapshot, int required, int total, int outcome, CancelPolicy policy) {
+            _snapshot = snapshot;
+            _required = required;
+            _total = total;
+            _outcome = outcome;
+            _policy = policy;
+            _values = outcome == COUNT ? null : new Object[required];
+        }
+
+        // Public
+
+        @Override
+        public void succeeded(Object value) {
+            int slot = SUCCEEDED.getAndIncrement(this);
+            if (slot >= _required) {
+                return;
+            }
+            if (_values != null) {
+                _values[slot] = value;
+            }
+            if (WRITTEN.incrementAndGet(this) != _required) {
+                return;
+            }
+            Object result;
+            if (_outcome == COUNT) {
+                result = null;
+            }
+            else if (_outcome == FIRST) {
+                result = _values[0];
+            }
+            else {
+                result = Arrays.asList(_values);
+            }
+            if (resolve(result, false)) {
+                cancelTracked(_snapshot, _policy);
+            }
+        }
+
+        @Override
+        public void failed(Throwable cause) {
+            if (FAILED.incrementAndGet(this) == _total - _required + 1 && fail(cause, false)) {
+                cancelTracked(_snapshot, _policy);
+            }
+        }
+
+        @Override
+        void cancelled(boolean mayInterruptIfRunning) {
+            cancelTracked(_snapshot, _policy);
+        }
+
+    }
+
+    /**
+     * A united future pending the completion of the tracked futures.
+     * Once detached, the union watches the futures tracked upon its creation, and counts their
+     * completions by itself.
+     */
+    private static final class Union extends OpenRedFuture implements Watcher {
+
+        // Constants
+
+        private static final AtomicIntegerFieldUpdater<Union> DETACHED =
+                AtomicIntegerFieldUpdater.newUpdater(Union.class, "_detached");
+
+        private static final AtomicIntegerFieldUpdater<Union> REMAINING =
+                AtomicIntegerFieldUpdater.newUpdater(Union.class, "_remaining");
+
+        private static final AtomicReferenceFieldUpdater<Union, Throwable> CAUSE =
+                AtomicReferenceFieldUpdater.newUpdater(Union.class, Throwable.class, "_cause");
+
+        // Fields
+
+        /**
+         * The expectation of the union from the tracked futures
+         */
+        private final Mode _mode;
+
+        /**
+         * The policy of handling the remaining tracked futures once the union fails
+         */
+        private final CancelPolicy _policy;
+
+        /**
+         * The head of the tracked stack upon creation of the union
+         */
+        private final Tracked _snapshot;
+
+        /**
+         * The next union in the pending unions stack
+         */
+        private Union _next;
+
+        /**
+         * Whether or not the union is detached from the hub counter, 0 or 1
+         */
+        private volatile int _detached;
+
+        /**
+         * Number of watched futures which are not yet complete, plus one until all are watched
+         */
+        private volatile int _remaining;
+
+        /**
+         * Cause of the first watched future to fail, kept by a cautious union
+         */
+        private volatile Throwable _cause;
+
+        // Constructors
+
+        private Union(Mode mode, CancelPolicy policy, Tracked snapshot) {
+            _mode = mode;
+            _policy = policy;
+            _snapshot = snapshot;
+        }
+
+        // Public
+
+        @Override
+        public void succeeded(Object value) {
+            arrive();
+        }
+
+        @Override
+        public void failed(Throwable cause) {
+            if (_mode == Mode.OPTIMISTIC) {
+                if (fail(cause, false)) {
+                    cancelTracked(_snapshot, _policy);
+                }
+            }
+            else if (_mode == Mode.CAUTIOUS) {
+                CAUSE.compareAndSet(this, null, cause);
+            }
+            arrive();
+        }
+
+        @Override
+        void cancelled(boolean mayInterruptIfRunning) {
+            cancelTracked(_snapshot, _policy);
+        }
+
+        // Private
+
+        /**
+         * @return whether or not the union is detached from the hub counter
+         */
+        private boolean isDetached() {
+            return _detached != 0;
+        }
+
+        /**
+         * Detaches the union from the hub counter, and watches each of the futures tracked upon
+         * its creation instead. Invoked once a further future is tracked, so that the union is not
+         * completed by the counter, nor failed by the further future.
+         */
+        private void detach() {
+            if (isDone() || !DETACHED.compareAndSet(this, 0, 1)) {
+                return;
+            }
+            _remaining = count(_snapshot) + 1;
+            for (Tracked tracked = _snapshot; tracked != null && !isDone(); tracked = tracked.next()) {
+                tracked.watch(this);
+            }
+            arrive();
+        }
+
+        /**
+         * Counts the completion of a watched future, the last one completes the union
+         */
+        private void arrive() {
+            if (REMAINING.decrementAndGet(this) != 0) {
+                return;
+            }
+            Throwable cause = _cause;
+            if (cause != null) {
+                tryFail(cause);
+            }
+            else {
+                tryResolve();
+            }
+        }
+
+    }
+
+    /**
+     * The expectation of a union from the tracked futures, @see {@link #uniteOptimistically()},
+     * {@link #unitePessimistically()} and {@link #uniteCautiously()}
+     */
+    private enum Mode {
+
+        /**
+         * Fails once the first tracked future fails, otherwise resolves once all are resolved
+         */
+        OPTIMISTIC,
+
+        /**
+         * Resolves once all tracked futures are complete
+         */
+        PESSIMISTIC,
+
+        /**
+         * Once all tracked futures are complete, fails with the first failure if any, otherwise resolves
+         */
+        CAUTIOUS
+
     }
 
 }
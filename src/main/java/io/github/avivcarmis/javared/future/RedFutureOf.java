@@ -41,6 +41,44 @@ public interface RedFutureOf<T> extends RedFuture, Future<T> {
      */
     RedFutureOf<T> addSuccessCallback(Executor executor, Callback<T> callback);
 
+    /**
+     * Attach both a single parameter callback to be invoked when the future is successfully resolved,
+     * with the parameter containing the resulted value of the future, and a callback receiving
+     * a throwable to be invoked when the future is failed, with a single registration.
+     * When a certain thread completes the future, it will directly invoke the matching callback.
+     * If the future is already complete, the matching callback will be directly invoked.
+     * The default implementation registers each of the callbacks separately.
+     *
+     * @param onSuccess callback to be invoked when the future is successfully resolved
+     * @param onFailure callback receiving a throwable to be invoked when the future is failed
+     * @return this, @see <a href="https://en.wikipedia.org/wiki/Fluent_interface">Fluent interface</a>
+     */
+    default RedFutureOf<T> addCallbacks(Callback<T> onSuccess, Callback<Throwable> onFailure) {
+        addSuccessCallback(onSuccess);
+        addFailureCallback(onFailure);
+        return this;
+    }
+
+    /**
+     * Attach both a single parameter callback to be invoked when the future is successfully resolved,
+     * with the parameter containing the resulted value of the future, and a callback receiving
+     * a throwable to be invoked when the future is failed, with a single registration.
+     * When a certain thread completes the future, it will queue the matching callback invocation
+     * to the given executor.
+     * If the future is already complete, the matching callback will be immediately queued.
+     * The default implementation registers each of the callbacks separately.
+     *
+     * @param executor  executor to invoke the callbacks
+     * @param onSuccess callback to be invoked when the future is successfully resolved
+     * @param onFailure callback receiving a throwable to be invoked when the future is failed
+     * @return this, @see <a href="https://en.wikipedia.org/wiki/Fluent_interface">Fluent interface</a>
+     */
+    default RedFutureOf<T> addCallbacks(Executor executor, Callback<T> onSuccess, Callback<Throwable> onFailure) {
+        addSuccessCallback(executor, onSuccess);
+        addFailureCallback(executor, onFailure);
+        return this;
+    }
+
     /**
      * Test to see whether or not the future is currently completed, if it is successfully resolved,
      * the resulted value will be returned.
@@ -77,8 +115,31 @@ public interface RedFutureOf<T> extends RedFuture, Future<T> {
      */
     T waitAndGet(long timeout, TimeUnit unit) throws ExecutionException, InterruptedException, TimeoutException;
 
+    /**
+     * Returns a {@link CompletableFuture} view of the future, sharing its completion state.
+     * The view is completed by the same thread that completes the future, without any thread hop.
+     * Completing or cancelling the view completes or cancels the future, respectively, if it is open.
+     * The default implementation returns a {@link CompletableFuture} which merely tracks the future,
+     * so completing or cancelling it does not affect the future itself.
+     *
+     * @return a {@link CompletableFuture} view of the future
+     */
+    default CompletableFuture<T> toCompletableFuture() {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        addCallbacks(result::complete, result::completeExceptionally);
+        return result;
+    }
+
     // Overrides to update return types
 
+    @Override
+    default RedFutureOf<T> withTimeout(long timeout, TimeUnit unit) {
+        OpenRedFutureOf<T> future = RedFuture.futureOf();
+        future.follow(this);
+        future.failAfter(timeout, unit);
+        return future;
+    }
+
     @Override
     RedFutureOf<T> addSuccessCallback(EmptyCallback callback);
 
@@ -91,6 +152,20 @@ public interface RedFutureOf<T> extends RedFuture, Future<T> {
     @Override
     RedFutureOf<T> addFailureCallback(Executor executor, Callback<Throwable> callback);
 
+    @Override
+    default RedFutureOf<T> addCallbacks(EmptyCallback onSuccess, Callback<Throwable> onFailure) {
+        addSuccessCallback(onSuccess);
+        addFailureCallback(onFailure);
+        return this;
+    }
+
+    @Override
+    default RedFutureOf<T> addCallbacks(Executor executor, EmptyCallback onSuccess, Callback<Throwable> onFailure) {
+        addSuccessCallback(executor, onSuccess);
+        addFailureCallback(executor, onFailure);
+        return this;
+    }
+
     @Override
     RedFutureOf<T> addFinallyCallback(EmptyCallback callback);
 
@@ -0,0 +1,144 @@
+package io.github.avivcarmis.javared.future;
+
+import io.github.avivcarmis.javared.future.callbacks.Callback;
+import io.github.avivcarmis.javared.future.callbacks.EmptyCallback;
+import io.github.avivcarmis.javared.future.callbacks.IntCallback;
+
+import java.util.concurrent.*;
+
+/**
+ * A {@link RedFutureOf} specialized for primitive int values.
+ *
+ * In addition to the boxed {@link RedFutureOf} interface, the resulted value may be received
+ * and read as a primitive int, without boxing.
+ * A future resolved with a null boxed value reports a primitive value of zero.
+ */
+public interface RedFutureOfInt extends RedFutureOf<Integer> {
+
+    /**
+     * Attach a primitive callback to be invoked when the future is successfully resolved,
+     * with the parameter containing the resulted value of the future.
+     * When a certain thread resolves the future, it will directly invoke the callback.
+     * If the future is already resolved, the callback will be directly invoked.
+     *
+     * @param callback callback to be invoked when the future is successfully resolved
+     * @return this, @see <a href="https://en.wikipedia.org/wiki/Fluent_interface">Fluent interface</a>
+     */
+    RedFutureOfInt addIntSuccessCallback(IntCallback callback);
+
+    /**
+     * Attach a primitive callback to be invoked when the future is successfully resolved,
+     * with the parameter containing the resulted value of the future.
+     * When a certain thread resolves the future, it will queue the callback invocation to the
+     * given executor.
+     * If the future is already resolved, the callback will be immediately queued.
+     *
+     * @param executor executor to invoke the callback
+     * @param callback callback to be invoked when the future is successfully resolved
+     * @return this, @see <a href="https://en.wikipedia.org/wiki/Fluent_interface">Fluent interface</a>
+     */
+    RedFutureOfInt addIntSuccessCallback(Executor executor, IntCallback callback);
+
+    /**
+     * Attach both a primitive callback to be invoked when the future is successfully resolved,
+     * and a callback receiving a throwable to be invoked when the future is failed,
+     * with a single registration.
+     * When a certain thread completes the future, it will directly invoke the matching callback.
+     * If the future is already complete, the matching callback will be directly invoked.
+     *
+     * @param onSuccess callback to be invoked when the future is successfully resolved
+     * @param onFailure callback receiving a throwable to be invoked when the future is failed
+     * @return this, @see <a href="https://en.wikipedia.org/wiki/Fluent_interface">Fluent interface</a>
+     */
+    RedFutureOfInt addIntCallbacks(IntCallback onSuccess, Callback<Throwable> onFailure);
+
+    /**
+     * Attach both a primitive callback to be invoked when the future is successfully resolved,
+     * and a callback receiving a throwable to be invoked when the future is failed,
+     * with a single registration.
+     * When a certain thread completes the future, it will queue the matching callback invocation
+     * to the given executor.
+     * If the future is already complete, the matching callback will be immediately queued.
+     *
+     * @param executor  executor to invoke the callbacks
+     * @param onSuccess callback to be invoked when the future is successfully resolved
+     * @param onFailure callback receiving a throwable to be invoked when the future is failed
+     * @return this, @see <a href="https://en.wikipedia.org/wiki/Fluent_interface">Fluent interface</a>
+     */
+    RedFutureOfInt addIntCallbacks(Executor executor, IntCallback onSuccess, Callback<Throwable> onFailure);
+
+    /**
+     * Test to see whether or not the future is currently completed, if it is successfully resolved,
+     * the resulted value will be returned.
+     * This method is not blocking, nor is it synchronizing different thread calls.
+     * Note that a return value of zero can either indicate that the future is not yet resolved,
+     * or that it's has resolved with zero. To test whether it is resolved or not,
+     * one can call the inherited {@link RedFuture#isDone()}
+     * @return the resulted value if the future is successfully resolved, zero otherwise
+     */
+    int tryGetInt();
+
+    /**
+     * Tries to blocks the thread until the future is completed.
+     * If the future is already complete, the method returns immediately.
+     *
+     * @return the resulted value of the future
+     * @throws ExecutionException if the computation threw an exception
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     * @see Future#get()
+     */
+    int waitAndGetInt() throws ExecutionException, InterruptedException;
+
+    /**
+     * Tries to blocks the thread for at most the given timeout until the future is completed.
+     * If the future is already complete, the method returns immediately.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the time unit of the timeout argument
+     * @return the resulted value of the future
+     * @throws ExecutionException if the computation threw an exception
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     * @throws TimeoutException if the wait timed out
+     * @see Future#get()
+     */
+    int waitAndGetInt(long timeout, TimeUnit unit) throws ExecutionException, InterruptedException, TimeoutException;
+
+    // Overrides to update return types
+
+    @Override
+    RedFutureOfInt addSuccessCallback(Callback<Integer> callback);
+
+    @Override
+    RedFutureOfInt addSuccessCallback(Executor executor, Callback<Integer> callback);
+
+    @Override
+    RedFutureOfInt addCallbacks(Callback<Integer> onSuccess, Callback<Throwable> onFailure);
+
+    @Override
+    RedFutureOfInt addCallbacks(Executor executor, Callback<Integer> onSuccess, Callback<Throwable> onFailure);
+
+    @Override
+    RedFutureOfInt addSuccessCallback(EmptyCallback callback);
+
+    @Override
+    RedFutureOfInt addSuccessCallback(Executor executor, EmptyCallback callback);
+
+    @Override
+    RedFutureOfInt addFailureCallback(Callback<Throwable> callback);
+
+    @Override
+    RedFutureOfInt addFailureCallback(Executor executor, Callback<Throwable> callback);
+
+    @Override
+    RedFutureOfInt addCallbacks(EmptyCallback onSuccess, Callback<Throwable> onFailure);
+
+    @Override
+    RedFutureOfInt addCallbacks(Executor executor, EmptyCallback onSuccess, Callback<Throwable> onFailure);
+
+    @Override
+    RedFutureOfInt addFinallyCallback(EmptyCallback callback);
+
+    @Override
+    RedFutureOfInt addFinallyCallback(Executor executor, EmptyCallback callback);
+
+}
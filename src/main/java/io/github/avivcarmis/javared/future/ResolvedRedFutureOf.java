@@ -0,0 +1,223 @@
+package io.github.avivcarmis.javared.future;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import io.github.avivcarmis.javared.future.callbacks.Callback;
+import io.github.avivcarmis.javared.future.callbacks.EmptyCallback;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An immutable implementation of {@link RedFutureOf}, which is successfully resolved upon construction.
+ * As opposed to {@link OpenRedFutureOf}, a future of this type holds nothing but its value, and
+ * cannot be resolved or failed again. Callbacks are invoked upon registration, and failure callbacks
+ * are ignored.
+ *
+ * Futures resolved with null or with a boolean value are shared, see {@link #of(Object)}.
+ *
+ * @param <T> the type of the future value
+ */
+final class ResolvedRedFutureOf<T> implements RedFutureOf<T> {
+
+    // Constants
+
+    /**
+     * Shared future resolved with null, also used as the resolved {@link RedFuture}
+     */
+    static final ResolvedRedFutureOf<Object> NULL = new ResolvedRedFutureOf<>(null);
+
+    /**
+     * Shared future resolved with {@link Boolean#TRUE}
+     */
+    private static final ResolvedRedFutureOf<Boolean> TRUE = new ResolvedRedFutureOf<>(Boolean.TRUE);
+
+    /**
+     * Shared future resolved with {@link Boolean#FALSE}
+     */
+    private static final ResolvedRedFutureOf<Boolean> FALSE = new ResolvedRedFutureOf<>(Boolean.FALSE);
+
+    // Fields
+
+    /**
+     * The resulted value of the future
+     */
+    private final T _value;
+
+    // Constructors
+
+    private ResolvedRedFutureOf(T value) {
+        _value = value;
+    }
+
+    // Public
+
+    @Override
+    public RedFutureOf<T> addSuccessCallback(Callback<T> callback) {
+        BaseOpenRedFuture.call(callback, _value);
+        return this;
+    }
+
+    @Override
+    public RedFutureOf<T> addSuccessCallback(Executor executor, Callback<T> callback) {
+        BaseOpenRedFuture.queue(executor, () -> BaseOpenRedFuture.call(callback, _value));
+        return this;
+    }
+
+    @Override
+    public RedFutureOf<T> addCallbacks(Callback<T> onSuccess, Callback<Throwable> onFailure) {
+        return addSuccessCallback(onSuccess);
+    }
+
+    @Override
+    public RedFutureOf<T> addCallbacks(Executor executor, Callback<T> onSuccess, Callback<Throwable> onFailure) {
+        return addSuccessCallback(executor, onSuccess);
+    }
+
+    @Override
+    public RedFutureOf<T> addSuccessCallback(EmptyCallback callback) {
+        BaseOpenRedFuture.call(callback);
+        return this;
+    }
+
+    @Override
+    public RedFutureOf<T> addSuccessCallback(Executor executor, EmptyCallback callback) {
+        BaseOpenRedFuture.queue(executor, () -> BaseOpenRedFuture.call(callback));
+        return this;
+    }
+
+    @Override
+    public RedFutureOf<T> addFailureCallback(Callback<Throwable> callback) {
+        return this;
+    }
+
+    @Override
+    public RedFutureOf<T> addFailureCallback(Executor executor, Callback<Throwable> callback) {
+        return this;
+    }
+
+    @Override
+    public RedFutureOf<T> addFinallyCallback(EmptyCallback callback) {
+        return addSuccessCallback(callback);
+    }
+
+    @Override
+    public RedFutureOf<T> addFinallyCallback(Executor executor, EmptyCallback callback) {
+        return addSuccessCallback(executor, callback);
+    }
+
+    @Override
+    public RedFutureOf<T> addCallbacks(EmptyCallback onSuccess, Callback<Throwable> onFailure) {
+        return addSuccessCallback(onSuccess);
+    }
+
+    @Override
+    public RedFutureOf<T> addCallbacks(Executor executor, EmptyCallback onSuccess, Callback<Throwable> onFailure) {
+        return addSuccessCallback(executor, onSuccess);
+    }
+
+    @Override
+    public T tryGet() {
+        return _value;
+    }
+
+    @Override
+    public T waitAndGet() throws InterruptedException {
+        return get();
+    }
+
+    @Override
+    public T waitAndGet(long timeout, TimeUnit unit) throws InterruptedException {
+        return get();
+    }
+
+    @Override
+    public void waitForCompletion() throws InterruptedException {
+        get();
+    }
+
+    @Override
+    public void waitForCompletion(long timeout, TimeUnit unit) throws InterruptedException {
+        get();
+    }
+
+    /**
+     * A resolved future can not time out, so no timeout is scheduled
+     *
+     * @return this
+     */
+    @Override
+    public RedFutureOf<T> withTimeout(long timeout, TimeUnit unit) {
+        return this;
+    }
+
+    @Override
+    public CompletableFuture<T> toCompletableFuture() {
+        return CompletableFuture.completedFuture(_value);
+    }
+
+    @Override
+    public ListenableFuture<T> getListenableFuture() {
+        return Futures.immediateFuture(_value);
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return false;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return false;
+    }
+
+    @Override
+    public boolean isDone() {
+        return true;
+    }
+
+    /**
+     * As with open futures, an interrupted thread is reported even though the future is complete
+     *
+     * @return the resulted value
+     * @throws InterruptedException if the current thread was interrupted
+     */
+    @Override
+    public T get() throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        return _value;
+    }
+
+    @Override
+    public T get(long timeout, TimeUnit unit) throws InterruptedException {
+        return get();
+    }
+
+    // Static
+
+    /**
+     * Returns a future resolved with the given value. Futures resolved with null or with
+     * a boolean value are shared, otherwise a new holder is created.
+     *
+     * @param value the value to resolve the future with
+     * @param <T>   type of the future value
+     * @return a future resolved with the given value
+     */
+    @SuppressWarnings("unchecked")
+    static <T> RedFutureOf<T> of(T value) {
+        if (value == null) {
+            return (RedFutureOf<T>) NULL;
+        }
+        if (value == Boolean.TRUE) {
+            return (RedFutureOf<T>) TRUE;
+        }
+        if (value == Boolean.FALSE) {
+            return (RedFutureOf<T>) FALSE;
+        }
+        return new ResolvedRedFutureOf<>(value);
+    }
+
+}
@@ -0,0 +1,14 @@
+package io.github.avivcarmis.javared.future.callbacks;
+
+/**
+ * A simple callback interface for receiving a primitive int value.
+ */
+public interface IntCallback {
+
+    /**
+     * Implementation of the callback
+     * @param value the resulted callback parameter
+     */
+    void call(int value);
+
+}
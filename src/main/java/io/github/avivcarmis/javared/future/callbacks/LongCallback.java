@@ -0,0 +1,14 @@
+package io.github.avivcarmis.javared.future.callbacks;
+
+/**
+ * A simple callback interface for receiving a primitive long value.
+ */
+public interface LongCallback {
+
+    /**
+     * Implementation of the callback
+     * @param value the resulted callback parameter
+     */
+    void call(long value);
+
+}
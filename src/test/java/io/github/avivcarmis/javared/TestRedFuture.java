@@ -2,17 +2,33 @@ package io.github.avivcarmis.javared;
 
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
 import io.github.avivcarmis.javared.future.*;
+import io.github.avivcarmis.javared.future.callbacks.Callback;
+import io.github.avivcarmis.javared.future.callbacks.EmptyCallback;
 import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+import org.openjdk.jol.vm.VirtualMachine;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
 
 /**
  * Runs different test suits to test the entire functionality of {@link RedFuture},
@@ -1593,6 +1609,629 @@ public class TestRedFuture {
             successfulFutureOf(new Object()).waitAndGet(Math.round(FUTURE_SLEEP_TIME * 0.2), TimeUnit.MILLISECONDS);
         }
 
+        /**
+         * Test that {@link RedFuture#getListenableFuture()} shares the completion state of the future
+         */
+        @Test
+        public void testListenableFutureView() throws Throwable {
+            OpenRedFutureOf<Object> future = RedFuture.futureOf();
+            ListenableFuture<Object> listenableFuture = future.getListenableFuture();
+            AtomicBoolean reachedListener = new AtomicBoolean(false);
+            listenableFuture.addListener(() -> reachedListener.set(true), Runnable::run);
+            Assert.assertFalse(listenableFuture.isDone());
+            Object object = new Object();
+            future.resolve(object);
+            Assert.assertTrue(reachedListener.get());
+            Assert.assertTrue(listenableFuture.isDone());
+            Assert.assertEquals(object, listenableFuture.get());
+        }
+
+        /**
+         * Test that {@link RedFuture#getListenableFuture()} creates a single view while the future is pending,
+         * and that a view created once the future is complete is equal to it
+         */
+        @Test
+        public void testListenableFutureViewCached() throws Throwable {
+            OpenRedFutureOf<Object> future = RedFuture.futureOf();
+            ListenableFuture<Object> listenableFuture = future.getListenableFuture();
+            future.addSuccessCallback(() -> {});
+            Assert.assertSame(listenableFuture, future.getListenableFuture());
+            future.resolve(new Object());
+            ListenableFuture<Object> completedView = future.getListenableFuture();
+            Assert.assertEquals(listenableFuture, completedView);
+            Assert.assertEquals(listenableFuture.hashCode(), completedView.hashCode());
+            Assert.assertNotEquals(listenableFuture, RedFuture.futureOf().getListenableFuture());
+        }
+
+        /**
+         * Test that cancelling a future fails it with a {@link CancellationException}
+         */
+        @Test
+        public void testCancel() throws Throwable {
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            OpenRedFutureOf<Object> future = RedFuture.futureOf();
+            future.addFailureCallback(failure::set);
+            Assert.assertTrue(future.getListenableFuture().cancel(false));
+            Assert.assertTrue(future.isCancelled());
+            Assert.assertTrue(future.isDone());
+            Assert.assertTrue(failure.get() instanceof CancellationException);
+            Assert.assertFalse(future.cancel(false));
+            try {
+                future.get();
+                Assert.fail("expected cancellation");
+            } catch (CancellationException ignored) {}
+        }
+
+        /**
+         * Test that callbacks registered before completion are invoked in registration order
+         */
+        @Test
+        public void testCallbackOrder() throws Throwable {
+            List<Integer> order = new LinkedList<>();
+            OpenRedFuture future = RedFuture.future();
+            for (int i = 0; i < 5; i++) {
+                int index = i;
+                future.addSuccessCallback(() -> order.add(index));
+            }
+            future.resolve();
+            Assert.assertArrayEquals(new Integer[]{0, 1, 2, 3, 4}, order.toArray(new Integer[0]));
+        }
+
+    }
+
+    /**
+     * Test the single result slot of {@link OpenRedFutureOf}
+     */
+    public static class TestResultSlot {
+
+        /**
+         * Test that {@link RedFutureOf#tryGet()} is not altered by a losing {@link OpenRedFutureOf#tryResolve(Object)}
+         */
+        @Test
+        public void testTryGetAfterLosingResolve() throws Throwable {
+            OpenRedFutureOf<Object> future = RedFuture.futureOf();
+            future.fail(new TestException());
+            future.tryResolve(new Object());
+            Assert.assertTrue(future.isDone());
+            Assert.assertNull(future.tryGet());
+        }
+
+        /**
+         * Test that {@link RedFutureOf#tryGet()} returns the first resolved value
+         */
+        @Test
+        public void testTryGetAfterSecondResolve() throws Throwable {
+            OpenRedFutureOf<Object> future = RedFuture.futureOf();
+            Object object = new Object();
+            future.resolve(object);
+            future.tryResolve(new Object());
+            Assert.assertEquals(object, future.tryGet());
+            Assert.assertEquals(object, future.waitAndGet());
+        }
+
+        /**
+         * Test a future resolved with a null value
+         */
+        @Test
+        public void testResolveWithNull() throws Throwable {
+            AtomicBoolean reachedSuccessBlock = new AtomicBoolean(false);
+            OpenRedFutureOf<Object> future = RedFuture.futureOf();
+            future.resolve(null);
+            future.tryResolve(new Object());
+            future.addSuccessCallback(o -> reachedSuccessBlock.set(o == null));
+            Assert.assertTrue(future.isDone());
+            Assert.assertNull(future.tryGet());
+            Assert.assertNull(future.waitAndGet());
+            Assert.assertTrue(reachedSuccessBlock.get());
+        }
+
+        /**
+         * Test that a pending future is a single object holding a single reference, 16 bytes with compressed
+         * references, smaller than the previously retained {@link AtomicReference} and Guava {@link SettableFuture}
+         */
+        @Test
+        public void testPendingFootprint() throws Throwable {
+            OpenRedFutureOf<Object> future = RedFuture.futureOf();
+            long futureBytes = GraphLayout.parseInstance(future).totalSize();
+            Assert.assertEquals(oneSlotSize(), futureBytes);
+            long previousBytes = GraphLayout.parseInstance(new AtomicReference<>(), SettableFuture.create())
+                    .totalSize();
+            Assert.assertTrue(futureBytes < previousBytes);
+        }
+
+        /**
+         * Test that a resolved future retains no objects other than itself and its value, holding the value
+         * in its single reference, smaller than the previously retained {@link AtomicReference} of the value
+         * and Guava {@link SettableFuture}
+         */
+        @Test
+        public void testResolvedFootprint() throws Throwable {
+            OpenRedFutureOf<Object> future = RedFuture.futureOf();
+            Object object = new Object();
+            future.resolve(object);
+            long objectBytes = GraphLayout.parseInstance(object).totalSize();
+            long futureBytes = GraphLayout.parseInstance(future).totalSize() - objectBytes;
+            Assert.assertEquals(oneSlotSize(), futureBytes);
+            SettableFuture<Object> settableFuture = SettableFuture.create();
+            settableFuture.set(object);
+            long previousBytes = GraphLayout.parseInstance(new AtomicReference<>(object), settableFuture).totalSize() -
+                    objectBytes;
+            Assert.assertTrue(futureBytes < previousBytes);
+        }
+
+        /**
+         * @return the size of an object holding a single reference on the current VM
+         */
+        private static long oneSlotSize() {
+            VirtualMachine vm = VM.current();
+            long size = vm.objectHeaderSize() + vm.sizeOfField("oop");
+            return (size + vm.objectAlignment() - 1) / vm.objectAlignment() * vm.objectAlignment();
+        }
+
+    }
+
+    /**
+     * Test the registration of callbacks on already completed futures
+     */
+    public static class TestCompletedCallbacks {
+
+        /**
+         * Test that callbacks registered on a resolved future are invoked inline by the registering thread
+         */
+        @Test
+        public void testInlineSuccessCallbacks() throws Throwable {
+            List<String> invocations = new LinkedList<>();
+            Thread thread = Thread.currentThread();
+            OpenRedFutureOf<Object> future = RedFuture.futureOf();
+            Object object = new Object();
+            future.resolve(object);
+            future.addSuccessCallback(() -> invocations.add("success"));
+            future.addSuccessCallback(o -> invocations.add(o == object ? "value" : "wrong value"));
+            future.addFailureCallback(throwable -> invocations.add("failure"));
+            future.addFinallyCallback(() -> invocations.add(Thread.currentThread() == thread ? "finally" : "wrong thread"));
+            Assert.assertArrayEquals(new String[]{"success", "value", "finally"}, invocations.toArray(new String[0]));
+        }
+
+        /**
+         * Test that callbacks registered on a failed future are invoked inline by the registering thread
+         */
+        @Test
+        public void testInlineFailureCallbacks() throws Throwable {
+            List<String> invocations = new LinkedList<>();
+            OpenRedFutureOf<Object> future = RedFuture.futureOf();
+            future.fail(new TestException());
+            future.addSuccessCallback(() -> invocations.add("success"));
+            future.addSuccessCallback(o -> invocations.add("value"));
+            future.addFailureCallback(throwable -> invocations.add(throwable instanceof TestException ? "failure" : "wrong cause"));
+            future.addFinallyCallback(() -> invocations.add("finally"));
+            Assert.assertArrayEquals(new String[]{"failure", "finally"}, invocations.toArray(new String[0]));
+        }
+
+        /**
+         * Test that callbacks registered with an executor on a completed future are submitted to the executor
+         */
+        @Test
+        public void testExecutorCallbacks() throws Throwable {
+            List<Runnable> queue = new LinkedList<>();
+            AtomicBoolean reachedSuccessBlock = new AtomicBoolean(false);
+            OpenRedFutureOf<Object> future = RedFuture.futureOf();
+            future.resolve(new Object());
+            future.addSuccessCallback(queue::add, o -> reachedSuccessBlock.set(true));
+            Assert.assertFalse(reachedSuccessBlock.get());
+            Assert.assertEquals(1, queue.size());
+            queue.get(0).run();
+            Assert.assertTrue(reachedSuccessBlock.get());
+        }
+
+        /**
+         * Test that callbacks registered without an executor on a completed future allocate no memory,
+         * measured by the allocation counter of the current thread where the VM supports it
+         */
+        @Test
+        public void testInlineCallbacksAllocationFree() throws Throwable {
+            java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+            Assume.assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+            com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+            Assume.assumeTrue(allocationBean.isThreadAllocatedMemorySupported() &&
+                    allocationBean.isThreadAllocatedMemoryEnabled());
+            OpenRedFutureOf<Object> resolved = RedFuture.futureOf();
+            resolved.resolve(new Object());
+            OpenRedFutureOf<Object> failed = RedFuture.futureOf();
+            failed.fail(new TestException());
+            AtomicInteger invocations = new AtomicInteger();
+            EmptyCallback emptyCallback = invocations::incrementAndGet;
+            Callback<Object> valueCallback = o -> invocations.incrementAndGet();
+            Callback<Throwable> failureCallback = throwable -> invocations.incrementAndGet();
+            long threadId = Thread.currentThread().getId();
+            long allocated = 0;
+            for (int round = 0; round < 2; round++) {
+                long before = allocationBean.getThreadAllocatedBytes(threadId);
+                for (int i = 0; i < 10000; i++) {
+                    resolved.addSuccessCallback(emptyCallback);
+                    resolved.addSuccessCallback(valueCallback);
+                    failed.addFailureCallback(failureCallback);
+                    resolved.addFinallyCallback(emptyCallback);
+                }
+                allocated = allocationBean.getThreadAllocatedBytes(threadId) - before;
+            }
+            Assert.assertEquals(80000, invocations.get());
+            Assert.assertTrue("allocated " + allocated + " bytes", allocated < 1024);
+        }
+
+    }
+
+    /**
+     * Test the fused registration of success and failure callbacks
+     */
+    public static class TestFusedCallbacks {
+
+        /**
+         * Test {@link RedFuture#addCallbacks(EmptyCallback, Callback)} on success and on failure
+         */
+        @Test
+        public void testFutureCallbacks() throws Throwable {
+            List<String> invocations = new LinkedList<>();
+            OpenRedFuture resolved = RedFuture.future();
+            resolved.addCallbacks(() -> invocations.add("success"), throwable -> invocations.add("failure"));
+            resolved.resolve();
+            OpenRedFuture failed = RedFuture.future();
+            failed.fail(new TestException());
+            failed.addCallbacks(() -> invocations.add("success"), throwable -> invocations.add("failure"));
+            Assert.assertArrayEquals(new String[]{"success", "failure"}, invocations.toArray(new String[0]));
+        }
+
+        /**
+         * Test {@link RedFutureOf#addCallbacks(Callback, Callback)} on success and on failure
+         */
+        @Test
+        public void testFutureOfCallbacks() throws Throwable {
+            List<Object> invocations = new LinkedList<>();
+            Object object = new Object();
+            TestException exception = new TestException();
+            OpenRedFutureOf<Object> resolved = RedFuture.futureOf();
+            resolved.addCallbacks(invocations::add, invocations::add);
+            resolved.resolve(object);
+            OpenRedFutureOf<Object> failed = RedFuture.futureOf();
+            failed.addCallbacks(invocations::add, invocations::add);
+            failed.fail(exception);
+            Assert.assertArrayEquals(new Object[]{object, exception}, invocations.toArray());
+        }
+
+        /**
+         * Test {@link RedFutureOf#addCallbacks(Executor, Callback, Callback)} queues a single invocation
+         */
+        @Test
+        public void testFutureOfCallbacksWithExecutor() throws Throwable {
+            List<Runnable> queue = new LinkedList<>();
+            AtomicReference<Object> value = new AtomicReference<>();
+            AtomicBoolean reachedFailureBlock = new AtomicBoolean(false);
+            Object object = new Object();
+            OpenRedFutureOf<Object> future = RedFuture.futureOf();
+            future.addCallbacks(queue::add, value::set, throwable -> reachedFailureBlock.set(true));
+            future.resolve(object);
+            Assert.assertEquals(1, queue.size());
+            queue.get(0).run();
+            Assert.assertEquals(object, value.get());
+            Assert.assertFalse(reachedFailureBlock.get());
+        }
+
+    }
+
+    /**
+     * Test {@link OpenRedFutureOfInt}, {@link OpenRedFutureOfLong} and {@link OpenRedFutureOfDouble}
+     */
+    public static class TestPrimitiveFutures {
+
+        /**
+         * Test resolving and reading a primitive long future
+         */
+        @Test
+        public void testLongFuture() throws Throwable {
+            AtomicReference<Long> primitiveValue = new AtomicReference<>();
+            AtomicReference<Long> boxedValue = new AtomicReference<>();
+            OpenRedFutureOfLong future = RedFuture.futureOfLong();
+            future.addLongSuccessCallback(primitiveValue::set);
+            future.addSuccessCallback(boxedValue::set);
+            Assert.assertEquals(0L, future.tryGetLong());
+            future.resolve(42L);
+            future.tryResolve(7L);
+            Assert.assertEquals(42L, future.tryGetLong());
+            Assert.assertEquals(42L, future.waitAndGetLong());
+            Assert.assertEquals(Long.valueOf(42L), future.tryGet());
+            Assert.assertEquals(Long.valueOf(42L), primitiveValue.get());
+            Assert.assertEquals(Long.valueOf(42L), boxedValue.get());
+            Assert.assertEquals(Long.valueOf(42L), future.getListenableFuture().get());
+        }
+
+        /**
+         * Test resolving a primitive future through its boxed interface
+         */
+        @Test
+        public void testBoxedResolve() throws Throwable {
+            OpenRedFutureOfInt future = RedFuture.futureOfInt();
+            OpenRedFutureOf<Integer> boxed = future;
+            boxed.resolve(5);
+            Assert.assertEquals(5, future.tryGetInt());
+            OpenRedFutureOfDouble nullFuture = RedFuture.futureOfDouble();
+            nullFuture.resolve(null);
+            Assert.assertTrue(nullFuture.isDone());
+            Assert.assertNull(nullFuture.tryGet());
+            Assert.assertEquals(0, nullFuture.tryGetDouble(), 0);
+        }
+
+        /**
+         * Test failing a primitive future
+         */
+        @Test
+        public void testFailedFuture() throws Throwable {
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            AtomicBoolean reachedSuccessBlock = new AtomicBoolean(false);
+            OpenRedFutureOfDouble future = RedFuture.futureOfDouble();
+            future.addDoubleCallbacks(value -> reachedSuccessBlock.set(true), failure::set);
+            TestException exception = new TestException();
+            future.fail(exception);
+            future.tryResolve(1.5);
+            Assert.assertEquals(0, future.tryGetDouble(), 0);
+            Assert.assertFalse(reachedSuccessBlock.get());
+            Assert.assertEquals(exception, failure.get());
+            try {
+                future.waitAndGetDouble();
+                Assert.fail("expected failure");
+            } catch (ExecutionException e) {
+                Assert.assertEquals(exception, e.getCause());
+            }
+        }
+
+        /**
+         * Test following a primitive future and uniting it in a {@link RedFutureHub}
+         */
+        @Test
+        public void testFollowAndUnite() throws Throwable {
+            OpenRedFutureOfLong source = RedFuture.futureOfLong();
+            OpenRedFutureOfLong follower = RedFuture.futureOfLong();
+            follower.follow(source);
+            RedFuture united = RedFuture.hub().adoptFutures(source, follower).uniteOptimistically();
+            source.resolve(Long.MAX_VALUE);
+            Assert.assertEquals(Long.MAX_VALUE, follower.tryGetLong());
+            Assert.assertTrue(united.isDone());
+            united.waitForCompletion();
+        }
+
+    }
+
+    /**
+     * Test non-blocking timeouts of futures
+     */
+    public static class TestTimeouts {
+
+        /**
+         * Test that {@link OpenRedFuture#failAfter(long, TimeUnit)} fails a pending future
+         */
+        @Test
+        public void testFailAfter() throws Throwable {
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            CountDownLatch lock = new CountDownLatch(1);
+            OpenRedFuture future = RedFuture.future();
+            future.addFailureCallback(throwable -> {
+                failure.set(throwable);
+                lock.countDown();
+            });
+            long time = System.currentTimeMillis();
+            future.failAfter(50, TimeUnit.MILLISECONDS);
+            Assert.assertTrue(lock.await(1, TimeUnit.SECONDS));
+            Assert.assertTrue(System.currentTimeMillis() - time >= 50);
+            Assert.assertTrue(failure.get() instanceof TimeoutException);
+        }
+
+        /**
+         * Test that an expired future is failed by a dispatcher thread, so that a blocking failure callback
+         * does not delay the expiration of another future
+         */
+        @Test
+        public void testBlockingTimeoutCallback() throws Throwable {
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch failed = new CountDownLatch(1);
+            AtomicReference<String> callbackThread = new AtomicReference<>();
+            OpenRedFuture blocking = RedFuture.future();
+            blocking.addFailureCallback(throwable -> {
+                callbackThread.set(Thread.currentThread().getName());
+                Uninterruptibles.awaitUninterruptibly(release);
+            });
+            OpenRedFuture other = RedFuture.future();
+            other.addFailureCallback(throwable -> failed.countDown());
+            try {
+                blocking.failAfter(10, TimeUnit.MILLISECONDS);
+                other.failAfter(100, TimeUnit.MILLISECONDS);
+                Assert.assertTrue(failed.await(1, TimeUnit.SECONDS));
+                Assert.assertTrue(callbackThread.get().startsWith("red-future-dispatcher-"));
+            } finally {
+                release.countDown();
+            }
+        }
+
+        /**
+         * Test that a future completed before its timeout is not failed
+         */
+        @Test
+        public void testCompletedBeforeTimeout() throws Throwable {
+            AtomicBoolean reachedFailureBlock = new AtomicBoolean(false);
+            OpenRedFutureOf<Object> future = RedFuture.futureOf();
+            future.addFailureCallback(throwable -> reachedFailureBlock.set(true));
+            future.failAfter(50, TimeUnit.MILLISECONDS);
+            Object object = new Object();
+            future.resolve(object);
+            Thread.sleep(VALIDATION_SLEEP_TIME);
+            Assert.assertFalse(reachedFailureBlock.get());
+            Assert.assertEquals(object, future.tryGet());
+        }
+
+        /**
+         * Test that {@link RedFutureOf#withTimeout(long, TimeUnit)} follows the original future,
+         * and fails without altering it on timeout
+         */
+        @Test
+        public void testWithTimeout() throws Throwable {
+            OpenRedFutureOf<Object> resolved = RedFuture.futureOf();
+            RedFutureOf<Object> resolvedWithTimeout = resolved.withTimeout(1, TimeUnit.SECONDS);
+            Object object = new Object();
+            resolved.resolve(object);
+            Assert.assertEquals(object, resolvedWithTimeout.tryGet());
+            OpenRedFutureOf<Object> pending = RedFuture.futureOf();
+            RedFutureOf<Object> pendingWithTimeout = pending.withTimeout(50, TimeUnit.MILLISECONDS);
+            try {
+                pendingWithTimeout.waitAndGet(1, TimeUnit.SECONDS);
+                Assert.fail("expected timeout");
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof TimeoutException);
+            }
+            Assert.assertFalse(pending.isDone());
+        }
+
+        /**
+         * Test that completing a future after it timed out is ignored without logging a warning
+         */
+        @Test
+        public void testCompletedAfterTimeout() throws Throwable {
+            List<LogRecord> records = new CopyOnWriteArrayList<>();
+            Handler handler = new Handler() {
+                @Override
+                public void publish(LogRecord record) {
+                    records.add(record);
+                }
+
+                @Override
+                public void flush() {}
+
+                @Override
+                public void close() {}
+            };
+            Logger logger = Logger.getLogger(RedFuture.class.getName());
+            logger.addHandler(handler);
+            try {
+                OpenRedFutureOf<Object> future = RedFuture.futureOf();
+                future.failAfter(10, TimeUnit.MILLISECONDS);
+                try {
+                    future.waitAndGet(1, TimeUnit.SECONDS);
+                    Assert.fail("expected timeout");
+                } catch (ExecutionException e) {
+                    Assert.assertTrue(e.getCause() instanceof TimeoutException);
+                }
+                future.resolve(new Object());
+                future.fail(new RuntimeException());
+                Assert.assertTrue(records.isEmpty());
+                OpenRedFutureOf<Object> resolved = RedFuture.futureOf();
+                resolved.resolve(new Object());
+                resolved.resolve(new Object());
+                Assert.assertEquals(1, records.size());
+            } finally {
+                logger.removeHandler(handler);
+            }
+        }
+
+    }
+
+    /**
+     * Test the dispatch of callbacks of futures completed from within other callbacks
+     */
+    public static class TestNestedCompletion {
+
+        /**
+         * Test that a long chain of following futures completes without exhausting the stack
+         */
+        @Test
+        public void testDeepFollowChain() throws Throwable {
+            OpenRedFutureOf<Object> head = RedFuture.futureOf();
+            OpenRedFutureOf<Object> tail = head;
+            for (int i = 0; i < 100000; i++) {
+                OpenRedFutureOf<Object> next = RedFuture.futureOf();
+                next.follow(tail);
+                tail = next;
+            }
+            Object object = new Object();
+            head.resolve(object);
+            Assert.assertTrue(tail.isDone());
+            Assert.assertEquals(object, tail.tryGet());
+        }
+
+        /**
+         * Test that callbacks of a future completed from within a callback are invoked
+         * before the remaining callbacks of the outer future
+         */
+        @Test
+        public void testNestedCallbackOrder() throws Throwable {
+            List<String> order = new LinkedList<>();
+            OpenRedFuture outer = RedFuture.future();
+            OpenRedFuture inner = RedFuture.future();
+            inner.addSuccessCallback(() -> order.add("inner"));
+            outer.addSuccessCallback(() -> {
+                inner.resolve();
+                order.add("outer first");
+            });
+            outer.addSuccessCallback(() -> order.add("outer second"));
+            outer.resolve();
+            Assert.assertArrayEquals(
+                    new String[]{"outer first", "inner", "outer second"},
+                    order.toArray(new String[0])
+            );
+        }
+
+        /**
+         * Test that a callback registered on a future completed from within a callback is invoked
+         * after the callbacks registered on it earlier
+         */
+        @Test
+        public void testLateRegistrationOrder() throws Throwable {
+            List<String> order = new LinkedList<>();
+            OpenRedFuture outer = RedFuture.future();
+            OpenRedFuture inner = RedFuture.future();
+            inner.addSuccessCallback(() -> order.add("inner early"));
+            outer.addSuccessCallback(() -> {
+                inner.resolve();
+                inner.addSuccessCallback(() -> order.add("inner late"));
+                order.add("outer");
+            });
+            outer.resolve();
+            Assert.assertArrayEquals(
+                    new String[]{"outer", "inner early", "inner late"},
+                    order.toArray(new String[0])
+            );
+        }
+
+        /**
+         * Test that a callback completing a future and then blocking does not prevent a thread waiting
+         * for that future, or a callback of it registered with an executor, from proceeding
+         */
+        @Test
+        public void testBlockingNestedCompletion() throws Throwable {
+            CountDownLatch waited = new CountDownLatch(1);
+            CountDownLatch executed = new CountDownLatch(1);
+            AtomicBoolean released = new AtomicBoolean(false);
+            OpenRedFuture outer = RedFuture.future();
+            OpenRedFuture inner = RedFuture.future();
+            inner.addSuccessCallback(SCHEDULER, executed::countDown);
+            Thread waiter = new Thread(() -> {
+                try {
+                    inner.waitForCompletion();
+                    waited.countDown();
+                } catch (Exception ignored) {
+                }
+            });
+            waiter.start();
+            while (waiter.getState() != Thread.State.WAITING) {
+                Thread.yield();
+            }
+            outer.addSuccessCallback(() -> {
+                inner.resolve();
+                try {
+                    released.set(waited.await(1, TimeUnit.SECONDS) && executed.await(1, TimeUnit.SECONDS));
+                } catch (InterruptedException ignored) {
+                }
+            });
+            outer.resolve();
+            Assert.assertTrue(released.get());
+            waiter.join();
+        }
+
     }
 
     /**
@@ -1643,6 +2282,39 @@ public class TestRedFuture {
             Assert.assertTrue(correctValueReturned.get());
         }
 
+        /**
+         * Test that resolved futures are immutable, and that null and boolean values are shared
+         */
+        @Test
+        public void testSharedResolvedFutures() throws Throwable {
+            Assert.assertSame(RedFuture.resolved(), RedFuture.resolved());
+            Assert.assertSame(RedFuture.resolved(), RedFuture.resolvedOf(null));
+            Assert.assertSame(RedFuture.resolvedOf(true), RedFuture.resolvedOf(true));
+            Assert.assertSame(RedFuture.resolvedOf(false), RedFuture.resolvedOf(false));
+            Assert.assertNotSame(RedFuture.resolvedOf(true), RedFuture.resolvedOf(false));
+            RedFutureOf<Boolean> future = RedFuture.resolvedOf(true);
+            Assert.assertFalse(future instanceof OpenRedFutureOf);
+            Assert.assertFalse(future.cancel(true));
+            Assert.assertTrue(future.isDone());
+            Assert.assertTrue(future.waitAndGet());
+            Assert.assertTrue(future.getListenableFuture().get());
+        }
+
+        /**
+         * Test that callbacks with executor of a resolved future are queued to the executor
+         */
+        @Test
+        public void testResolvedFutureOfExecutorCallbacks() throws Throwable {
+            List<Runnable> queue = new LinkedList<>();
+            AtomicReference<Object> value = new AtomicReference<>();
+            Object object = new Object();
+            RedFuture.resolvedOf(object).addSuccessCallback(queue::add, value::set);
+            Assert.assertNull(value.get());
+            Assert.assertEquals(1, queue.size());
+            queue.get(0).run();
+            Assert.assertEquals(object, value.get());
+        }
+
         /**
          * Test the constructor of a failed {@link RedFuture} through {@link RedFuture#failed(Throwable)}
          */
@@ -3042,29 +3714,141 @@ public class TestRedFuture {
             future2.resolve();
             future3.resolve();
             futureOf1.resolve(new Object());
-            futureOf2.fail(new TestException());
-            settableFuture1.set(new Object());
+            futureOf2.fail(new TestException());
+            settableFuture1.set(new Object());
+            settableFuture2.set(new Object());
+            settableFuture3.set(new Object());
+            settableFuture4.set(new Object());
+            settableFuture5.set(new Object());
+            RedFuture union = hub.uniteCautiously();
+            union.addSuccessCallback(() -> reachedSuccessBlock.set(true));
+            union.addFailureCallback(throwable -> reachedFailureBlock.set(true));
+            union.addFinallyCallback(() -> reachedFinallyBlock.set(true));
+            Assert.assertTrue(reachedFinallyBlock.get());
+            Assert.assertFalse(reachedSuccessBlock.get());
+            Assert.assertTrue(reachedFailureBlock.get());
+        }
+
+        // Cautious - provide and adopt
+
+        /**
+         * Test the completion and callback invocation of {@link RedFutureHub}
+         * cautious union of provided and adopted futures that later were successfully resolved
+         */
+        @Test
+        public void testCautiousAdoptProvidePostResolveSuccess() throws Throwable {
+            AtomicBoolean reachedSuccessBlock = new AtomicBoolean(false);
+            AtomicBoolean reachedFailureBlock = new AtomicBoolean(false);
+            AtomicBoolean reachedFinallyBlock = new AtomicBoolean(false);
+            RedFutureHub hub = RedFuture.hub();
+            OpenRedFuture future1 = RedFuture.future();
+            OpenRedFuture future2 = RedFuture.future();
+            OpenRedFuture future3 = RedFuture.future();
+            OpenRedFuture future4 = hub.provideFuture();
+            OpenRedFutureOf<Object> futureOf1 = hub.provideFutureOf();
+            OpenRedFutureOf<Object> futureOf2 = hub.provideFutureOf();
+            SettableFuture<Object> settableFuture1 = SettableFuture.create();
+            SettableFuture<Object> settableFuture2 = SettableFuture.create();
+            SettableFuture<Object> settableFuture3 = SettableFuture.create();
+            SettableFuture<Object> settableFuture4 = SettableFuture.create();
+            SettableFuture<Object> settableFuture5 = SettableFuture.create();
+            List<RedFuture> redFutureCollection = new LinkedList<>();
+            redFutureCollection.add(future2);
+            redFutureCollection.add(futureOf1);
+            List<ListenableFuture> listenableFutureCollection = new LinkedList<>();
+            listenableFutureCollection.add(settableFuture1);
+            listenableFutureCollection.add(settableFuture2);
+            hub.adoptFuture(future1);
+            hub.adoptFutures(redFutureCollection);
+            hub.adoptFutures(future3, futureOf2);
+            hub.adoptListenableFuture(settableFuture3);
+            hub.adoptListenableFutures(listenableFutureCollection);
+            hub.adoptListenableFutures(settableFuture4, settableFuture5);
+            RedFuture union = hub.uniteCautiously();
+            union.addSuccessCallback(() -> reachedSuccessBlock.set(true));
+            union.addFailureCallback(throwable -> reachedFailureBlock.set(true));
+            union.addFinallyCallback(() -> reachedFinallyBlock.set(true));
+            future1.resolve();
+            future2.resolve();
+            future3.resolve();
+            future4.resolve();
+            futureOf1.resolve(new Object());
+            futureOf2.resolve(new Object());
+            settableFuture1.set(new Object());
+            settableFuture2.set(new Object());
+            settableFuture3.set(new Object());
+            settableFuture4.set(new Object());
+            Assert.assertFalse(reachedFinallyBlock.get());
+            Assert.assertFalse(reachedSuccessBlock.get());
+            Assert.assertFalse(reachedFailureBlock.get());
+            settableFuture5.set(new Object());
+            Assert.assertTrue(reachedFinallyBlock.get());
+            Assert.assertTrue(reachedSuccessBlock.get());
+            Assert.assertFalse(reachedFailureBlock.get());
+        }
+
+        /**
+         * Test the completion and callback invocation of {@link RedFutureHub}
+         * cautious union of provided and adopted futures that later were failed
+         */
+        @Test
+        public void testCautiousAdoptProvidePostResolveFailure() throws Throwable {
+            AtomicBoolean reachedSuccessBlock = new AtomicBoolean(false);
+            AtomicBoolean reachedFailureBlock = new AtomicBoolean(false);
+            AtomicBoolean reachedFinallyBlock = new AtomicBoolean(false);
+            RedFutureHub hub = RedFuture.hub();
+            OpenRedFuture future1 = RedFuture.future();
+            OpenRedFuture future2 = RedFuture.future();
+            OpenRedFuture future3 = RedFuture.future();
+            OpenRedFuture future4 = hub.provideFuture();
+            OpenRedFutureOf<Object> futureOf1 = hub.provideFutureOf();
+            OpenRedFutureOf<Object> futureOf2 = hub.provideFutureOf();
+            SettableFuture<Object> settableFuture1 = SettableFuture.create();
+            SettableFuture<Object> settableFuture2 = SettableFuture.create();
+            SettableFuture<Object> settableFuture3 = SettableFuture.create();
+            SettableFuture<Object> settableFuture4 = SettableFuture.create();
+            SettableFuture<Object> settableFuture5 = SettableFuture.create();
+            List<RedFuture> redFutureCollection = new LinkedList<>();
+            redFutureCollection.add(future2);
+            redFutureCollection.add(futureOf1);
+            List<ListenableFuture> listenableFutureCollection = new LinkedList<>();
+            listenableFutureCollection.add(settableFuture1);
+            listenableFutureCollection.add(settableFuture2);
+            hub.adoptFuture(future1);
+            hub.adoptFutures(redFutureCollection);
+            hub.adoptFutures(future3, futureOf2);
+            hub.adoptListenableFuture(settableFuture3);
+            hub.adoptListenableFutures(listenableFutureCollection);
+            hub.adoptListenableFutures(settableFuture4, settableFuture5);
+            RedFuture union = hub.uniteCautiously();
+            union.addSuccessCallback(() -> reachedSuccessBlock.set(true));
+            union.addFailureCallback(throwable -> reachedFailureBlock.set(true));
+            union.addFinallyCallback(() -> reachedFinallyBlock.set(true));
+            future1.resolve();
+            future2.resolve();
+            future3.resolve();
+            future4.resolve();
+            futureOf1.resolve(new Object());
+            futureOf2.resolve(new Object());
+            settableFuture1.setException(new TestException());
             settableFuture2.set(new Object());
             settableFuture3.set(new Object());
             settableFuture4.set(new Object());
+            Assert.assertFalse(reachedFinallyBlock.get());
+            Assert.assertFalse(reachedSuccessBlock.get());
+            Assert.assertFalse(reachedFailureBlock.get());
             settableFuture5.set(new Object());
-            RedFuture union = hub.uniteCautiously();
-            union.addSuccessCallback(() -> reachedSuccessBlock.set(true));
-            union.addFailureCallback(throwable -> reachedFailureBlock.set(true));
-            union.addFinallyCallback(() -> reachedFinallyBlock.set(true));
             Assert.assertTrue(reachedFinallyBlock.get());
             Assert.assertFalse(reachedSuccessBlock.get());
             Assert.assertTrue(reachedFailureBlock.get());
         }
 
-        // Cautious - provide and adopt
-
         /**
          * Test the completion and callback invocation of {@link RedFutureHub}
-         * cautious union of provided and adopted futures that later were successfully resolved
+         * cautious union of provided and adopted futures that previously were successfully resolved
          */
         @Test
-        public void testCautiousAdoptProvidePostResolveSuccess() throws Throwable {
+        public void testCautiousAdoptProvidePreResolveSuccess() throws Throwable {
             AtomicBoolean reachedSuccessBlock = new AtomicBoolean(false);
             AtomicBoolean reachedFailureBlock = new AtomicBoolean(false);
             AtomicBoolean reachedFinallyBlock = new AtomicBoolean(false);
@@ -3092,10 +3876,6 @@ public class TestRedFuture {
             hub.adoptListenableFuture(settableFuture3);
             hub.adoptListenableFutures(listenableFutureCollection);
             hub.adoptListenableFutures(settableFuture4, settableFuture5);
-            RedFuture union = hub.uniteCautiously();
-            union.addSuccessCallback(() -> reachedSuccessBlock.set(true));
-            union.addFailureCallback(throwable -> reachedFailureBlock.set(true));
-            union.addFinallyCallback(() -> reachedFinallyBlock.set(true));
             future1.resolve();
             future2.resolve();
             future3.resolve();
@@ -3106,10 +3886,11 @@ public class TestRedFuture {
             settableFuture2.set(new Object());
             settableFuture3.set(new Object());
             settableFuture4.set(new Object());
-            Assert.assertFalse(reachedFinallyBlock.get());
-            Assert.assertFalse(reachedSuccessBlock.get());
-            Assert.assertFalse(reachedFailureBlock.get());
             settableFuture5.set(new Object());
+            RedFuture union = hub.uniteCautiously();
+            union.addSuccessCallback(() -> reachedSuccessBlock.set(true));
+            union.addFailureCallback(throwable -> reachedFailureBlock.set(true));
+            union.addFinallyCallback(() -> reachedFinallyBlock.set(true));
             Assert.assertTrue(reachedFinallyBlock.get());
             Assert.assertTrue(reachedSuccessBlock.get());
             Assert.assertFalse(reachedFailureBlock.get());
@@ -3117,10 +3898,10 @@ public class TestRedFuture {
 
         /**
          * Test the completion and callback invocation of {@link RedFutureHub}
-         * cautious union of provided and adopted futures that later were failed
+         * cautious union of provided and adopted futures that previously were failed
          */
         @Test
-        public void testCautiousAdoptProvidePostResolveFailure() throws Throwable {
+        public void testCautiousAdoptProvidePreResolveFailure() throws Throwable {
             AtomicBoolean reachedSuccessBlock = new AtomicBoolean(false);
             AtomicBoolean reachedFailureBlock = new AtomicBoolean(false);
             AtomicBoolean reachedFinallyBlock = new AtomicBoolean(false);
@@ -3148,192 +3929,768 @@ public class TestRedFuture {
             hub.adoptListenableFuture(settableFuture3);
             hub.adoptListenableFutures(listenableFutureCollection);
             hub.adoptListenableFutures(settableFuture4, settableFuture5);
-            RedFuture union = hub.uniteCautiously();
-            union.addSuccessCallback(() -> reachedSuccessBlock.set(true));
-            union.addFailureCallback(throwable -> reachedFailureBlock.set(true));
-            union.addFinallyCallback(() -> reachedFinallyBlock.set(true));
             future1.resolve();
             future2.resolve();
             future3.resolve();
             future4.resolve();
             futureOf1.resolve(new Object());
-            futureOf2.resolve(new Object());
-            settableFuture1.setException(new TestException());
+            futureOf2.fail(new TestException());
+            settableFuture1.set(new Object());
             settableFuture2.set(new Object());
             settableFuture3.set(new Object());
             settableFuture4.set(new Object());
-            Assert.assertFalse(reachedFinallyBlock.get());
-            Assert.assertFalse(reachedSuccessBlock.get());
-            Assert.assertFalse(reachedFailureBlock.get());
             settableFuture5.set(new Object());
+            RedFuture union = hub.uniteCautiously();
+            union.addSuccessCallback(() -> reachedSuccessBlock.set(true));
+            union.addFailureCallback(throwable -> reachedFailureBlock.set(true));
+            union.addFinallyCallback(() -> reachedFinallyBlock.set(true));
             Assert.assertTrue(reachedFinallyBlock.get());
             Assert.assertFalse(reachedSuccessBlock.get());
             Assert.assertTrue(reachedFailureBlock.get());
         }
 
+        // Empty hubs
+
+        /**
+         * Tests to validate completion and callback invocation of optimistic union
+         * of a {@link RedFutureHub} with no tracked futures
+         */
+        @Test
+        public void testOptimisticEmptyResolve() throws Throwable {
+            AtomicBoolean reachedSuccessBlock = new AtomicBoolean(false);
+            AtomicBoolean reachedFailureBlock = new AtomicBoolean(false);
+            AtomicBoolean reachedFinallyBlock = new AtomicBoolean(false);
+            RedFutureHub hub = RedFuture.hub();
+            RedFuture union = hub.uniteOptimistically();
+            union.addSuccessCallback(() -> reachedSuccessBlock.set(true));
+            union.addFailureCallback(throwable -> reachedFailureBlock.set(true));
+            union.addFinallyCallback(() -> reachedFinallyBlock.set(true));
+            Assert.assertTrue(reachedFinallyBlock.get());
+            Assert.assertTrue(reachedSuccessBlock.get());
+            Assert.assertFalse(reachedFailureBlock.get());
+        }
+
+        /**
+         * Tests to validate completion and callback invocation of pessimistic union
+         * of a {@link RedFutureHub} with no tracked futures
+         */
+        @Test
+        public void testPessimisticEmptyResolve() throws Throwable {
+            AtomicBoolean reachedSuccessBlock = new AtomicBoolean(false);
+            AtomicBoolean reachedFailureBlock = new AtomicBoolean(false);
+            AtomicBoolean reachedFinallyBlock = new AtomicBoolean(false);
+            RedFutureHub hub = RedFuture.hub();
+            RedFuture union = hub.unitePessimistically();
+            union.addSuccessCallback(() -> reachedSuccessBlock.set(true));
+            union.addFailureCallback(throwable -> reachedFailureBlock.set(true));
+            union.addFinallyCallback(() -> reachedFinallyBlock.set(true));
+            Assert.assertTrue(reachedFinallyBlock.get());
+            Assert.assertTrue(reachedSuccessBlock.get());
+            Assert.assertFalse(reachedFailureBlock.get());
+        }
+
+        /**
+         * Tests to validate completion and callback invocation of cautious union
+         * of a {@link RedFutureHub} with no tracked futures
+         */
+        @Test
+        public void testCautiousEmptyResolve() throws Throwable {
+            AtomicBoolean reachedSuccessBlock = new AtomicBoolean(false);
+            AtomicBoolean reachedFailureBlock = new AtomicBoolean(false);
+            AtomicBoolean reachedFinallyBlock = new AtomicBoolean(false);
+            RedFutureHub hub = RedFuture.hub();
+            RedFuture union = hub.uniteCautiously();
+            union.addSuccessCallback(() -> reachedSuccessBlock.set(true));
+            union.addFailureCallback(throwable -> reachedFailureBlock.set(true));
+            union.addFinallyCallback(() -> reachedFinallyBlock.set(true));
+            Assert.assertTrue(reachedFinallyBlock.get());
+            Assert.assertTrue(reachedSuccessBlock.get());
+            Assert.assertFalse(reachedFailureBlock.get());
+        }
+
+        /**
+         * Tests that a cautious union of a {@link RedFutureHub} completes only once all
+         * tracked futures are complete, with the cause of the first tracked future to fail
+         */
+        @Test
+        public void testCautiousFirstFailure() throws Throwable {
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            RedFutureHub hub = RedFuture.hub();
+            OpenRedFuture future1 = hub.provideFuture();
+            OpenRedFuture future2 = hub.provideFuture();
+            OpenRedFutureOf<Object> futureOf = hub.provideFutureOf();
+            RedFuture union = hub.uniteCautiously();
+            union.addFailureCallback(failure::set);
+            TestException first = new TestException();
+            future2.fail(first);
+            future1.fail(new TestException());
+            Assert.assertFalse(union.isDone());
+            futureOf.resolve(new Object());
+            Assert.assertTrue(union.isDone());
+            Assert.assertSame(first, failure.get());
+            AtomicReference<Throwable> lateFailure = new AtomicReference<>();
+            hub.uniteCautiously().addFailureCallback(lateFailure::set);
+            Assert.assertSame(first, lateFailure.get());
+        }
+
+        /**
+         * Tests that a union of a {@link RedFutureHub} only covers the futures tracked upon its creation,
+         * while a union created later covers the further futures as well
+         */
+        @Test
+        public void testUniteSnapshot() throws Throwable {
+            AtomicBoolean optimisticFailed = new AtomicBoolean(false);
+            AtomicBoolean cautiousFailed = new AtomicBoolean(false);
+            RedFutureHub hub = RedFuture.hub();
+            OpenRedFuture future1 = hub.provideFuture();
+            RedFuture optimistic = hub.uniteOptimistically();
+            RedFuture pessimistic = hub.unitePessimistically();
+            RedFuture cautious = hub.uniteCautiously();
+            optimistic.addFailureCallback(throwable -> optimisticFailed.set(true));
+            cautious.addFailureCallback(throwable -> cautiousFailed.set(true));
+            OpenRedFuture future2 = hub.provideFuture();
+            SettableFuture<Object> listenable = SettableFuture.create();
+            hub.adoptListenableFuture(listenable);
+            RedFuture later = hub.uniteOptimistically();
+            future2.fail(new TestException());
+            Assert.assertFalse(optimistic.isDone());
+            Assert.assertTrue(later.isDone());
+            future1.resolve();
+            Assert.assertTrue(optimistic.isDone());
+            Assert.assertFalse(optimisticFailed.get());
+            Assert.assertTrue(pessimistic.isDone());
+            Assert.assertTrue(cautious.isDone());
+            Assert.assertFalse(cautiousFailed.get());
+            Assert.assertFalse(listenable.isDone());
+
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            RedFutureHub failingHub = RedFuture.hub();
+            OpenRedFuture failing = failingHub.provideFuture();
+            OpenRedFuture pending = failingHub.provideFuture();
+            RedFuture failingCautious = failingHub.uniteCautiously();
+            RedFuture failingOptimistic = failingHub.uniteOptimistically();
+            failingCautious.addFailureCallback(failure::set);
+            failingHub.provideFuture();
+            TestException exception = new TestException();
+            failing.fail(exception);
+            Assert.assertTrue(failingOptimistic.isDone());
+            Assert.assertFalse(failingCautious.isDone());
+            pending.resolve();
+            Assert.assertSame(exception, failure.get());
+        }
+
+        // Cancellation
+
+        /**
+         * Tests that a failed optimistic union of a {@link RedFutureHub} with a cancel policy
+         * cancels the remaining tracked futures, while a union without a policy leaves them running
+         */
+        @Test
+        public void testOptimisticCancelPolicy() throws Throwable {
+            RedFutureHub hub = RedFuture.hub();
+            OpenRedFuture failing = hub.provideFuture();
+            OpenRedFuture remaining = hub.provideFuture();
+            SettableFuture<Object> remainingListenable = SettableFuture.create();
+            hub.adoptListenableFuture(remainingListenable);
+            RedFuture plainUnion = hub.uniteOptimistically();
+            RedFuture union = hub.uniteOptimistically(CancelPolicy.CANCEL);
+            failing.fail(new TestException());
+            Assert.assertTrue(plainUnion.isDone());
+            Assert.assertTrue(union.isDone());
+            Assert.assertTrue(remaining.isCancelled());
+            Assert.assertTrue(remainingListenable.isCancelled());
+            Assert.assertFalse(failing.isCancelled());
+
+            RedFutureHub plainHub = RedFuture.hub();
+            OpenRedFuture plainFailing = plainHub.provideFuture();
+            OpenRedFuture plainRemaining = plainHub.provideFuture();
+            plainHub.uniteOptimistically();
+            plainFailing.fail(new TestException());
+            Assert.assertFalse(plainRemaining.isDone());
+        }
+
+        /**
+         * Tests that the cancel policy of a union of a {@link RedFutureHub} only cancels the futures
+         * tracked upon its creation, leaving futures tracked later intact
+         */
+        @Test
+        public void testCancelPolicySnapshot() throws Throwable {
+            RedFutureHub hub = RedFuture.hub();
+            OpenRedFuture failing = hub.provideFuture();
+            OpenRedFuture covered = hub.provideFuture();
+            RedFuture union = hub.uniteOptimistically(CancelPolicy.CANCEL);
+            RedFuture quorum = hub.uniteQuorum(2, CancelPolicy.CANCEL);
+            OpenRedFuture later = hub.provideFuture();
+            failing.fail(new TestException());
+            Assert.assertTrue(union.isDone());
+            Assert.assertTrue(quorum.isDone());
+            Assert.assertTrue(covered.isCancelled());
+            Assert.assertFalse(later.isDone());
+        }
+
+        /**
+         * Tests that cancelling an optimistic union of a {@link RedFutureHub} with a cancel policy
+         * cancels the tracked futures
+         */
+        @Test
+        public void testOptimisticCancelPolicyOnUnionCancel() throws Throwable {
+            RedFutureHub hub = RedFuture.hub();
+            OpenRedFuture future1 = hub.provideFuture();
+            OpenRedFutureOf<Object> future2 = hub.provideFutureOf();
+            RedFuture union = hub.uniteOptimistically(CancelPolicy.INTERRUPT);
+            OpenRedFuture follower = RedFuture.future();
+            follower.propagateCancellation();
+            follower.follow(union);
+            follower.cancel(false);
+            Assert.assertTrue(union.isDone());
+            Assert.assertTrue(future1.isCancelled());
+            Assert.assertTrue(future2.isCancelled());
+        }
+
+        // Quorum
+
+        /**
+         * Tests that a quorum union of a {@link RedFutureHub} resolves as soon as the quorum is reached
+         */
+        @Test
+        public void testQuorumSuccess() throws Throwable {
+            RedFutureHub hub = RedFuture.hub();
+            OpenRedFuture future1 = hub.provideFuture();
+            OpenRedFutureOf<String> future2 = hub.provideFutureOf();
+            SettableFuture<Object> future3 = SettableFuture.create();
+            hub.adoptListenableFuture(future3);
+            RedFuture union = hub.uniteQuorum(2, CancelPolicy.CANCEL);
+            future1.fail(new TestException());
+            future3.set(new Object());
+            Assert.assertFalse(union.isDone());
+            future2.resolve("test");
+            Assert.assertTrue(union.isDone());
+            AtomicBoolean reachedSuccessBlock = new AtomicBoolean(false);
+            union.addSuccessCallback(() -> reachedSuccessBlock.set(true));
+            Assert.assertTrue(reachedSuccessBlock.get());
+        }
+
+        /**
+         * Tests that a quorum union of a {@link RedFutureHub} fails as soon as the quorum can not be reached
+         */
+        @Test
+        public void testQuorumFailure() throws Throwable {
+            RedFutureHub hub = RedFuture.hub();
+            OpenRedFuture future1 = hub.provideFuture();
+            OpenRedFuture future2 = hub.provideFuture();
+            OpenRedFuture future3 = hub.provideFuture();
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            hub.uniteQuorum(2, CancelPolicy.CANCEL).addFailureCallback(failure::set);
+            future1.fail(new TestException());
+            Assert.assertNull(failure.get());
+            TestException exception = new TestException();
+            future2.fail(exception);
+            Assert.assertSame(exception, failure.get());
+            Assert.assertTrue(future3.isCancelled());
+            AtomicReference<Throwable> unreachable = new AtomicReference<>();
+            hub.uniteQuorum(4).addFailureCallback(unreachable::set);
+            Assert.assertTrue(unreachable.get() instanceof IllegalStateException);
+        }
+
+        /**
+         * Tests that the first successful future of a {@link RedFutureHub} is resolved with the value
+         * of the first tracked future to resolve, and cancels the rest if requested
+         */
+        @Test
+        public void testFirstSuccessful() throws Throwable {
+            RedFutureHub hub = RedFuture.hub();
+            OpenRedFutureOf<String> future1 = hub.provideFutureOf();
+            OpenRedFutureOf<String> future2 = hub.provideFutureOf();
+            OpenRedFutureOf<String> future3 = hub.provideFutureOf();
+            RedFutureOf<String> first = hub.firstSuccessful(CancelPolicy.CANCEL);
+            future1.fail(new TestException());
+            Assert.assertFalse(first.isDone());
+            future2.resolve("second");
+            Assert.assertEquals("second", first.tryGet());
+            Assert.assertTrue(future3.isCancelled());
+            Assert.assertEquals("done", RedFuture.hub().adoptFuture(RedFuture.resolvedOf("done"))
+                    .<String>firstSuccessful().tryGet());
+        }
+
+        /**
+         * Tests that the first k successful future of a {@link RedFutureHub} is resolved with the values
+         * of the first k tracked futures to resolve, by order of resolution
+         */
+        @Test
+        public void testFirstK() throws Throwable {
+            RedFutureHub hub = RedFuture.hub();
+            OpenRedFutureOf<String> future1 = hub.provideFutureOf();
+            OpenRedFutureOf<String> future2 = hub.provideFutureOf();
+            OpenRedFutureOf<String> future3 = hub.provideFutureOf();
+            future3.resolve("third");
+            RedFutureOf<List<String>> firstK = hub.firstK(2);
+            Assert.assertFalse(firstK.isDone());
+            future1.resolve("first");
+            Assert.assertEquals(Arrays.asList("third", "first"), firstK.tryGet());
+            Assert.assertFalse(future2.isDone());
+        }
+
+        // Typed
+
+        /**
+         * Tests that a typed union of a {@link RedFutureHub} is resolved with the values of the tracked
+         * futures by order of tracking, regardless of the order of their resolution
+         */
+        @Test
+        public void testTypedUnite() throws Throwable {
+            RedFutureHub hub = RedFuture.hub();
+            OpenRedFutureOf<String> future1 = hub.provideFutureOf();
+            hub.adoptFuture(RedFuture.resolvedOf("second"));
+            SettableFuture<String> future3 = SettableFuture.create();
+            hub.adoptListenableFuture(future3);
+            RedFutureOf<List<String>> united = hub.<String>typed().uniteOf();
+            future3.set("third");
+            Assert.assertFalse(united.isDone());
+            future1.resolve("first");
+            Assert.assertEquals(Arrays.asList("first", "second", "third"), united.tryGet());
+            Assert.assertTrue(RedFuture.hub().typed().uniteOf().tryGet().isEmpty());
+            OpenRedFutureOf<String> failing = hub.provideFutureOf();
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            hub.<String>typed().uniteOf().addFailureCallback(failure::set);
+            TestException exception = new TestException();
+            failing.fail(exception);
+            Assert.assertSame(exception, failure.get());
+        }
+
+        /**
+         * Tests that a typed reduction of a {@link RedFutureHub} folds the values of the tracked futures
+         * by order of their resolution, and fails once the accumulator throws
+         */
+        @Test
+        public void testTypedReduce() throws Throwable {
+            RedFutureHub hub = RedFuture.hub();
+            OpenRedFutureOf<Integer> future1 = hub.provideFutureOf();
+            OpenRedFutureOf<Integer> future2 = hub.provideFutureOf();
+            hub.adoptFuture(RedFuture.resolvedOf(3));
+            RedFutureOf<String> reduced = hub.<Integer>typed().reduce("", (folded, value) -> folded + value);
+            future2.resolve(2);
+            Assert.assertFalse(reduced.isDone());
+            future1.resolve(1);
+            Assert.assertEquals("321", reduced.tryGet());
+            Assert.assertEquals("identity", RedFuture.hub().typed().reduce("identity", (folded, value) -> folded)
+                    .tryGet());
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            IllegalStateException exception = new IllegalStateException();
+            hub.<Integer>typed().reduce(0, (folded, value) -> {
+                throw exception;
+            }).addFailureCallback(failure::set);
+            Assert.assertSame(exception, failure.get());
+        }
+
+        /**
+         * Tests that a typed reduction of a {@link RedFutureHub} folds all values resolved concurrently
+         */
+        @Test
+        public void testConcurrentReduce() throws Throwable {
+            int threads = 4;
+            int futuresPerThread = 10000;
+            RedFutureHub hub = RedFuture.hub();
+            List<List<OpenRedFutureOf<Integer>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                List<OpenRedFutureOf<Integer>> list = new ArrayList<>();
+                for (int j = 0; j < futuresPerThread; j++) {
+                    list.add(hub.provideFutureOf());
+                }
+                futures.add(list);
+            }
+            RedFutureOf<Long> sum = hub.<Integer>typed().reduce(0L, (folded, value) -> folded + value);
+            Thread[] workers = new Thread[threads];
+            for (int i = 0; i < threads; i++) {
+                List<OpenRedFutureOf<Integer>> list = futures.get(i);
+                workers[i] = new Thread(() -> {
+                    for (OpenRedFutureOf<Integer> future : list) {
+                        future.resolve(1);
+                    }
+                });
+                workers[i].start();
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            Assert.assertEquals(Long.valueOf(threads * futuresPerThread), sum.waitAndGet(10, TimeUnit.SECONDS));
+        }
+
+        // Completion order
+
+        /**
+         * Tests that each completion callbacks of a {@link RedFutureHub} are invoked once per tracked future,
+         * in the order of completion
+         */
+        @Test
+        public void testOnEachCompletion() throws Throwable {
+            RedFutureHub hub = RedFuture.hub();
+            OpenRedFutureOf<String> future1 = hub.provideFutureOf();
+            OpenRedFutureOf<String> future2 = hub.provideFutureOf();
+            hub.adoptFuture(RedFuture.resolvedOf("resolved"));
+            List<String> values = new LinkedList<>();
+            List<Throwable> failures = new LinkedList<>();
+            hub.<String>onEachCompletion(values::add, failures::add);
+            Assert.assertEquals(Arrays.asList("resolved"), values);
+            future2.resolve("second");
+            TestException exception = new TestException();
+            future1.fail(exception);
+            Assert.assertEquals(Arrays.asList("resolved", "second"), values);
+            Assert.assertEquals(Arrays.asList(exception), failures);
+        }
+
+        /**
+         * Tests that a completion queue of a {@link RedFutureHub} yields the tracked futures
+         * in the order of completion
+         */
+        @Test
+        public void testCompletionQueue() throws Throwable {
+            RedFutureHub hub = RedFuture.hub();
+            OpenRedFutureOf<String> future1 = hub.provideFutureOf();
+            OpenRedFutureOf<String> future2 = hub.provideFutureOf();
+            SettableFuture<String> future3 = SettableFuture.create();
+            hub.adoptListenableFuture(future3);
+            RedFutureHub.CompletionQueue<String> queue = hub.completionQueue();
+            Assert.assertEquals(3, queue.remaining());
+            Assert.assertNull(queue.poll());
+            Assert.assertNull(queue.take(1, TimeUnit.MILLISECONDS));
+            future3.set("third");
+            future1.fail(new TestException());
+            Assert.assertEquals("third", queue.poll().tryGet());
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            queue.take().addFailureCallback(failure::set);
+            Assert.assertTrue(failure.get() instanceof TestException);
+            new Thread(() -> {
+                try {
+                    Thread.sleep(VALIDATION_SLEEP_TIME);
+                } catch (InterruptedException ignored) {
+                }
+                future2.resolve("second");
+            }).start();
+            Assert.assertEquals("second", queue.take().tryGet());
+            Assert.assertEquals(0, queue.remaining());
+            try {
+                queue.take();
+                Assert.fail("take should fail once all tracked futures were consumed");
+            } catch (NoSuchElementException ignored) {
+            }
+        }
+
+        /**
+         * Tests that a completion queue of a {@link RedFutureHub} yields all futures completed concurrently
+         */
+        @Test
+        public void testConcurrentCompletionQueue() throws Throwable {
+            int threads = 4;
+            int futuresPerThread = 10000;
+            RedFutureHub hub = RedFuture.hub();
+            List<List<OpenRedFutureOf<Integer>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                List<OpenRedFutureOf<Integer>> list = new ArrayList<>();
+                for (int j = 0; j < futuresPerThread; j++) {
+                    list.add(hub.provideFutureOf());
+                }
+                futures.add(list);
+            }
+            RedFutureHub.CompletionQueue<Integer> queue = hub.completionQueue();
+            for (int i = 0; i < threads; i++) {
+                List<OpenRedFutureOf<Integer>> list = futures.get(i);
+                new Thread(() -> {
+                    for (OpenRedFutureOf<Integer> future : list) {
+                        future.resolve(1);
+                    }
+                }).start();
+            }
+            long sum = 0;
+            while (queue.remaining() > 0) {
+                sum += queue.take().tryGet();
+            }
+            Assert.assertEquals(threads * futuresPerThread, sum);
+        }
+
+        // Bounded
+
+        /**
+         * Tests that a bounded {@link RedFutureHub} launches submitted tasks as permits are released,
+         * and that its unions cover tasks which are not yet launched
+         */
+        @Test
+        public void testBoundedHub() throws Throwable {
+            BoundedRedFutureHub hub = RedFutureHub.bounded(2);
+            List<OpenRedFuture> launched = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                hub.submit(() -> {
+                    OpenRedFuture future = RedFuture.future();
+                    launched.add(future);
+                    return future;
+                });
+            }
+            RedFuture union = hub.uniteOptimistically();
+            Assert.assertEquals(2, launched.size());
+            Assert.assertEquals(2, hub.inFlight());
+            launched.get(0).resolve();
+            Assert.assertEquals(3, launched.size());
+            launched.get(1).resolve();
+            launched.get(2).resolve();
+            Assert.assertEquals(5, launched.size());
+            Assert.assertFalse(union.isDone());
+            launched.get(3).resolve();
+            launched.get(4).resolve();
+            Assert.assertTrue(union.isDone());
+            Assert.assertEquals(0, hub.inFlight());
+        }
+
+        /**
+         * Tests that a bounded {@link RedFutureHub} fails tasks which throw, launches synchronously
+         * completing tasks without deepening the stack, and does not launch cancelled tasks
+         */
+        @Test
+        public void testBoundedHubTasks() throws Throwable {
+            BoundedRedFutureHub hub = RedFutureHub.bounded(1);
+            OpenRedFuture blocker = RedFuture.future();
+            hub.submit(() -> blocker);
+            AtomicInteger launched = new AtomicInteger();
+            for (int i = 0; i < 100000; i++) {
+                hub.submit(() -> {
+                    launched.incrementAndGet();
+                    return RedFuture.resolved();
+                });
+            }
+            IllegalStateException exception = new IllegalStateException();
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            hub.submit(() -> {
+                throw exception;
+            }).addFailureCallback(failure::set);
+            Assert.assertEquals(0, launched.get());
+            blocker.resolve();
+            Assert.assertEquals(100000, launched.get());
+            Assert.assertSame(exception, failure.get());
+            OpenRedFuture running = RedFuture.future();
+            hub.submit(() -> running);
+            AtomicBoolean cancelledLaunched = new AtomicBoolean();
+            hub.submit(() -> {
+                cancelledLaunched.set(true);
+                return RedFuture.resolved();
+            });
+            hub.uniteOptimistically(CancelPolicy.CANCEL).addFailureCallback(failure::set);
+            Assert.assertTrue(running.isCancelled());
+            Assert.assertFalse(cancelledLaunched.get());
+        }
+
         /**
-         * Test the completion and callback invocation of {@link RedFutureHub}
-         * cautious union of provided and adopted futures that previously were successfully resolved
+         * Tests that a launched task of a {@link BoundedRedFutureHub} holds its permit until the future
+         * it supplied completes, even if the future representing it was cancelled
          */
         @Test
-        public void testCautiousAdoptProvidePreResolveSuccess() throws Throwable {
-            AtomicBoolean reachedSuccessBlock = new AtomicBoolean(false);
-            AtomicBoolean reachedFailureBlock = new AtomicBoolean(false);
-            AtomicBoolean reachedFinallyBlock = new AtomicBoolean(false);
-            RedFutureHub hub = RedFuture.hub();
-            OpenRedFuture future1 = RedFuture.future();
-            OpenRedFuture future2 = RedFuture.future();
-            OpenRedFuture future3 = RedFuture.future();
-            OpenRedFuture future4 = hub.provideFuture();
-            OpenRedFutureOf<Object> futureOf1 = hub.provideFutureOf();
-            OpenRedFutureOf<Object> futureOf2 = hub.provideFutureOf();
-            SettableFuture<Object> settableFuture1 = SettableFuture.create();
-            SettableFuture<Object> settableFuture2 = SettableFuture.create();
-            SettableFuture<Object> settableFuture3 = SettableFuture.create();
-            SettableFuture<Object> settableFuture4 = SettableFuture.create();
-            SettableFuture<Object> settableFuture5 = SettableFuture.create();
-            List<RedFuture> redFutureCollection = new LinkedList<>();
-            redFutureCollection.add(future2);
-            redFutureCollection.add(futureOf1);
-            List<ListenableFuture> listenableFutureCollection = new LinkedList<>();
-            listenableFutureCollection.add(settableFuture1);
-            listenableFutureCollection.add(settableFuture2);
-            hub.adoptFuture(future1);
-            hub.adoptFutures(redFutureCollection);
-            hub.adoptFutures(future3, futureOf2);
-            hub.adoptListenableFuture(settableFuture3);
-            hub.adoptListenableFutures(listenableFutureCollection);
-            hub.adoptListenableFutures(settableFuture4, settableFuture5);
-            future1.resolve();
-            future2.resolve();
-            future3.resolve();
-            future4.resolve();
-            futureOf1.resolve(new Object());
-            futureOf2.resolve(new Object());
-            settableFuture1.set(new Object());
-            settableFuture2.set(new Object());
-            settableFuture3.set(new Object());
-            settableFuture4.set(new Object());
-            settableFuture5.set(new Object());
-            RedFuture union = hub.uniteCautiously();
-            union.addSuccessCallback(() -> reachedSuccessBlock.set(true));
-            union.addFailureCallback(throwable -> reachedFailureBlock.set(true));
-            union.addFinallyCallback(() -> reachedFinallyBlock.set(true));
-            Assert.assertTrue(reachedFinallyBlock.get());
-            Assert.assertTrue(reachedSuccessBlock.get());
-            Assert.assertFalse(reachedFailureBlock.get());
+        public void testBoundedHubCancelledTask() throws Throwable {
+            BoundedRedFutureHub hub = RedFutureHub.bounded(1);
+            OpenRedFuture running = RedFuture.future();
+            RedFuture representing = hub.submit(() -> new UncancellableRedFuture(running));
+            AtomicBoolean launched = new AtomicBoolean(false);
+            hub.submit(() -> {
+                launched.set(true);
+                return RedFuture.resolved();
+            });
+            ((OpenRedFuture) representing).cancel(false);
+            Assert.assertEquals(1, hub.inFlight());
+            Assert.assertFalse(launched.get());
+            running.resolve();
+            Assert.assertTrue(launched.get());
+            Assert.assertEquals(0, hub.inFlight());
+            hub.submit(() -> {
+                throw new IllegalStateException();
+            });
+            hub.submit(() -> null);
+            Assert.assertEquals(0, hub.inFlight());
         }
 
+        // Concurrency
+
         /**
-         * Test the completion and callback invocation of {@link RedFutureHub}
-         * cautious union of provided and adopted futures that previously were failed
+         * Tests that futures provided concurrently by multiple threads are all tracked
+         * by the union of a {@link RedFutureHub}
          */
         @Test
-        public void testCautiousAdoptProvidePreResolveFailure() throws Throwable {
-            AtomicBoolean reachedSuccessBlock = new AtomicBoolean(false);
-            AtomicBoolean reachedFailureBlock = new AtomicBoolean(false);
-            AtomicBoolean reachedFinallyBlock = new AtomicBoolean(false);
+        public void testConcurrentProvide() throws Throwable {
+            int threads = 4;
+            int futuresPerThread = 10000;
             RedFutureHub hub = RedFuture.hub();
-            OpenRedFuture future1 = RedFuture.future();
-            OpenRedFuture future2 = RedFuture.future();
-            OpenRedFuture future3 = RedFuture.future();
-            OpenRedFuture future4 = hub.provideFuture();
-            OpenRedFutureOf<Object> futureOf1 = hub.provideFutureOf();
-            OpenRedFutureOf<Object> futureOf2 = hub.provideFutureOf();
-            SettableFuture<Object> settableFuture1 = SettableFuture.create();
-            SettableFuture<Object> settableFuture2 = SettableFuture.create();
-            SettableFuture<Object> settableFuture3 = SettableFuture.create();
-            SettableFuture<Object> settableFuture4 = SettableFuture.create();
-            SettableFuture<Object> settableFuture5 = SettableFuture.create();
-            List<RedFuture> redFutureCollection = new LinkedList<>();
-            redFutureCollection.add(future2);
-            redFutureCollection.add(futureOf1);
-            List<ListenableFuture> listenableFutureCollection = new LinkedList<>();
-            listenableFutureCollection.add(settableFuture1);
-            listenableFutureCollection.add(settableFuture2);
-            hub.adoptFuture(future1);
-            hub.adoptFutures(redFutureCollection);
-            hub.adoptFutures(future3, futureOf2);
-            hub.adoptListenableFuture(settableFuture3);
-            hub.adoptListenableFutures(listenableFutureCollection);
-            hub.adoptListenableFutures(settableFuture4, settableFuture5);
-            future1.resolve();
-            future2.resolve();
-            future3.resolve();
-            future4.resolve();
-            futureOf1.resolve(new Object());
-            futureOf2.fail(new TestException());
-            settableFuture1.set(new Object());
-            settableFuture2.set(new Object());
-            settableFuture3.set(new Object());
-            settableFuture4.set(new Object());
-            settableFuture5.set(new Object());
-            RedFuture union = hub.uniteCautiously();
-            union.addSuccessCallback(() -> reachedSuccessBlock.set(true));
-            union.addFailureCallback(throwable -> reachedFailureBlock.set(true));
-            union.addFinallyCallback(() -> reachedFinallyBlock.set(true));
-            Assert.assertTrue(reachedFinallyBlock.get());
-            Assert.assertFalse(reachedSuccessBlock.get());
-            Assert.assertTrue(reachedFailureBlock.get());
+            OpenRedFuture guard = hub.provideFuture();
+            List<OpenRedFuture> provided = new CopyOnWriteArrayList<>();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> workers = new LinkedList<>();
+            for (int i = 0; i < threads; i++) {
+                Thread worker = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    List<OpenRedFuture> futures = new LinkedList<>();
+                    for (int j = 0; j < futuresPerThread; j++) {
+                        futures.add(hub.provideFuture());
+                    }
+                    provided.addAll(futures);
+                });
+                workers.add(worker);
+                worker.start();
+            }
+            start.countDown();
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            RedFuture union = hub.uniteOptimistically();
+            guard.resolve();
+            Assert.assertEquals(threads * futuresPerThread, provided.size());
+            for (int i = 0; i < provided.size() - 1; i++) {
+                provided.get(i).resolve();
+            }
+            Assert.assertFalse(union.isDone());
+            provided.get(provided.size() - 1).resolve();
+            Assert.assertTrue(union.isDone());
         }
 
-        // Empty hubs
-
         /**
-         * Tests to validate completion and callback invocation of optimistic union
-         * of a {@link RedFutureHub} with no tracked futures
+         * Tests that the union of a {@link RedFutureHub} with a striped counter is not completed
+         * while futures are concurrently tracked and completed, until the last one completes
          */
         @Test
-        public void testOptimisticEmptyResolve() throws Throwable {
-            AtomicBoolean reachedSuccessBlock = new AtomicBoolean(false);
-            AtomicBoolean reachedFailureBlock = new AtomicBoolean(false);
-            AtomicBoolean reachedFinallyBlock = new AtomicBoolean(false);
+        public void testStripedConcurrentCompletion() throws Throwable {
+            int threads = 4;
+            int futuresPerThread = 20000;
             RedFutureHub hub = RedFuture.hub();
+            List<OpenRedFuture> held = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                held.add(hub.provideFuture());
+            }
             RedFuture union = hub.uniteOptimistically();
-            union.addSuccessCallback(() -> reachedSuccessBlock.set(true));
-            union.addFailureCallback(throwable -> reachedFailureBlock.set(true));
-            union.addFinallyCallback(() -> reachedFinallyBlock.set(true));
-            Assert.assertTrue(reachedFinallyBlock.get());
-            Assert.assertTrue(reachedSuccessBlock.get());
-            Assert.assertFalse(reachedFailureBlock.get());
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> workers = new LinkedList<>();
+            for (int i = 0; i < threads; i++) {
+                Thread worker = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int j = 0; j < futuresPerThread; j++) {
+                        OpenRedFuture future = hub.provideFuture();
+                        SettableFuture<Object> listenable = SettableFuture.create();
+                        hub.adoptListenableFuture(listenable);
+                        future.resolve();
+                        listenable.set(null);
+                    }
+                });
+                workers.add(worker);
+                worker.start();
+            }
+            start.countDown();
+            for (OpenRedFuture future : held.subList(1, held.size())) {
+                future.resolve();
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            RedFuture counted = hub.uniteOptimistically();
+            Assert.assertFalse(union.isDone());
+            Assert.assertFalse(counted.isDone());
+            held.get(0).resolve();
+            Assert.assertTrue(union.isDone());
+            Assert.assertTrue(counted.isDone());
         }
 
         /**
-         * Tests to validate completion and callback invocation of pessimistic union
-         * of a {@link RedFutureHub} with no tracked futures
+         * Tests that a union of a {@link RedFutureHub} created concurrently with the adoption of a pending
+         * future is not resolved once the adopted future is observed as tracked
          */
         @Test
-        public void testPessimisticEmptyResolve() throws Throwable {
-            AtomicBoolean reachedSuccessBlock = new AtomicBoolean(false);
-            AtomicBoolean reachedFailureBlock = new AtomicBoolean(false);
-            AtomicBoolean reachedFinallyBlock = new AtomicBoolean(false);
-            RedFutureHub hub = RedFuture.hub();
-            RedFuture union = hub.unitePessimistically();
-            union.addSuccessCallback(() -> reachedSuccessBlock.set(true));
-            union.addFailureCallback(throwable -> reachedFailureBlock.set(true));
-            union.addFinallyCallback(() -> reachedFinallyBlock.set(true));
-            Assert.assertTrue(reachedFinallyBlock.get());
-            Assert.assertTrue(reachedSuccessBlock.get());
-            Assert.assertFalse(reachedFailureBlock.get());
+        public void testConcurrentAdoptAndUnite() throws Throwable {
+            for (int i = 0; i < 2000; i++) {
+                RedFutureHub hub = RedFuture.hub();
+                OpenRedFuture pending = RedFuture.future();
+                Thread adopter = new Thread(() -> hub.adoptFuture(new UncancellableRedFuture(pending)));
+                adopter.start();
+                while (hub.uniteQuorum(1).isDone()) {
+                    Thread.yield();
+                }
+                RedFuture union = hub.uniteOptimistically();
+                Assert.assertFalse(union.isDone());
+                adopter.join();
+                pending.resolve();
+                Assert.assertTrue(union.isDone());
+            }
         }
 
+    }
+
+    /**
+     * Test propagation of cancellation through follow links
+     */
+    public static class TestFollowCancellation {
+
         /**
-         * Tests to validate completion and callback invocation of cautious union
-         * of a {@link RedFutureHub} with no tracked futures
+         * Tests that cancelling a following future which propagates cancellation cancels the followed
+         * futures up the chain, without growing the stack, and stops at a future which does not
          */
         @Test
-        public void testCautiousEmptyResolve() throws Throwable {
-            AtomicBoolean reachedSuccessBlock = new AtomicBoolean(false);
-            AtomicBoolean reachedFailureBlock = new AtomicBoolean(false);
-            AtomicBoolean reachedFinallyBlock = new AtomicBoolean(false);
-            RedFutureHub hub = RedFuture.hub();
-            RedFuture union = hub.uniteCautiously();
-            union.addSuccessCallback(() -> reachedSuccessBlock.set(true));
-            union.addFailureCallback(throwable -> reachedFailureBlock.set(true));
-            union.addFinallyCallback(() -> reachedFinallyBlock.set(true));
-            Assert.assertTrue(reachedFinallyBlock.get());
-            Assert.assertTrue(reachedSuccessBlock.get());
-            Assert.assertFalse(reachedFailureBlock.get());
+        public void testChainCancellation() throws Throwable {
+            OpenRedFutureOf<Object> root = RedFuture.futureOf();
+            OpenRedFutureOf<Object> head = RedFuture.futureOf();
+            head.follow(root);
+            OpenRedFutureOf<Object> tail = head;
+            for (int i = 0; i < 100000; i++) {
+                OpenRedFutureOf<Object> next = RedFuture.futureOf();
+                next.propagateCancellation();
+                next.follow(tail);
+                tail = next;
+            }
+            Assert.assertTrue(tail.cancel(false));
+            Assert.assertTrue(head.isCancelled());
+            Assert.assertTrue(tail.isCancelled());
+            Assert.assertFalse(root.isDone());
+        }
+
+        /**
+         * Tests that cancelling a plain follower, such as a timeout wrapper, leaves the shared
+         * followed future and its other followers intact
+         */
+        @Test
+        public void testSharedSourceCancellation() throws Throwable {
+            OpenRedFutureOf<String> source = RedFuture.futureOf();
+            RedFutureOf<String> wrapper = source.withTimeout(1, TimeUnit.MINUTES);
+            OpenRedFutureOf<String> follower = RedFuture.futureOf();
+            follower.follow(source);
+            Assert.assertTrue(wrapper.cancel(false));
+            Assert.assertFalse(source.isDone());
+            Assert.assertFalse(follower.isDone());
+            source.resolve("test");
+            Assert.assertEquals("test", follower.tryGet());
+        }
+
+        /**
+         * Tests that cancelling a future following a {@link ListenableFuture} cancels it
+         */
+        @Test
+        public void testListenableCancellation() throws Throwable {
+            SettableFuture<Object> settableFuture = SettableFuture.create();
+            OpenRedFutureOf<Object> future = RedFuture.futureOf();
+            future.propagateCancellation();
+            future.follow(settableFuture);
+            future.cancel(true);
+            Assert.assertTrue(settableFuture.isCancelled());
+        }
+
+        /**
+         * Tests that a completed follower no longer cancels the followed future
+         */
+        @Test
+        public void testCompletedFollower() throws Throwable {
+            OpenRedFuture followed = RedFuture.future();
+            OpenRedFuture follower = RedFuture.future();
+            follower.propagateCancellation();
+            follower.follow(followed);
+            follower.resolve();
+            Assert.assertFalse(follower.cancel(false));
+            Assert.assertFalse(followed.isDone());
         }
 
     }
@@ -3507,6 +4864,197 @@ public class TestRedFuture {
             Assert.assertFalse(reachedFailureBlock.get());
         }
 
+        /**
+         * Test that many pending {@link Future} conversions are all tracked by a single poller thread,
+         * and completed by the shared dispatcher threads
+         */
+        @Test
+        public void MultipleFutureConversion() throws Throwable {
+            int count = 200;
+            CountDownLatch lock = new CountDownLatch(count);
+            Set<String> callbackThreads = ConcurrentHashMap.newKeySet();
+            List<FutureTask<Integer>> tasks = new LinkedList<>();
+            for (int i = 0; i < count; i++) {
+                int value = i;
+                FutureTask<Integer> task = new FutureTask<>(() -> value);
+                tasks.add(task);
+                RedFuture.convert(task).addSuccessCallback(result -> {
+                    if (result == value) {
+                        callbackThreads.add(Thread.currentThread().getName());
+                        lock.countDown();
+                    }
+                });
+            }
+            for (FutureTask<Integer> task : tasks) {
+                SCHEDULER.execute(task);
+            }
+            Assert.assertTrue(lock.await(1, TimeUnit.SECONDS));
+            for (String callbackThread : callbackThreads) {
+                Assert.assertTrue(callbackThread.startsWith("red-future-dispatcher-"));
+            }
+        }
+
+        /**
+         * Test that a blocking callback of a converted {@link Future} does not delay
+         * the completion of another converted {@link Future}
+         */
+        @Test
+        public void BlockingFutureConversionCallback() throws Throwable {
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch blocked = new CountDownLatch(1);
+            FutureTask<String> blocking = new FutureTask<>(() -> "blocking");
+            FutureTask<String> other = new FutureTask<>(() -> "other");
+            RedFuture.convert(blocking).addSuccessCallback(() -> {
+                blocked.countDown();
+                Uninterruptibles.awaitUninterruptibly(release, 5, TimeUnit.SECONDS);
+            });
+            RedFutureOf<String> converted = RedFuture.convert(other);
+            try {
+                SCHEDULER.execute(blocking);
+                Assert.assertTrue(blocked.await(1, TimeUnit.SECONDS));
+                SCHEDULER.execute(other);
+                Assert.assertEquals("other", converted.waitAndGet(1, TimeUnit.SECONDS));
+            } finally {
+                release.countDown();
+            }
+        }
+
+        /**
+         * Test that a converted {@link Future} whose completion is rejected by the given executor
+         * fails with the cause of rejection rather than remaining pending
+         */
+        @Test
+        public void RejectedFutureConversion() throws Throwable {
+            RejectedExecutionException rejection = new RejectedExecutionException();
+            FutureTask<String> javaFuture = new FutureTask<>(() -> "test");
+            RedFutureOf<String> redFuture = RedFuture.convert(javaFuture, runnable -> {
+                throw rejection;
+            });
+            SCHEDULER.execute(javaFuture);
+            try {
+                redFuture.waitAndGet(1, TimeUnit.SECONDS);
+                Assert.fail("expected rejection");
+            } catch (ExecutionException e) {
+                Assert.assertEquals(rejection, e.getCause());
+            }
+        }
+
+        /**
+         * Test the conversion of a failing {@link CompletableFuture} through its completion hook,
+         * on the completing thread
+         */
+        @Test
+        public void CompletableFutureConversionFailure() throws Throwable {
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            AtomicBoolean reachedSuccessBlock = new AtomicBoolean(false);
+            CompletableFuture<String> javaFuture = new CompletableFuture<>();
+            RedFutureOf<String> redFuture = RedFuture.convert(javaFuture.thenApply(s -> s));
+            redFuture.addSuccessCallback(() -> reachedSuccessBlock.set(true));
+            redFuture.addFailureCallback(failure::set);
+            TestException exception = new TestException();
+            javaFuture.completeExceptionally(exception);
+            Assert.assertFalse(reachedSuccessBlock.get());
+            Assert.assertEquals(exception, failure.get());
+        }
+
+        // CompletionStage to RedFuture and back
+
+        /**
+         * Test the conversion of {@link CompletionStage} to {@link RedFuture}
+         * through {@link RedFuture#fromStage(CompletionStage)}
+         */
+        @Test
+        public void StageConversion() throws Throwable {
+            CompletableFuture<String> javaFuture = new CompletableFuture<>();
+            RedFutureOf<String> redFuture = RedFuture.fromStage(javaFuture);
+            AtomicReference<Thread> invokingThread = new AtomicReference<>();
+            redFuture.addSuccessCallback(s -> invokingThread.set(Thread.currentThread()));
+            Assert.assertFalse(redFuture.isDone());
+            javaFuture.complete("test");
+            Assert.assertEquals("test", redFuture.tryGet());
+            Assert.assertEquals(Thread.currentThread(), invokingThread.get());
+            Assert.assertSame(RedFuture.resolvedOf(true), RedFuture.fromStage(CompletableFuture.completedFuture(true)));
+        }
+
+        /**
+         * Test that a {@link CompletableFuture} view shares the completion state of its future
+         */
+        @Test
+        public void CompletableFutureView() throws Throwable {
+            OpenRedFutureOf<String> redFuture = RedFuture.futureOf();
+            CompletableFuture<String> view = redFuture.toCompletableFuture();
+            Assert.assertSame(redFuture, RedFuture.fromStage(view));
+            CompletableFuture<Integer> length = view.thenApply(String::length);
+            Assert.assertFalse(view.isDone());
+            redFuture.resolve("test");
+            Assert.assertEquals("test", view.getNow(null));
+            Assert.assertEquals(Integer.valueOf(4), length.getNow(null));
+            Assert.assertEquals("test", redFuture.toCompletableFuture().getNow(null));
+
+            OpenRedFutureOf<String> completedByView = RedFuture.futureOf();
+            Assert.assertTrue(completedByView.toCompletableFuture().complete("test"));
+            Assert.assertEquals("test", completedByView.tryGet());
+            Assert.assertFalse(completedByView.toCompletableFuture().complete("other"));
+
+            OpenRedFutureOf<String> failed = RedFuture.futureOf();
+            CompletableFuture<String> failedView = failed.toCompletableFuture();
+            TestException exception = new TestException();
+            failed.fail(exception);
+            Assert.assertTrue(failedView.isCompletedExceptionally());
+            try {
+                failedView.join();
+                Assert.fail("should have failed");
+            } catch (CompletionException e) {
+                Assert.assertEquals(exception, e.getCause());
+            }
+
+            OpenRedFutureOf<String> cancelled = RedFuture.futureOf();
+            CompletableFuture<String> cancelledView = cancelled.toCompletableFuture();
+            Assert.assertTrue(cancelledView.cancel(false));
+            Assert.assertTrue(cancelled.isCancelled());
+            Assert.assertTrue(cancelledView.isCancelled());
+
+            OpenRedFutureOfInt primitive = RedFuture.futureOfInt();
+            CompletableFuture<Integer> primitiveView = primitive.toCompletableFuture();
+            primitive.resolve(7);
+            Assert.assertEquals(Integer.valueOf(7), primitiveView.getNow(null));
+        }
+
+        /**
+         * Test that completing a {@link CompletableFuture} view from within a callback completes
+         * the view synchronously, even while the callbacks of its future are deferred
+         */
+        @Test(timeout = 5000)
+        public void CompletableFutureViewCompletedInCallback() throws Throwable {
+            OpenRedFuture trigger = RedFuture.future();
+            OpenRedFutureOf<String> redFuture = RedFuture.futureOf();
+            AtomicReference<String> joined = new AtomicReference<>();
+            trigger.addSuccessCallback(() -> {
+                CompletableFuture<String> view = redFuture.toCompletableFuture();
+                Assert.assertTrue(view.complete("test"));
+                joined.set(view.join());
+            });
+            trigger.resolve();
+            Assert.assertEquals("test", joined.get());
+            Assert.assertEquals("test", redFuture.tryGet());
+
+            OpenRedFuture failTrigger = RedFuture.future();
+            OpenRedFutureOf<String> failed = RedFuture.futureOf();
+            TestException exception = new TestException();
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            failTrigger.addSuccessCallback(() -> {
+                CompletableFuture<String> view = failed.toCompletableFuture();
+                Assert.assertTrue(view.completeExceptionally(exception));
+                try {
+                    view.join();
+                } catch (CompletionException e) {
+                    failure.set(e.getCause());
+                }
+            });
+            failTrigger.resolve();
+            Assert.assertSame(exception, failure.get());
+        }
+
         // ListenableFuture to RedFuture
 
         /**
@@ -3730,4 +5278,74 @@ public class TestRedFuture {
     });
 
     static class TestException extends Exception {}
+
+    /**
+     * A {@link RedFuture} of a task which can not be cancelled, completed by the given future
+     */
+    static class UncancellableRedFuture implements RedFuture {
+
+        private final RedFuture _future;
+
+        UncancellableRedFuture(RedFuture future) {
+            _future = future;
+        }
+
+        @Override
+        public RedFuture addSuccessCallback(EmptyCallback callback) {
+            _future.addSuccessCallback(callback);
+            return this;
+        }
+
+        @Override
+        public RedFuture addSuccessCallback(Executor executor, EmptyCallback callback) {
+            _future.addSuccessCallback(executor, callback);
+            return this;
+        }
+
+        @Override
+        public RedFuture addFailureCallback(Callback<Throwable> callback) {
+            _future.addFailureCallback(callback);
+            return this;
+        }
+
+        @Override
+        public RedFuture addFailureCallback(Executor executor, Callback<Throwable> callback) {
+            _future.addFailureCallback(executor, callback);
+            return this;
+        }
+
+        @Override
+        public RedFuture addFinallyCallback(EmptyCallback callback) {
+            _future.addFinallyCallback(callback);
+            return this;
+        }
+
+        @Override
+        public RedFuture addFinallyCallback(Executor executor, EmptyCallback callback) {
+            _future.addFinallyCallback(executor, callback);
+            return this;
+        }
+
+        @Override
+        public boolean isDone() {
+            return _future.isDone();
+        }
+
+        @Override
+        public void waitForCompletion() throws ExecutionException, InterruptedException {
+            _future.waitForCompletion();
+        }
+
+        @Override
+        public void waitForCompletion(long timeout, TimeUnit unit)
+                throws ExecutionException, InterruptedException, TimeoutException {
+            _future.waitForCompletion(timeout, unit);
+        }
+
+        @Override
+        public ListenableFuture<?> getListenableFuture() {
+            return _future.getListenableFuture();
+        }
+
+    }
 }
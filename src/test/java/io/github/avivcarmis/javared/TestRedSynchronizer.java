@@ -1,8 +1,16 @@
 package io.github.avivcarmis.javared;
 
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
+import io.github.avivcarmis.javared.executor.Deadline;
+import io.github.avivcarmis.javared.executor.DeadlineExceededException;
+import io.github.avivcarmis.javared.executor.ExecutionProfiler;
+import io.github.avivcarmis.javared.executor.ExecutionTrace;
+import io.github.avivcarmis.javared.executor.MetricsRegistry;
+import io.github.avivcarmis.javared.executor.NodeMetrics;
 import io.github.avivcarmis.javared.executor.PreconditionFailedException;
+import io.github.avivcarmis.javared.executor.RedPlannedSynchronizer;
 import io.github.avivcarmis.javared.executor.RedSynchronizer;
 import io.github.avivcarmis.javared.executor.RedVoidSynchronizer;
 import io.github.avivcarmis.javared.future.OpenRedFutureOf;
@@ -13,9 +21,24 @@ import io.github.avivcarmis.javared.test.RedTestRunner;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Runs the different combinations of synchronizer execution to test behavior of both
@@ -925,6 +948,370 @@ public class TestRedSynchronizer {
         runFunctionTest(redTestContext, TestSynchronizers.BangTestSynchronizer.class);
     }
 
+    /**
+     * Test synchronization of execution with {@link java.util.concurrent.CompletionStage} results
+     */
+    @Test
+    public void stageTest(RedTestContext redTestContext) throws InstantiationException, IllegalAccessException {
+        runFunctionTest(redTestContext, TestSynchronizers.StageTestSynchronizer.class);
+    }
+
+    /**
+     * Test synchronization of multiple executions of a single {@link RedPlannedSynchronizer},
+     * all replaying the plan compiled by the first execution
+     */
+    @Test
+    public void plannedTest(RedTestContext redTestContext) {
+        TestSynchronizers.PlannedTestSynchronizer synchronizer = new TestSynchronizers.PlannedTestSynchronizer();
+        for (int i = 0; i < 3; i++) {
+            RedTestContext.Fork fork = redTestContext.fork();
+            synchronizer.execute(redTestContext).addFailureCallback(redTestContext::fail).addSuccessCallback(result -> {
+                if (checkStringSuccess(result)) {
+                    fork.complete();
+                }
+                else {
+                    fork.fail("unexpected result");
+                }
+            });
+        }
+    }
+
+    /**
+     * Test that concurrent first executions of a single {@link RedPlannedSynchronizer} compile the plan once,
+     * and that all of them replay it, including a finished precondition which failed
+     */
+    @Test
+    public void plannedCompileTest(RedTestContext redTestContext) throws Exception {
+        AtomicInteger planned = new AtomicInteger();
+        TestSynchronizers.CompiledTestSynchronizer synchronizer =
+                new TestSynchronizers.CompiledTestSynchronizer(planned);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            CyclicBarrier barrier = new CyclicBarrier(4);
+            List<Future<RedFutureOf<String>>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> {
+                    barrier.await();
+                    return synchronizer.execute(redTestContext);
+                }));
+            }
+            for (Future<RedFutureOf<String>> result : results) {
+                redTestContext.assertions.assertTrue(checkStringSuccess(result.get().get()));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        redTestContext.assertions.assertEquals(1, planned.get());
+    }
+
+    /**
+     * Test that the default executor of a {@link RedPlannedSynchronizer} is resolved once, upon compilation,
+     * and invokes the planned functions of all executions
+     */
+    @Test
+    public void plannedExecutorTest(RedTestContext redTestContext) {
+        AtomicInteger resolved = new AtomicInteger();
+        AtomicInteger executed = new AtomicInteger();
+        TestSynchronizers.PlannedExecutorTestSynchronizer synchronizer =
+                new TestSynchronizers.PlannedExecutorTestSynchronizer(resolved, executed);
+        for (int i = 0; i < 3; i++) {
+            redTestContext.assertions.assertTrue(checkStringSuccess(synchronizer.execute(redTestContext).tryGet()));
+        }
+        redTestContext.assertions.assertEquals(1, resolved.get());
+        redTestContext.assertions.assertEquals(3, executed.get());
+    }
+
+    /**
+     * Test synchronization of execution with:
+     * -a function invoked by the default executor of the synchronizer
+     * -a function invoked by a given executor
+     * -a function invoked directly by the thread completing its precondition
+     */
+    @Test
+    public void executorTest(RedTestContext redTestContext) throws InstantiationException, IllegalAccessException {
+        runFunctionTest(redTestContext, TestSynchronizers.ExecutorTestSynchronizer.class);
+    }
+
+    /**
+     * Test tracing of an execution, in which the critical path consists of
+     * a delayed function result, and the function depending on it
+     */
+    @Test
+    public void tracedTest(RedTestContext redTestContext) {
+        AtomicReference<ExecutionTrace> traced = new AtomicReference<>();
+        ExecutionProfiler profiler = new ExecutionProfiler() {
+            @Override
+            public void record(ExecutionTrace trace) {
+                super.record(trace);
+                traced.set(trace);
+            }
+        };
+        RedTestContext.Fork fork = redTestContext.fork();
+        new TestSynchronizers.TracedTestSynchronizer(profiler).execute(redTestContext)
+                .addFailureCallback(redTestContext::fail).addSuccessCallback(result -> {
+            ExecutionTrace trace = traced.get();
+            redTestContext.assertions.assertNotNull(trace);
+            redTestContext.assertions.assertEquals(3, trace.nodes().size());
+            redTestContext.assertions.assertEquals(trace.nodes().get(2), trace.output());
+            redTestContext.assertions.assertEquals(Arrays.asList(trace.nodes().get(0), trace.nodes().get(2)),
+                    trace.criticalPath());
+            long delay = TimeUnit.MILLISECONDS.toNanos(FUTURE_DELAY);
+            redTestContext.assertions.assertTrue(trace.durationNanos() >= delay);
+            redTestContext.assertions.assertTrue(trace.nodes().get(2).readyNanos() >= delay);
+            List<ExecutionProfiler.NodeProfile> nodes = profiler.nodes();
+            redTestContext.assertions.assertEquals(3, nodes.size());
+            redTestContext.assertions.assertEquals(1L, nodes.get(0).criticalExecutions());
+            redTestContext.assertions.assertEquals(0L, nodes.get(1).criticalExecutions());
+            redTestContext.assertions.assertEquals(1L, nodes.get(2).criticalExecutions());
+            redTestContext.assertions.assertTrue(nodes.get(0).completionTimes().valueAtPercentile(50) >= delay);
+            redTestContext.assertions.assertEquals(1L, profiler.durations().count());
+            fork.complete();
+        });
+    }
+
+    /**
+     * Test tracing of a planned execution, in which the preconditions of each node are traced
+     * by their slots, including the input of the plan
+     */
+    @Test
+    public void plannedTracedTest(RedTestContext redTestContext) {
+        AtomicReference<ExecutionTrace> traced = new AtomicReference<>();
+        ExecutionProfiler profiler = new ExecutionProfiler() {
+            @Override
+            public void record(ExecutionTrace trace) {
+                super.record(trace);
+                traced.set(trace);
+            }
+        };
+        RedTestContext.Fork fork = redTestContext.fork();
+        new TestSynchronizers.PlannedTracedTestSynchronizer(profiler).execute(redTestContext)
+                .addFailureCallback(redTestContext::fail).addSuccessCallback(result -> {
+            ExecutionTrace trace = traced.get();
+            redTestContext.assertions.assertNotNull(trace);
+            redTestContext.assertions.assertEquals(3, trace.nodes().size());
+            redTestContext.assertions.assertEquals(trace.nodes().get(2), trace.output());
+            redTestContext.assertions.assertEquals(Collections.emptyList(), trace.nodes().get(0).preconditions());
+            redTestContext.assertions.assertEquals(Arrays.asList(trace.nodes().get(0), trace.nodes().get(1)),
+                    trace.nodes().get(2).preconditions());
+            redTestContext.assertions.assertEquals(Arrays.asList(trace.nodes().get(0), trace.nodes().get(2)),
+                    trace.criticalPath());
+            fork.complete();
+        });
+    }
+
+    /**
+     * Test that named nodes are profiled by their name, even when executions declare a varying number of nodes
+     */
+    @Test
+    public void profiledNamesTest(RedTestContext redTestContext) {
+        ExecutionProfiler profiler = new ExecutionProfiler();
+        TestSynchronizers.ProfiledTestSynchronizer synchronizer =
+                new TestSynchronizers.ProfiledTestSynchronizer(profiler);
+        redTestContext.assertions.assertTrue(checkStringSuccess(synchronizer.execute(true).tryGet()));
+        redTestContext.assertions.assertTrue(checkStringSuccess(synchronizer.execute(false).tryGet()));
+        List<ExecutionProfiler.NodeProfile> nodes = profiler.nodes();
+        redTestContext.assertions.assertEquals(2, nodes.size());
+        redTestContext.assertions.assertNull(nodes.get(0).name());
+        redTestContext.assertions.assertEquals(1L, nodes.get(0).executions());
+        redTestContext.assertions.assertEquals("output", nodes.get(1).name());
+        redTestContext.assertions.assertEquals(2L, nodes.get(1).executions());
+        redTestContext.assertions.assertEquals(2L, nodes.get(1).criticalExecutions());
+    }
+
+    /**
+     * Test recording of metrics of named executions which succeed, fail,
+     * or are not started due to a failed precondition
+     */
+    @Test
+    public void namedTest(RedTestContext redTestContext) {
+        MetricsRegistry registry = new MetricsRegistry();
+        RedTestContext.Fork fork = redTestContext.fork();
+        new TestSynchronizers.NamedTestSynchronizer(registry).execute(redTestContext)
+                .addFailureCallback(redTestContext::fail).addSuccessCallback(result -> {
+            NodeMetrics succeeding = registry.metrics("succeeding");
+            redTestContext.assertions.assertEquals(1L, succeeding.started());
+            redTestContext.assertions.assertEquals(1L, succeeding.succeeded());
+            redTestContext.assertions.assertEquals(0L, succeeding.failed());
+            redTestContext.assertions.assertEquals(1L, succeeding.latencies().count());
+            redTestContext.assertions.assertTrue(succeeding.latencies().valueAtPercentile(100) >=
+                    TimeUnit.MILLISECONDS.toNanos(FUTURE_DELAY));
+            NodeMetrics failing = registry.metrics("failing");
+            redTestContext.assertions.assertEquals(1L, failing.started());
+            redTestContext.assertions.assertEquals(1L, failing.failed());
+            NodeMetrics skipped = registry.metrics("skipped");
+            redTestContext.assertions.assertEquals(0L, skipped.started());
+            redTestContext.assertions.assertEquals(1L, skipped.preconditionFailed());
+            List<String> exported = new ArrayList<>();
+            registry.export(metrics -> exported.add(metrics.name()));
+            redTestContext.assertions.assertEquals(3, exported.size());
+            fork.complete();
+        });
+    }
+
+    /**
+     * Test execution within a deadline which passes while a delayed function result is pending,
+     * so that the function depending on it is not started, while a function started before
+     * the deadline reads the remaining time
+     */
+    @Test
+    public void deadlineTest(RedTestContext redTestContext) {
+        MetricsRegistry registry = new MetricsRegistry();
+        TestSynchronizers.DeadlineTestSynchronizer synchronizer = new TestSynchronizers.DeadlineTestSynchronizer(registry);
+        RedTestContext.Fork fork = redTestContext.fork();
+        synchronizer.execute(redTestContext, Deadline.after(FUTURE_DELAY / 2, TimeUnit.MILLISECONDS))
+                .addSuccessCallback(result -> fork.fail("should have failed"))
+                .addFailureCallback(throwable -> {
+                    redTestContext.assertions.assertTrue(throwable instanceof DeadlineExceededException);
+                    NodeMetrics late = registry.metrics("late");
+                    redTestContext.assertions.assertEquals(0L, late.started());
+                    redTestContext.assertions.assertEquals(1L, late.deadlineExceeded());
+                    long remaining = synchronizer._remaining.get();
+                    redTestContext.assertions.assertTrue(remaining > 0 && remaining <= FUTURE_DELAY / 2);
+                    fork.complete();
+                });
+        RedTestContext.Fork expiredFork = redTestContext.fork();
+        synchronizer.execute(redTestContext, Deadline.after(0, TimeUnit.MILLISECONDS))
+                .addSuccessCallback(result -> expiredFork.fail("should have failed"))
+                .addFailureCallback(throwable -> {
+                    redTestContext.assertions.assertTrue(throwable instanceof DeadlineExceededException);
+                    expiredFork.complete();
+                });
+    }
+
+    /**
+     * Test cancellation of the output of an execution, which cancels the future returned
+     * by a running function, and skips a function queued on an executor
+     */
+    @Test
+    public void cancelTest(RedTestContext redTestContext) {
+        FutureTask<String> pending = new FutureTask<>(TestRedSynchronizer::stringSuccess);
+        AtomicBoolean started = new AtomicBoolean(false);
+        RedFutureOf<String> future = new TestSynchronizers.CancelTestSynchronizer(pending, started)
+                .execute(redTestContext);
+        future.cancel(false);
+        redTestContext.assertions.assertTrue(pending.isCancelled());
+        RedTestContext.Fork fork = redTestContext.fork();
+        redTestContext.scheduleTask(FUTURE_DELAY * 2, () -> {
+            if (started.get()) {
+                fork.fail("cancelled execution should not start");
+            }
+            else {
+                fork.complete();
+            }
+        });
+    }
+
+    /**
+     * Test that cancelling the output of an execution does not record precondition failures of named
+     * nodes, which are cancelled before their preconditions
+     */
+    @Test
+    public void cancelMetricsTest(RedTestContext redTestContext) {
+        MetricsRegistry registry = new MetricsRegistry();
+        OpenRedFutureOf<String> pending = RedFuture.futureOf();
+        RedFutureOf<String> future = new TestSynchronizers.CancelMetricsTestSynchronizer(registry).execute(pending);
+        future.cancel(false);
+        NodeMetrics dependent = registry.metrics("dependent");
+        redTestContext.assertions.assertEquals(0L, dependent.started());
+        redTestContext.assertions.assertEquals(0L, dependent.preconditionFailed());
+    }
+
+    /**
+     * Test that a function of an unbounded execution, whose precondition is resolved by a function of a bounded
+     * execution, does not run bounded by the deadline of the resolving execution
+     */
+    @Test
+    public void unboundedDeadlineTest(RedTestContext redTestContext) {
+        OpenRedFutureOf<String> pending = RedFuture.futureOf();
+        TestSynchronizers.UnboundedDeadlineTestSynchronizer unbounded =
+                new TestSynchronizers.UnboundedDeadlineTestSynchronizer();
+        RedFutureOf<String> future = unbounded.execute(pending);
+        new TestSynchronizers.ResolvingTestSynchronizer().execute(pending, Deadline.after(1, TimeUnit.MINUTES));
+        redTestContext.assertions.assertTrue(future.isDone());
+        redTestContext.assertions.assertTrue(unbounded._deadline.get() == Deadline.none());
+    }
+
+    /**
+     * Test that the failure of a precondition racing the resolution of the last other precondition
+     * fails the execution exactly once, without running the function
+     */
+    @Test
+    public void joinRaceTest(RedTestContext redTestContext) throws Exception {
+        AtomicInteger performed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        TestSynchronizers.JoinTestSynchronizer synchronizer = new TestSynchronizers.JoinTestSynchronizer(performed);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 1000; i++) {
+                OpenRedFutureOf<String> succeeding = RedFuture.futureOf();
+                OpenRedFutureOf<String> failing = RedFuture.futureOf();
+                List<RedFutureOf<String>> preconditions = new ArrayList<>();
+                preconditions.add(succeeding);
+                preconditions.add(failing);
+                RedFutureOf<String> result = synchronizer.execute(preconditions);
+                result.addFailureCallback(throwable -> failed.incrementAndGet());
+                CyclicBarrier barrier = new CyclicBarrier(2);
+                Future<?> success = executor.submit(() -> {
+                    barrier.await();
+                    succeeding.resolve(stringSuccess());
+                    return null;
+                });
+                Future<?> failure = executor.submit(() -> {
+                    barrier.await();
+                    failing.fail(TestException.INSTANCE);
+                    return null;
+                });
+                success.get();
+                failure.get();
+                redTestContext.assertions.assertTrue(result.isDone());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        redTestContext.assertions.assertEquals(0, performed.get());
+        redTestContext.assertions.assertEquals(1000, failed.get());
+    }
+
+    /**
+     * Test that a result given more than once as a precondition runs the function once its future
+     * is resolved, and fails it once, recording a single precondition failure, once its future fails
+     */
+    @Test
+    public void joinDuplicateTest(RedTestContext redTestContext) {
+        MetricsRegistry registry = new MetricsRegistry();
+        TestSynchronizers.DuplicateJoinTestSynchronizer synchronizer =
+                new TestSynchronizers.DuplicateJoinTestSynchronizer(registry);
+        OpenRedFutureOf<String> resolved = RedFuture.futureOf();
+        RedFutureOf<String> result = synchronizer.execute(resolved);
+        redTestContext.assertions.assertFalse(result.isDone());
+        resolved.resolve("a");
+        redTestContext.assertions.assertEquals("aa", result.tryGet());
+        OpenRedFutureOf<String> failed = RedFuture.futureOf();
+        AtomicInteger failures = new AtomicInteger();
+        synchronizer.execute(failed).addFailureCallback(throwable -> failures.incrementAndGet());
+        failed.fail(TestException.INSTANCE);
+        redTestContext.assertions.assertEquals(1, failures.get());
+        NodeMetrics duplicate = registry.metrics("duplicate");
+        redTestContext.assertions.assertEquals(1L, duplicate.started());
+        redTestContext.assertions.assertEquals(1L, duplicate.preconditionFailed());
+    }
+
+    /**
+     * Test that a function whose executor rejects it fails the execution without running
+     */
+    @Test
+    public void joinRejectionTest(RedTestContext redTestContext) {
+        AtomicInteger performed = new AtomicInteger();
+        RejectedExecutionException rejection = new RejectedExecutionException();
+        RedFutureOf<String> result = new TestSynchronizers.RejectedJoinTestSynchronizer(performed, rejection)
+                .execute(redTestContext);
+        redTestContext.assertions.assertTrue(result.isDone());
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        result.addFailureCallback(failure::set);
+        redTestContext.assertions.assertEquals(rejection, failure.get());
+        redTestContext.assertions.assertEquals(0, performed.get());
+    }
+
     // Utils
 
     /**
@@ -1037,6 +1424,15 @@ public class TestRedSynchronizer {
         return future;
     }
 
+    /**
+     * @return a {@link CompletionStage} that will be completed in FUTURE_DELAY milliseconds with given value
+     */
+    private static <T> CompletionStage<T> stageOf(T value, RedTestContext redTestContext) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        redTestContext.scheduleTask(FUTURE_DELAY, () -> future.complete(value));
+        return future;
+    }
+
     /**
      * @return a {@link ListenableFuture} that will be resolved in FUTURE_DELAY milliseconds with given value
      */
@@ -3280,6 +3676,389 @@ public class TestRedSynchronizer {
 
         }
 
+        public static class ExecutorTestSynchronizer extends RedSynchronizer<RedTestContext, String> {
+
+            private static final Executor DEFAULT_EXECUTOR = namedExecutor("default-executor");
+
+            private static final Executor GIVEN_EXECUTOR = namedExecutor("given-executor");
+
+            @Override
+            protected Executor defaultExecutor() {
+                return DEFAULT_EXECUTOR;
+            }
+
+            @Override
+            protected Result<String> handle(RedTestContext redTestContext) throws Throwable {
+                Result<String> result1 = produceFutureOf(String.class).byExecuting(() ->
+                        futureOf(onThread("default-executor", stringSuccess()), redTestContext));
+                Result<String> result2 = ifResult(result1).succeed().produce(String.class)
+                        .byExecuting(GIVEN_EXECUTOR, f0 -> onThread("given-executor", f0));
+                return ifResult(result2).succeed().produce(String.class)
+                        .byExecuting(MoreExecutors.directExecutor(), f0 -> onThread("given-executor", f0));
+            }
+
+            private static Executor namedExecutor(String name) {
+                return Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, name);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+
+            private static String onThread(String name, String value) {
+                if (!Thread.currentThread().getName().equals(name)) {
+                    throw new IllegalStateException("expected to run on " + name);
+                }
+                return value;
+            }
+
+        }
+
+        public static class TracedTestSynchronizer extends RedSynchronizer<RedTestContext, String> {
+
+            private final ExecutionProfiler _profiler;
+
+            private TracedTestSynchronizer(ExecutionProfiler profiler) {
+                _profiler = profiler;
+            }
+
+            @Override
+            protected ExecutionProfiler profiler() {
+                return _profiler;
+            }
+
+            @Override
+            protected Result<String> handle(RedTestContext redTestContext) throws Throwable {
+                Result<String> result1 = produceFutureOf(String.class).byExecuting(() ->
+                        futureOf(stringSuccess(), redTestContext));
+                Result<String> result2 = produce(String.class).byExecuting(TestRedSynchronizer::stringSuccess);
+                return ifResults(result1, result2).succeed().produce(String.class).byExecuting((f0, f1) -> f0);
+            }
+
+        }
+
+        public static class PlannedTracedTestSynchronizer extends RedPlannedSynchronizer<RedTestContext, String> {
+
+            private final ExecutionProfiler _profiler;
+
+            private PlannedTracedTestSynchronizer(ExecutionProfiler profiler) {
+                _profiler = profiler;
+            }
+
+            @Override
+            protected ExecutionProfiler profiler() {
+                return _profiler;
+            }
+
+            @Override
+            protected Result<String> plan(Result<RedTestContext> input) {
+                Result<String> result1 = ifResult(input).succeed().produceFutureOf(String.class)
+                        .byExecuting(context -> futureOf(stringSuccess(), context));
+                Result<String> result2 = ifResult(input).finish().produce(String.class)
+                        .byExecuting(context -> stringSuccess());
+                return ifResults(result1, result2).succeed().produce(String.class).byExecuting((f0, f1) -> f0);
+            }
+
+        }
+
+        public static class ProfiledTestSynchronizer extends RedSynchronizer<Boolean, String> {
+
+            private final ExecutionProfiler _profiler;
+
+            private ProfiledTestSynchronizer(ExecutionProfiler profiler) {
+                _profiler = profiler;
+            }
+
+            @Override
+            protected ExecutionProfiler profiler() {
+                return _profiler;
+            }
+
+            @Override
+            protected Result<String> handle(Boolean extra) throws Throwable {
+                if (extra) {
+                    produce(String.class).byExecuting(TestRedSynchronizer::stringSuccess);
+                }
+                return produce(String.class).named("output").byExecuting(TestRedSynchronizer::stringSuccess);
+            }
+
+        }
+
+        public static class NamedTestSynchronizer extends RedSynchronizer<RedTestContext, String> {
+
+            private final MetricsRegistry _metricsRegistry;
+
+            private NamedTestSynchronizer(MetricsRegistry metricsRegistry) {
+                _metricsRegistry = metricsRegistry;
+            }
+
+            @Override
+            protected MetricsRegistry metricsRegistry() {
+                return _metricsRegistry;
+            }
+
+            @Override
+            protected Result<String> handle(RedTestContext redTestContext) throws Throwable {
+                Result<String> result1 = produceFutureOf(String.class).named("succeeding").byExecuting(() ->
+                        futureOf(stringSuccess(), redTestContext));
+                Result<String> result2 = produce(String.class).named("failing").byExecuting(() -> {
+                    throw TestException.INSTANCE;
+                });
+                Marker marker1 = ifResult(result2).succeed().named("skipped").execute((pendingMarker, f0) ->
+                        pendingMarker.complete());
+                return ifResult(result1).succeed().andMarkers(marker1).finish().produce(String.class)
+                        .byExecuting(f0 -> f0);
+            }
+
+        }
+
+        public static class DeadlineTestSynchronizer extends RedSynchronizer<RedTestContext, String> {
+
+            private final MetricsRegistry _metricsRegistry;
+
+            private final AtomicLong _remaining;
+
+            private DeadlineTestSynchronizer(MetricsRegistry metricsRegistry) {
+                _metricsRegistry = metricsRegistry;
+                _remaining = new AtomicLong(-1);
+            }
+
+            @Override
+            protected MetricsRegistry metricsRegistry() {
+                return _metricsRegistry;
+            }
+
+            @Override
+            protected Result<String> handle(RedTestContext redTestContext) throws Throwable {
+                Result<String> result1 = produceFutureOf(String.class).byExecuting(() -> {
+                    _remaining.set(deadline().remaining(TimeUnit.MILLISECONDS));
+                    return futureOf(stringSuccess(), redTestContext);
+                });
+                return ifResult(result1).succeed().produce(String.class).named("late").byExecuting(f0 -> f0);
+            }
+
+        }
+
+        public static class CancelTestSynchronizer extends RedSynchronizer<RedTestContext, String> {
+
+            private final Future<String> _pending;
+
+            private final AtomicBoolean _started;
+
+            private CancelTestSynchronizer(Future<String> pending, AtomicBoolean started) {
+                _pending = pending;
+                _started = started;
+            }
+
+            @Override
+            protected Result<String> handle(RedTestContext redTestContext) throws Throwable {
+                Executor delayedExecutor = runnable -> redTestContext.scheduleTask(FUTURE_DELAY, runnable);
+                Result<String> result1 = produceFutureOf(String.class).byExecuting(() -> _pending);
+                Result<String> result2 = produce(String.class).byExecuting(delayedExecutor, () -> {
+                    _started.set(true);
+                    return stringSuccess();
+                });
+                return ifResults(result1, result2).succeed().produce(String.class).byExecuting((f0, f1) -> f0);
+            }
+
+        }
+
+        public static class CancelMetricsTestSynchronizer extends RedSynchronizer<RedFutureOf<String>, String> {
+
+            private final MetricsRegistry _metricsRegistry;
+
+            private CancelMetricsTestSynchronizer(MetricsRegistry metricsRegistry) {
+                _metricsRegistry = metricsRegistry;
+            }
+
+            @Override
+            protected MetricsRegistry metricsRegistry() {
+                return _metricsRegistry;
+            }
+
+            @Override
+            protected Result<String> handle(RedFutureOf<String> pending) throws Throwable {
+                Result<String> result1 = produceFutureOf(String.class).byExecuting(() -> pending);
+                return ifResult(result1).succeed().produce(String.class).named("dependent").byExecuting(f0 -> f0);
+            }
+
+        }
+
+        public static class UnboundedDeadlineTestSynchronizer extends RedSynchronizer<RedFutureOf<String>, String> {
+
+            private final AtomicReference<Deadline> _deadline;
+
+            private UnboundedDeadlineTestSynchronizer() {
+                _deadline = new AtomicReference<>();
+            }
+
+            @Override
+            protected Result<String> handle(RedFutureOf<String> pending) throws Throwable {
+                Result<String> result1 = produceFutureOf(String.class).byExecuting(() -> pending);
+                return ifResult(result1).succeed().produce(String.class).byExecuting(f0 -> {
+                    _deadline.set(deadline());
+                    return f0;
+                });
+            }
+
+        }
+
+        public static class ResolvingTestSynchronizer extends RedSynchronizer<OpenRedFutureOf<String>, String> {
+
+            @Override
+            protected Result<String> handle(OpenRedFutureOf<String> target) throws Throwable {
+                return produce(String.class).byExecuting(() -> {
+                    target.resolve(stringSuccess());
+                    return stringSuccess();
+                });
+            }
+
+        }
+
+        public static class JoinTestSynchronizer extends RedSynchronizer<List<RedFutureOf<String>>, String> {
+
+            private final AtomicInteger _performed;
+
+            private JoinTestSynchronizer(AtomicInteger performed) {
+                _performed = performed;
+            }
+
+            @Override
+            protected Result<String> handle(List<RedFutureOf<String>> preconditions) throws Throwable {
+                Result<String> result1 = produceFutureOf(String.class).byExecuting(() -> preconditions.get(0));
+                Result<String> result2 = produceFutureOf(String.class).byExecuting(() -> preconditions.get(1));
+                return ifResults(result1, result2).succeed().produce(String.class).byExecuting((f0, f1) -> {
+                    _performed.incrementAndGet();
+                    return f0 + f1;
+                });
+            }
+
+        }
+
+        public static class DuplicateJoinTestSynchronizer extends RedSynchronizer<RedFutureOf<String>, String> {
+
+            private final MetricsRegistry _metricsRegistry;
+
+            private DuplicateJoinTestSynchronizer(MetricsRegistry metricsRegistry) {
+                _metricsRegistry = metricsRegistry;
+            }
+
+            @Override
+            protected MetricsRegistry metricsRegistry() {
+                return _metricsRegistry;
+            }
+
+            @Override
+            protected Result<String> handle(RedFutureOf<String> precondition) throws Throwable {
+                Result<String> result1 = produceFutureOf(String.class).byExecuting(() -> precondition);
+                return ifResults(result1, result1).succeed().produce(String.class).named("duplicate")
+                        .byExecuting((f0, f1) -> f0 + f1);
+            }
+
+        }
+
+        public static class RejectedJoinTestSynchronizer extends RedSynchronizer<RedTestContext, String> {
+
+            private final AtomicInteger _performed;
+
+            private final RejectedExecutionException _rejection;
+
+            private RejectedJoinTestSynchronizer(AtomicInteger performed, RejectedExecutionException rejection) {
+                _performed = performed;
+                _rejection = rejection;
+            }
+
+            @Override
+            protected Result<String> handle(RedTestContext redTestContext) throws Throwable {
+                Executor rejecting = runnable -> {
+                    throw _rejection;
+                };
+                Result<String> result1 = produce(String.class).byExecuting(TestRedSynchronizer::stringSuccess);
+                return ifResult(result1).succeed().produce(String.class).byExecuting(rejecting, f0 -> {
+                    _performed.incrementAndGet();
+                    return f0;
+                });
+            }
+
+        }
+
+        public static class PlannedTestSynchronizer extends RedPlannedSynchronizer<RedTestContext, String> {
+
+            @Override
+            protected Result<String> plan(Result<RedTestContext> input) {
+                Marker marker1 = ifResult(input).succeed().execute((pendingMarker, context) ->
+                        context.scheduleTask(FUTURE_DELAY, () -> pendingMarker.fail(TestException.INSTANCE)));
+                Result<String> result1 = ifResult(input).succeed().produceFutureOf(String.class)
+                        .byExecuting(context -> futureOf(stringSuccess(), context));
+                return ifResults(input, result1).succeed().andMarkers(marker1).fail().produce(String.class)
+                        .byExecuting((context, f1) -> f1);
+            }
+
+        }
+
+        public static class CompiledTestSynchronizer extends RedPlannedSynchronizer<RedTestContext, String> {
+
+            private final AtomicInteger _planned;
+
+            private CompiledTestSynchronizer(AtomicInteger planned) {
+                _planned = planned;
+            }
+
+            @Override
+            protected Result<String> plan(Result<RedTestContext> input) throws Throwable {
+                _planned.incrementAndGet();
+                Thread.sleep(FUTURE_DELAY);
+                Result<String> result1 = ifResult(input).succeed().produce(String.class).byExecuting(context -> {
+                    throw TestException.INSTANCE;
+                });
+                return ifResults(input, result1).finish().produce(String.class)
+                        .byExecuting((context, f1) -> f1 == null ? stringSuccess() : null);
+            }
+
+        }
+
+        public static class PlannedExecutorTestSynchronizer extends RedPlannedSynchronizer<RedTestContext, String> {
+
+            private final AtomicInteger _resolved;
+
+            private final AtomicInteger _executed;
+
+            private PlannedExecutorTestSynchronizer(AtomicInteger resolved, AtomicInteger executed) {
+                _resolved = resolved;
+                _executed = executed;
+            }
+
+            @Override
+            protected Executor defaultExecutor() {
+                _resolved.incrementAndGet();
+                return command -> {
+                    _executed.incrementAndGet();
+                    command.run();
+                };
+            }
+
+            @Override
+            protected Result<String> plan(Result<RedTestContext> input) {
+                return ifResult(input).succeed().produce(String.class).byExecuting(context -> stringSuccess());
+            }
+
+        }
+
+        public static class StageTestSynchronizer extends RedSynchronizer<RedTestContext, String> {
+
+            @Override
+            protected Result<String> handle(RedTestContext redTestContext) throws Throwable {
+                RedTestContext.TimingValidator timingValidator = redTestContext.timingValidator();
+                Result<String> result1 = produceStageOf(String.class).byExecuting(() ->
+                        stageOf(stringSuccess(), redTestContext));
+                return ifResult(result1).succeed().produceStageOf(String.class).byExecuting(f0 -> {
+                    timingValidator.validatePassed(FUTURE_DELAY);
+                    return stageOf(f0, redTestContext);
+                });
+            }
+
+        }
+
     }
 
 }
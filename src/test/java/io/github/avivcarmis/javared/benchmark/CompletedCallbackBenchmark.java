@@ -0,0 +1,122 @@
+package io.github.avivcarmis.javared.benchmark;
+
+import io.github.avivcarmis.javared.future.OpenRedFutureOf;
+import io.github.avivcarmis.javared.future.RedFuture;
+import io.github.avivcarmis.javared.future.RedFutureOf;
+import io.github.avivcarmis.javared.future.callbacks.Callback;
+import io.github.avivcarmis.javared.future.callbacks.EmptyCallback;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures registration of callbacks on already completed futures.
+ *
+ * Run {@link #main(String[])} to execute the benchmark with the GC profiler. The run fails
+ * if any of the no-executor benchmarks allocates memory. The same property is checked cheaply
+ * by the unit tests, through the allocation counter of the registering thread.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CompletedCallbackBenchmark {
+
+    // Constants
+
+    /**
+     * Benchmarks expected to allocate no memory at all
+     */
+    private static final String[] ALLOCATION_FREE = {
+            "addSuccessCallback", "addValueSuccessCallback", "addFailureCallback", "addFinallyCallback"
+    };
+
+    /**
+     * Maximal normalized allocation per invocation to be considered zero, to tolerate profiler noise
+     */
+    private static final double ALLOCATION_TOLERANCE_BYTES = 0.5;
+
+    // Fields
+
+    private RedFutureOf<Object> _resolved;
+
+    private RedFutureOf<Object> _failed;
+
+    private long _invocations;
+
+    private final EmptyCallback _emptyCallback = () -> _invocations++;
+
+    private final Callback<Object> _valueCallback = o -> _invocations++;
+
+    private final Callback<Throwable> _failureCallback = t -> _invocations++;
+
+    private final Executor _executor = Runnable::run;
+
+    // Setup
+
+    @Setup
+    public void setup() {
+        OpenRedFutureOf<Object> resolved = RedFuture.futureOf();
+        resolved.resolve(new Object());
+        _resolved = resolved;
+        OpenRedFutureOf<Object> failed = RedFuture.futureOf();
+        failed.fail(new RuntimeException());
+        _failed = failed;
+    }
+
+    // Benchmarks
+
+    @Benchmark
+    public RedFuture addSuccessCallback() {
+        return _resolved.addSuccessCallback(_emptyCallback);
+    }
+
+    @Benchmark
+    public RedFuture addValueSuccessCallback() {
+        return _resolved.addSuccessCallback(_valueCallback);
+    }
+
+    @Benchmark
+    public RedFuture addFailureCallback() {
+        return _failed.addFailureCallback(_failureCallback);
+    }
+
+    @Benchmark
+    public RedFuture addFinallyCallback() {
+        return _resolved.addFinallyCallback(_emptyCallback);
+    }
+
+    @Benchmark
+    public RedFuture addValueSuccessCallbackWithExecutor() {
+        return _resolved.addSuccessCallback(_executor, _valueCallback);
+    }
+
+    // Main
+
+    public static void main(String[] args) throws Exception {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(CompletedCallbackBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+        for (RunResult result : results) {
+            String benchmark = result.getParams().getBenchmark();
+            String method = benchmark.substring(benchmark.lastIndexOf('.') + 1);
+            Result<?> allocation = result.getSecondaryResults().get("gc.alloc.rate.norm");
+            for (String allocationFree : ALLOCATION_FREE) {
+                if (allocationFree.equals(method) && allocation.getScore() > ALLOCATION_TOLERANCE_BYTES) {
+                    throw new IllegalStateException(method + " allocated " + allocation.getScore() + " bytes per call");
+                }
+            }
+        }
+    }
+
+}
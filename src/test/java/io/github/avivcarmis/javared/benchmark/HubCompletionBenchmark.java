@@ -0,0 +1,112 @@
+package io.github.avivcarmis.javared.benchmark;
+
+import io.github.avivcarmis.javared.future.OpenRedFuture;
+import io.github.avivcarmis.javared.future.RedFuture;
+import io.github.avivcarmis.javared.future.RedFutureHub;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures completion of the tracked futures of a large {@link RedFutureHub} by multiple threads.
+ *
+ * On each iteration, every thread completes a batch of its own futures of a shared hub, whose union
+ * is kept pending by a guard future. Run {@link #main(String[])} to execute the benchmark with
+ * 1 to 64 threads, and print the completion throughput of each thread count. Since the hub counter
+ * is striped, the throughput is expected to scale close to linearly up to the number of processors.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 10)
+@Measurement(iterations = 30)
+public class HubCompletionBenchmark {
+
+    // Constants
+
+    /**
+     * Number of futures completed by each thread on each iteration
+     */
+    private static final int BATCH_SIZE = 1 << 14;
+
+    /**
+     * Thread counts to run the benchmark with
+     */
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+    // States
+
+    /**
+     * The hub shared by all threads, recreated on each iteration
+     */
+    @State(Scope.Benchmark)
+    public static class SharedHub {
+
+        private RedFutureHub _hub;
+
+        private OpenRedFuture _guard;
+
+        private RedFuture _union;
+
+        @Setup(Level.Iteration)
+        public void setup() {
+            _hub = RedFuture.hub();
+            _guard = _hub.provideFuture();
+            _union = _hub.uniteOptimistically();
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            _guard.resolve();
+            if (!_union.isDone()) {
+                throw new IllegalStateException("hub union was not completed by its last future");
+            }
+        }
+
+    }
+
+    /**
+     * The futures of the shared hub completed by a single thread, provided before each iteration
+     */
+    @State(Scope.Thread)
+    public static class Batch {
+
+        private final OpenRedFuture[] _futures = new OpenRedFuture[BATCH_SIZE];
+
+        @Setup(Level.Iteration)
+        public void setup(SharedHub shared) {
+            for (int i = 0; i < _futures.length; i++) {
+                _futures[i] = shared._hub.provideFuture();
+            }
+        }
+
+    }
+
+    // Benchmarks
+
+    @Benchmark
+    public void completeBatch(Batch batch) {
+        for (OpenRedFuture future : batch._futures) {
+            future.resolve();
+        }
+    }
+
+    // Main
+
+    public static void main(String[] args) throws Exception {
+        for (int threads : THREADS) {
+            for (RunResult result : new Runner(new OptionsBuilder()
+                    .include(HubCompletionBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build()).run()) {
+                double micros = result.getPrimaryResult().getScore();
+                double completionsPerSecond = threads * (double) BATCH_SIZE / micros * 1e6;
+                System.out.printf("%2d threads: %,.0f completions/s%n", threads, completionsPerSecond);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,211 @@
+package io.github.avivcarmis.javared.benchmark;
+
+import io.github.avivcarmis.javared.executor.ExecutionProfiler;
+import io.github.avivcarmis.javared.executor.RedPlannedSynchronizer;
+import io.github.avivcarmis.javared.executor.RedSynchronizer;
+import io.github.avivcarmis.javared.future.OpenRedFutureOf;
+import io.github.avivcarmis.javared.future.RedFuture;
+import io.github.avivcarmis.javared.future.RedFutureOf;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures scheduling of a synchronizer graph node over three preconditions, each either already
+ * resolved or resolved after the node is scheduled.
+ *
+ * The synchronizer benchmarks join the preconditions of the node with a countdown join node, and the hub
+ * benchmarks join the same preconditions by uniting them through a hub, as the synchronizer used to.
+ * The planned benchmarks schedule the same graph by replaying a compiled {@link RedPlannedSynchronizer} plan,
+ * and the traced benchmarks trace every execution of the synchronizer by an {@link ExecutionProfiler}.
+ * Run {@link #main(String[])} to execute the benchmark with the GC profiler.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PreconditionJoinBenchmark {
+
+    // Fields
+
+    private final JoinSynchronizer _synchronizer = new JoinSynchronizer();
+
+    private final PlannedJoinSynchronizer _planned = new PlannedJoinSynchronizer();
+
+    private final TracedJoinSynchronizer _traced = new TracedJoinSynchronizer();
+
+    private RedFutureOf<String> _resolved;
+
+    // Setup
+
+    @Setup
+    public void setup() {
+        _resolved = RedFuture.resolvedOf("value");
+    }
+
+    // Benchmarks
+
+    @Benchmark
+    public RedFutureOf<String> synchronizerResolved() {
+        return _synchronizer.execute(new Preconditions(_resolved, _resolved, _resolved));
+    }
+
+    @Benchmark
+    public RedFutureOf<String> synchronizerPending() {
+        OpenRedFutureOf<String> f0 = RedFuture.futureOf();
+        OpenRedFutureOf<String> f1 = RedFuture.futureOf();
+        OpenRedFutureOf<String> f2 = RedFuture.futureOf();
+        RedFutureOf<String> result = _synchronizer.execute(new Preconditions(f0, f1, f2));
+        f0.resolve("0");
+        f1.resolve("1");
+        f2.resolve("2");
+        return result;
+    }
+
+    @Benchmark
+    public RedFutureOf<String> tracedResolved() {
+        return _traced.execute(new Preconditions(_resolved, _resolved, _resolved));
+    }
+
+    @Benchmark
+    public RedFutureOf<String> tracedPending() {
+        OpenRedFutureOf<String> f0 = RedFuture.futureOf();
+        OpenRedFutureOf<String> f1 = RedFuture.futureOf();
+        OpenRedFutureOf<String> f2 = RedFuture.futureOf();
+        RedFutureOf<String> result = _traced.execute(new Preconditions(f0, f1, f2));
+        f0.resolve("0");
+        f1.resolve("1");
+        f2.resolve("2");
+        return result;
+    }
+
+    @Benchmark
+    public RedFutureOf<String> plannedResolved() {
+        return _planned.execute(new Preconditions(_resolved, _resolved, _resolved));
+    }
+
+    @Benchmark
+    public RedFutureOf<String> plannedPending() {
+        OpenRedFutureOf<String> f0 = RedFuture.futureOf();
+        OpenRedFutureOf<String> f1 = RedFuture.futureOf();
+        OpenRedFutureOf<String> f2 = RedFuture.futureOf();
+        RedFutureOf<String> result = _planned.execute(new Preconditions(f0, f1, f2));
+        f0.resolve("0");
+        f1.resolve("1");
+        f2.resolve("2");
+        return result;
+    }
+
+    @Benchmark
+    public RedFutureOf<String> hubResolved() {
+        return hubJoin(_resolved, _resolved, _resolved);
+    }
+
+    @Benchmark
+    public RedFutureOf<String> hubPending() {
+        OpenRedFutureOf<String> f0 = RedFuture.futureOf();
+        OpenRedFutureOf<String> f1 = RedFuture.futureOf();
+        OpenRedFutureOf<String> f2 = RedFuture.futureOf();
+        RedFutureOf<String> result = hubJoin(f0, f1, f2);
+        f0.resolve("0");
+        f1.resolve("1");
+        f2.resolve("2");
+        return result;
+    }
+
+    // Private
+
+    /**
+     * Joins the given preconditions through a hub, the way the synchronizer used to schedule its nodes
+     */
+    private static RedFutureOf<String> hubJoin(RedFutureOf<String> f0, RedFutureOf<String> f1,
+                                               RedFutureOf<String> f2) {
+        OpenRedFutureOf<String> result = RedFuture.futureOf();
+        RedFuture
+                .hub()
+                .adoptFutures(f0, f1, f2)
+                .uniteOptimistically()
+                .addCallbacks(() -> result.resolve(f0.tryGet() + f1.tryGet() + f2.tryGet()), result::fail);
+        return result;
+    }
+
+    // Main
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(PreconditionJoinBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    // Static
+
+    /**
+     * The preconditions of the joining node, held by fields rather than a generic array
+     */
+    private static final class Preconditions {
+
+        private final RedFutureOf<String> _f0;
+
+        private final RedFutureOf<String> _f1;
+
+        private final RedFutureOf<String> _f2;
+
+        private Preconditions(RedFutureOf<String> f0, RedFutureOf<String> f1, RedFutureOf<String> f2) {
+            _f0 = f0;
+            _f1 = f1;
+            _f2 = f2;
+        }
+
+    }
+
+    /**
+     * A synchronizer of a single node over three preconditions
+     */
+    private static class JoinSynchronizer extends RedSynchronizer<Preconditions, String> {
+
+        @Override
+        protected Result<String> handle(Preconditions preconditions) throws Throwable {
+            Result<String> r0 = produceFutureOf(String.class).byExecuting(() -> preconditions._f0);
+            Result<String> r1 = produceFutureOf(String.class).byExecuting(() -> preconditions._f1);
+            Result<String> r2 = produceFutureOf(String.class).byExecuting(() -> preconditions._f2);
+            return ifResults(r0, r1, r2).succeed().produce(String.class).byExecuting((f0, f1, f2) -> f0 + f1 + f2);
+        }
+
+    }
+
+    /**
+     * A {@link JoinSynchronizer} tracing all of its executions
+     */
+    private static class TracedJoinSynchronizer extends JoinSynchronizer {
+
+        private final ExecutionProfiler _profiler = new ExecutionProfiler();
+
+        @Override
+        protected ExecutionProfiler profiler() {
+            return _profiler;
+        }
+
+    }
+
+    /**
+     * The same graph as {@link JoinSynchronizer}, declared once as a plan
+     */
+    private static class PlannedJoinSynchronizer extends RedPlannedSynchronizer<Preconditions, String> {
+
+        @Override
+        protected Result<String> plan(Result<Preconditions> input) throws Throwable {
+            Result<String> r0 = ifResult(input).succeed().produceFutureOf(String.class).byExecuting(p -> p._f0);
+            Result<String> r1 = ifResult(input).succeed().produceFutureOf(String.class).byExecuting(p -> p._f1);
+            Result<String> r2 = ifResult(input).succeed().produceFutureOf(String.class).byExecuting(p -> p._f2);
+            return ifResults(r0, r1, r2).succeed().produce(String.class).byExecuting((f0, f1, f2) -> f0 + f1 + f2);
+        }
+
+    }
+
+}